@@ -2,6 +2,9 @@ CREATE DATABASE Mail_System;
 
 USE Mail_System;
 
+-- 기준 스키마입니다. 인덱스 등 이후 변경 사항은 src/main/resources/db/migration 의
+-- 마이그레이션 스크립트로 관리되며 애플리케이션 시작 시 자동으로 적용됩니다.
+
 -- USER Table
 CREATE TABLE USER
 (
@@ -0,0 +1,96 @@
+package com.metaverse.mail.common;
+
+import com.metaverse.mail.dao.impl.inbox.EmailLinkDaoImpl;
+import com.metaverse.mail.dao.impl.mail.EmailDaoImpl;
+import com.metaverse.mail.dao.interfaces.EmailDao;
+import com.metaverse.mail.dao.interfaces.EmailLinkDao;
+import com.metaverse.mail.model.Email;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PreparedStatement 캐시 벤치마크
+ *
+ * 호출마다 PreparedStatement를 새로 준비하는 방식(cached=false)과
+ * 연결별 캐시에서 재사용하는 방식(cached=true)의 DAO 호출 1건당 소요 시간을 비교합니다.
+ * 서버 측 PreparedStatement(db.useServerPrepStmts=true)를 사용할 때 차이가 가장 큽니다.
+ * 실제 데이터베이스가 필요하며, 샘플 데이터의 이메일 1번과 사용자 2번을 사용합니다.
+ *
+ * 실행: gradle jmh
+ *
+ * @author 유진
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatementCacheBenchmark {
+
+    /** PreparedStatement 캐시 사용 여부 */
+    @Param({"true", "false"})
+    private boolean cached;
+
+    private Connection connection;
+    private EmailDao emailDao;
+    private EmailLinkDao emailLinkDao;
+    private int emailId;
+    private int linkId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        StatementCache.setEnabled(cached);
+        connection = JDBCConnection.getConnection();
+        emailDao = new EmailDaoImpl(connection);
+        emailLinkDao = new EmailLinkDaoImpl(connection);
+
+        // 읽음 처리할 벤치마크용 이메일과 링크 생성
+        Email email = new Email();
+        email.setSenderId(1);
+        email.setTitle("벤치마크 제목");
+        email.setBody("벤치마크 내용입니다.");
+        email.setStatus('Y');
+        emailId = emailDao.createEmail(email);
+        emailLinkDao.createEmailLink(emailId, 2);
+        linkId = emailLinkDao.findByReceiverAndEmail(2, emailId).getLinkIdx();
+
+        // 이미 읽은 상태로 만들어 반복 호출 시 메일함 개수가 바뀌지 않게 함
+        emailLinkDao.markAsRead(linkId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        StatementCache.printStatistics();
+        StatementCache.clear();
+
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM EMAIL_LINK WHERE email_idx = ?")) {
+            ps.setInt(1, emailId);
+            ps.executeUpdate();
+        }
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM EMAIL WHERE email_idx = ?")) {
+            ps.setInt(1, emailId);
+            ps.executeUpdate();
+        }
+        connection.close();
+        JDBCConnection.close();
+    }
+
+    /**
+     * 이메일 헤더 조회 (SELECT 한 건)
+     */
+    @Benchmark
+    public Email getEmailById() {
+        return emailDao.getEmailById(1);
+    }
+
+    /**
+     * 읽음 처리 (UPDATE와 메일함 개수 갱신, 트랜잭션 포함)
+     */
+    @Benchmark
+    public boolean markAsRead() {
+        return emailLinkDao.markAsRead(linkId);
+    }
+}
@@ -0,0 +1,148 @@
+package com.metaverse.mail.dao.impl;
+
+import com.metaverse.mail.common.JDBCConnection;
+import com.metaverse.mail.common.Query;
+import com.metaverse.mail.model.EmailLink;
+import com.metaverse.mail.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 행 변환 벤치마크
+ *
+ * 행마다 컬럼 이름으로 읽는 기존 방식(label)과 결과마다 컬럼 위치를 한 번 계산하고
+ * 인덱스로 읽는 RowMapper 방식(index)의 결과 전체 변환 시간을 비교합니다.
+ * 쿼리는 준비 단계에서 한 번만 실행하고 매 호출마다 결과의 처음으로 돌아가 다시 변환하므로
+ * 네트워크 왕복 없이 변환 비용만 측정합니다.
+ * 실제 데이터베이스가 필요하며, 샘플 데이터의 사용자와 이메일 링크 전체를 사용합니다.
+ *
+ * 실행: gradle jmh
+ *
+ * @author 유진
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowMapperBenchmark {
+
+    private Connection connection;
+    private PreparedStatement userStatement;
+    private PreparedStatement linkStatement;
+    private ResultSet users;
+    private ResultSet links;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = JDBCConnection.getConnection();
+
+        // 처음으로 되돌릴 수 있는 결과로 한 번만 조회
+        userStatement = connection.prepareStatement(Query.FIND_ALL_USERS.sql(),
+                ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        users = userStatement.executeQuery();
+
+        linkStatement = connection.prepareStatement(Query.GET_LINKS_AFTER.sql(),
+                ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        linkStatement.setInt(1, 0);
+        linkStatement.setInt(2, Integer.MAX_VALUE);
+        links = linkStatement.executeQuery();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        users.close();
+        links.close();
+        userStatement.close();
+        linkStatement.close();
+        connection.close();
+        JDBCConnection.close();
+    }
+
+    /**
+     * 사용자 전체 변환 - 컬럼 이름으로 읽기
+     */
+    @Benchmark
+    public List<User> usersByLabel() throws SQLException {
+        users.beforeFirst();
+        List<User> result = new ArrayList<>();
+        while (users.next()) {
+            result.add(mapToUserByLabel(users));
+        }
+        return result;
+    }
+
+    /**
+     * 사용자 전체 변환 - RowMapper로 읽기
+     */
+    @Benchmark
+    public List<User> usersByIndex() throws SQLException {
+        users.beforeFirst();
+        return RowMappers.USER.mapAll(users);
+    }
+
+    /**
+     * 이메일 링크 전체 변환 - 컬럼 이름으로 읽기
+     */
+    @Benchmark
+    public List<EmailLink> linksByLabel() throws SQLException {
+        links.beforeFirst();
+        List<EmailLink> result = new ArrayList<>();
+        while (links.next()) {
+            result.add(mapToEmailLinkByLabel(links));
+        }
+        return result;
+    }
+
+    /**
+     * 이메일 링크 전체 변환 - RowMapper로 읽기
+     */
+    @Benchmark
+    public List<EmailLink> linksByIndex() throws SQLException {
+        links.beforeFirst();
+        return RowMappers.EMAIL_LINK.mapAll(links);
+    }
+
+    /**
+     * 기존 UserDaoImpl의 컬럼 이름 기반 변환
+     */
+    private static User mapToUserByLabel(ResultSet rs) throws SQLException {
+        User user = new User();
+        user.setIdx(rs.getInt("idx"));
+        user.setEmailId(rs.getString("email_id"));
+        user.setEmailPwd(rs.getString("email_pwd"));
+        user.setNickname(rs.getString("nickname"));
+        user.setStatus(rs.getString("status").charAt(0));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        user.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        user.setUpdatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null);
+        Timestamp deletedAt = rs.getTimestamp("deleted_at");
+        user.setDeletedAt(deletedAt != null ? deletedAt.toLocalDateTime() : null);
+        return user;
+    }
+
+    /**
+     * 기존 EmailLinkDaoImpl의 컬럼 이름 기반 변환
+     */
+    private static EmailLink mapToEmailLinkByLabel(ResultSet rs) throws SQLException {
+        EmailLink emailLink = new EmailLink();
+        emailLink.setLinkIdx(rs.getInt("link_idx"));
+        emailLink.setReceiverId(rs.getInt("receiver_id"));
+        emailLink.setEmailIdx(rs.getInt("email_idx"));
+
+        String isReaded = rs.getString("is_readed");
+        emailLink.setIsReaded(isReaded != null && !isReaded.isEmpty() ? isReaded.charAt(0) : 'N');
+
+        String isDeleted = rs.getString("is_deleted");
+        emailLink.setIsDeleted(isDeleted != null && !isDeleted.isEmpty() ? isDeleted.charAt(0) : 'N');
+        return emailLink;
+    }
+}
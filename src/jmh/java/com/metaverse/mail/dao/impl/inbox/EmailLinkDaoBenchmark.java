@@ -0,0 +1,100 @@
+package com.metaverse.mail.dao.impl.inbox;
+
+import com.metaverse.mail.common.JDBCConnection;
+import com.metaverse.mail.dao.impl.mail.EmailDaoImpl;
+import com.metaverse.mail.dao.interfaces.EmailLinkDao;
+import com.metaverse.mail.model.Email;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 링크 생성 벤치마크
+ *
+ * 수신자별 개별 INSERT(createEmailLink 반복)와 JDBC 배치 INSERT(createEmailLinks)의
+ * 발송 1건당 소요 시간을 비교합니다. 실제 데이터베이스가 필요하며,
+ * 샘플 데이터의 사용자(ID 2~7)를 수신자로 반복 사용합니다.
+ *
+ * 실행: gradle jmh
+ *
+ * @author 유진
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmailLinkDaoBenchmark {
+
+    /** 발송 1건당 수신자 수 */
+    @Param({"10", "100", "500"})
+    private int receiverCount;
+
+    private Connection connection;
+    private EmailLinkDao emailLinkDao;
+    private int emailId;
+    private int[] receiverIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = JDBCConnection.getConnection();
+        emailLinkDao = new EmailLinkDaoImpl(connection);
+
+        // 링크를 연결할 벤치마크용 이메일 생성
+        Email email = new Email();
+        email.setSenderId(1);
+        email.setTitle("벤치마크 제목");
+        email.setBody("벤치마크 내용입니다.");
+        email.setStatus('Y');
+        email.setCreatedAt(LocalDateTime.now());
+        emailId = new EmailDaoImpl(connection).createEmail(email);
+
+        // 샘플 사용자 ID 2~7을 반복하여 수신자 목록 구성
+        receiverIds = new int[receiverCount];
+        for (int i = 0; i < receiverCount; i++) {
+            receiverIds[i] = 2 + (i % 6);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteLinks() throws SQLException {
+        // 반복마다 생성된 링크 정리
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM EMAIL_LINK WHERE email_idx = ?")) {
+            ps.setInt(1, emailId);
+            ps.executeUpdate();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM EMAIL WHERE email_idx = ?")) {
+            ps.setInt(1, emailId);
+            ps.executeUpdate();
+        }
+        connection.close();
+        JDBCConnection.close();
+    }
+
+    /**
+     * 수신자마다 executeUpdate를 호출하는 기존 방식
+     */
+    @Benchmark
+    public boolean perReceiverInsert() {
+        boolean success = true;
+        for (int receiverId : receiverIds) {
+            success &= emailLinkDao.createEmailLink(emailId, receiverId);
+        }
+        return success;
+    }
+
+    /**
+     * 모든 수신자를 하나의 배치로 전송하는 방식
+     */
+    @Benchmark
+    public boolean batchedInsert() {
+        return emailLinkDao.createEmailLinks(emailId, receiverIds);
+    }
+}
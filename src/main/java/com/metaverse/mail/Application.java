@@ -1,7 +1,12 @@
 package com.metaverse.mail;
 
+import com.metaverse.mail.common.AppConfig;
 import com.metaverse.mail.common.ConsoleHelper;
 import com.metaverse.mail.common.JDBCConnection;
+import com.metaverse.mail.common.MigrationRunner;
+import com.metaverse.mail.dao.impl.inbox.TrashDaoImpl;
+import com.metaverse.mail.service.impl.inbox.TrashJanitor;
+import com.metaverse.mail.service.impl.inbox.TrashServiceImpl;
 import com.metaverse.mail.view.impl.MainMenuViewImpl;
 
 import java.util.Scanner;
@@ -22,6 +27,8 @@ public class Application {
      * 프로그램의 시작점
      *
      * 이 메서드는 다음 단계로 실행됩니다:
+     *   데이터베이스 스키마 마이그레이션 적용
+     *   만료된 휴지통 항목 정리 스케줄러 시작 (종료 시 정리 통계 출력)
      *   콘솔 입력을 위한 Scanner 객체 생성
      *   사용자 인터페이스 제공을 위한 ConsoleHelper 생성
      *   메인 메뉴 화면(MainMenuView) 생성 및 표시
@@ -33,8 +40,26 @@ public class Application {
      */
     public static void main(String[] args) {
         Scanner scanner = null;
+        TrashJanitor trashJanitor = null;
 
         try {
+            // 적용되지 않은 스키마 마이그레이션 적용
+            MigrationRunner.migrate();
+
+            // 만료된 휴지통 항목 정리 스케줄러 시작 (config.properties의 trash.janitor.enabled=false이면 사용하지 않음)
+            if (AppConfig.getBoolean("trash.janitor.enabled", true)) {
+                // 정리는 묶음마다 트랜잭션 연결을 사용하므로 풀 연결을 계속 점유하지 않는 DAO 사용
+                TrashJanitor janitor = new TrashJanitor(new TrashServiceImpl(TrashDaoImpl.transactional()));
+                janitor.start();
+                trashJanitor = janitor;
+
+                // 메뉴의 종료는 System.exit으로 끝나므로 종료 훅에서 정리 스케줄러를 멈추고 통계 출력
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    janitor.stop();
+                    janitor.printStatistics();
+                }, "trash-janitor-shutdown"));
+            }
+
             // 스캐너 생성
             scanner = new Scanner(System.in);
             ConsoleHelper consoleHelper = new ConsoleHelper(scanner);
@@ -49,6 +74,9 @@ public class Application {
 
         } finally {
             // 자원 정리 (예외 발생 시에만 실행됨, 정상 종료는 MainMenuViewImpl에서 처리)
+            if (trashJanitor != null) {
+                trashJanitor.stop();
+            }
             if (scanner != null) {
                 scanner.close();
             }
@@ -0,0 +1,112 @@
+package com.metaverse.mail.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * 애플리케이션 설정값을 제공하는 유틸리티 클래스
+ *
+ * config.properties 파일을 한 번만 읽어 데이터베이스 연결 정보 외의
+ * 기능별 설정값을 제공합니다. 설정 파일이나 항목이 없으면 기본값을 사용합니다.
+ *
+ * 설정 예시:
+ *   search.index.enabled=true
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public class AppConfig {
+    /** config.properties에서 읽은 설정값 */
+    private static final Properties properties = new Properties();
+
+    /**
+     * 정적 초기화 블록
+     *
+     * 클래스가 로드될 때 config.properties 파일을 읽습니다.
+     * 파일이 없으면 모든 설정에 기본값을 사용합니다.
+     */
+    static {
+        try (InputStream inputStream = AppConfig.class.getClassLoader().getResourceAsStream("config.properties")) {
+            if (inputStream != null) {
+                properties.load(inputStream);
+            }
+        } catch (IOException e) {
+            System.err.println("설정 파일 로딩 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 인스턴스 생성 방지
+     */
+    private AppConfig() {
+    }
+
+    /**
+     * 문자열 설정값 조회
+     *
+     * @param key 설정 키
+     * @param defaultValue 설정이 없을 때 사용할 값
+     * @return 설정값
+     */
+    public static String getString(String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value != null ? value.trim() : defaultValue;
+    }
+
+    /**
+     * true/false 설정값 조회
+     *
+     * @param key 설정 키
+     * @param defaultValue 설정이 없을 때 사용할 값
+     * @return 설정값
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = properties.getProperty(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
+    /**
+     * 정수 설정값 조회
+     *
+     * 숫자가 아닌 값이 설정되어 있으면 오류를 출력하고 기본값을 사용합니다.
+     *
+     * @param key 설정 키
+     * @param defaultValue 설정이 없을 때 사용할 값
+     * @return 설정값
+     */
+    public static int getInt(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("잘못된 설정값입니다: " + key + "=" + value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * long 정수 설정값 조회
+     *
+     * 숫자가 아닌 값이 설정되어 있으면 오류를 출력하고 기본값을 사용합니다.
+     *
+     * @param key 설정 키
+     * @param defaultValue 설정이 없을 때 사용할 값
+     * @return 설정값
+     */
+    public static long getLong(String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("잘못된 설정값입니다: " + key + "=" + value);
+            return defaultValue;
+        }
+    }
+}
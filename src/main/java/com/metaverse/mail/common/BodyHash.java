@@ -0,0 +1,44 @@
+package com.metaverse.mail.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 이메일 본문 내용 해시 유틸리티 클래스
+ *
+ * 같은 내용의 본문은 EMAIL_BODY에 한 번만 저장하므로, 저장 전에 contentHash()로
+ * 원문의 SHA-256 해시를 계산하여 기존 본문을 찾습니다.
+ *
+ * 본문은 전문 인덱스(ft_email_body)로 검색되도록 항상 원문으로 저장하며,
+ * 저장 공간은 EMAIL_BODY의 InnoDB 테이블 압축(V7 마이그레이션)으로 줄입니다.
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public final class BodyHash {
+
+    /**
+     * 인스턴스 생성 방지
+     */
+    private BodyHash() {
+    }
+
+    /**
+     * 본문 내용 해시 계산
+     *
+     * 원문의 UTF-8 바이트에 대한 SHA-256 값으로, 같은 본문이면 같은 값입니다.
+     * 마이그레이션의 UNHEX(SHA2(body, 256))와 같은 값입니다.
+     *
+     * @param body 이메일 본문
+     * @return 32바이트 해시
+     */
+    public static byte[] contentHash(String body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return digest.digest((body != null ? body : "").getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
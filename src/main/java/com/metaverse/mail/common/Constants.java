@@ -7,6 +7,12 @@ public class Constants {
     /** 우리 이메일의 도메인 */
     public static final String EMAIL_DOMAIN = "@example.com";
 
+    /** 받은 메일함 한 페이지에 표시할 이메일 수 */
+    public static final int INBOX_PAGE_SIZE = 10;
+
+    /** 보낸 메일함 한 페이지에 표시할 이메일 수 */
+    public static final int SENT_BOX_PAGE_SIZE = 10;
+
     /**
      * 사용자 아이디를 완전한 이메일 주소로 변환
      *
@@ -0,0 +1,311 @@
+package com.metaverse.mail.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 데이터베이스 스키마 마이그레이션을 적용하는 유틸리티 클래스
+ *
+ * 애플리케이션 시작 시 resources/db/migration 폴더의 번호가 붙은 SQL 스크립트를
+ * 순서대로 실행하고, 적용한 버전을 SCHEMA_VERSION 테이블에 기록합니다.
+ * 주요 기능:
+ *   아직 적용되지 않은 마이그레이션 스크립트 실행
+ *   적용된 스크립트의 버전 및 체크섬 기록
+ *   이미 적용된 스크립트가 변경되었는지 검사
+ *
+ * sql/schema.sql은 최초 테이블 구성(기준 스키마)이며,
+ * 이후의 인덱스 및 구조 변경은 모두 마이그레이션 스크립트로 추가합니다.
+ *
+ * 스크립트 작성 규칙:
+ *   파일 이름은 V{버전}__{설명}.sql 형식이며 MIGRATIONS 목록에 순서대로 등록합니다.
+ *   문장은 세미콜론(;)으로 구분하며, 문자열 안에는 세미콜론을 사용하지 않습니다.
+ *   이미 적용된 스크립트는 수정하지 않고 새 버전의 스크립트를 추가합니다.
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public class MigrationRunner {
+    /** 여러 프로세스가 동시에 마이그레이션하지 않도록 잡는 MySQL 이름 잠금 */
+    private static final String LOCK_NAME = "schema_migration";
+
+    /** 다른 프로세스의 마이그레이션이 끝나기를 기다리는 최대 시간 (초) */
+    private static final int LOCK_TIMEOUT_SECONDS = AppConfig.getInt("migration.lock.timeout.seconds", 300);
+
+    /** 마이그레이션 스크립트가 위치한 클래스패스 경로 */
+    private static final String MIGRATION_PATH = "db/migration/";
+
+    /** 적용할 마이그레이션 스크립트 목록 (버전 순서) */
+    private static final String[] MIGRATIONS = {
+            "V1__email_sender_index.sql",
+            "V2__email_link_receiver_indexes.sql",
+            "V3__trash_expiration_index.sql",
+            "V4__email_fulltext_ngram.sql",
+            "V5__email_snippet.sql",
+            "V6__email_body_table.sql",
+            "V7__email_body_innodb_compression.sql",
+            "V8__email_body_dedup.sql",
+            "V9__mailbox_counter.sql"
+    };
+
+    /**
+     * 인스턴스 생성 방지
+     */
+    private MigrationRunner() {
+    }
+
+    /**
+     * 아직 적용되지 않은 마이그레이션을 모두 적용합니다.
+     *
+     * 다음 단계로 실행됩니다:
+     *   마이그레이션 잠금 획득 (다른 프로세스가 적용 중이면 끝날 때까지 대기)
+     *   SCHEMA_VERSION 테이블이 없으면 생성
+     *   적용된 버전과 체크섬 조회
+     *   이미 적용된 스크립트의 체크섬 검사
+     *   적용되지 않은 스크립트를 실행하고 버전 기록
+     *   마이그레이션 잠금 해제
+     *
+     * 여러 서버가 동시에 시작해도 잠금을 얻은 한 곳만 스크립트를 적용하며,
+     * 나머지는 잠금을 얻은 뒤 적용 이력을 다시 읽으므로 같은 스크립트를 두 번 실행하지 않습니다.
+     * 오류가 발생하면 RuntimeException으로 감싸서 던집니다.
+     * MySQL의 DDL은 트랜잭션으로 묶이지 않으므로, 실패한 스크립트는 원인을 해결한 뒤 다시 실행해야 합니다.
+     */
+    public static void migrate() {
+        try (Connection connection = JDBCConnection.getConnection()) {
+            acquireLock(connection);
+            try {
+                applyPending(connection);
+            } finally {
+                // 풀로 반환된 연결이 잠금을 계속 잡고 있지 않도록 반드시 해제
+                releaseLock(connection);
+            }
+        } catch (SQLException | IOException | IllegalStateException e) {
+            throw new RuntimeException("데이터베이스 마이그레이션 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 적용되지 않은 스크립트 실행
+     *
+     * 마이그레이션 잠금을 잡은 상태에서 호출해야 합니다.
+     *
+     * @param connection 데이터베이스 연결 객체
+     * @throws SQLException 실행 중 오류 발생 시
+     * @throws IOException 스크립트를 읽는 중 오류 발생 시
+     */
+    private static void applyPending(Connection connection) throws SQLException, IOException {
+        createVersionTable(connection);
+        Map<Integer, String> applied = getAppliedVersions(connection);
+
+        for (String script : MIGRATIONS) {
+            int version = parseVersion(script);
+            String sql = readScript(script);
+            String checksum = checksum(sql);
+
+            if (applied.containsKey(version)) {
+                // 이미 적용된 스크립트가 수정되었는지 확인
+                if (!applied.get(version).equals(checksum)) {
+                    throw new IllegalStateException("이미 적용된 마이그레이션이 변경되었습니다: " + script);
+                }
+                continue;
+            }
+
+            applyScript(connection, sql);
+            recordVersion(connection, version, script, checksum);
+            System.out.println("마이그레이션 적용 완료: " + script);
+        }
+    }
+
+    /**
+     * 마이그레이션 잠금 획득
+     *
+     * MySQL GET_LOCK은 연결(세션) 단위 잠금이므로 같은 연결에서 해제해야 합니다.
+     *
+     * @param connection 데이터베이스 연결 객체
+     * @throws SQLException 잠금 조회 중 오류 발생 시
+     * @throws IllegalStateException 대기 시간 안에 잠금을 얻지 못한 경우
+     */
+    private static void acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.setInt(2, LOCK_TIMEOUT_SECONDS);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new IllegalStateException(
+                            "다른 프로세스의 마이그레이션이 " + LOCK_TIMEOUT_SECONDS + "초 안에 끝나지 않았습니다.");
+                }
+            }
+        }
+    }
+
+    /**
+     * 마이그레이션 잠금 해제
+     *
+     * @param connection 잠금을 획득한 데이터베이스 연결 객체
+     * @throws SQLException 잠금 해제 중 오류 발생 시
+     */
+    private static void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        }
+    }
+
+    /**
+     * 버전 기록 테이블 생성
+     *
+     * @param connection 데이터베이스 연결 객체
+     * @throws SQLException 테이블 생성 중 오류 발생 시
+     */
+    private static void createVersionTable(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS SCHEMA_VERSION ("
+                    + "version INTEGER PRIMARY KEY COMMENT '마이그레이션 버전', "
+                    + "script VARCHAR(200) NOT NULL COMMENT '스크립트 파일 이름', "
+                    + "checksum CHAR(64) NOT NULL COMMENT '스크립트 SHA-256 체크섬', "
+                    + "applied_at DATETIME DEFAULT NOW() NOT NULL COMMENT '적용일')");
+        }
+    }
+
+    /**
+     * 적용된 버전과 체크섬 조회
+     *
+     * @param connection 데이터베이스 연결 객체
+     * @return 버전을 키로, 체크섬을 값으로 하는 Map
+     * @throws SQLException 조회 중 오류 발생 시
+     */
+    private static Map<Integer, String> getAppliedVersions(Connection connection) throws SQLException {
+        Map<Integer, String> applied = new HashMap<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM SCHEMA_VERSION")) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getString("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 스크립트의 각 문장을 순서대로 실행
+     *
+     * @param connection 데이터베이스 연결 객체
+     * @param sql 스크립트 내용
+     * @throws SQLException 실행 중 오류 발생 시
+     */
+    private static void applyScript(Connection connection, String sql) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            for (String statement : splitStatements(sql)) {
+                stmt.execute(statement);
+            }
+        }
+    }
+
+    /**
+     * 적용한 버전 기록
+     *
+     * @param connection 데이터베이스 연결 객체
+     * @param version 버전
+     * @param script 스크립트 파일 이름
+     * @param checksum 스크립트 체크섬
+     * @throws SQLException 기록 중 오류 발생 시
+     */
+    private static void recordVersion(Connection connection, int version, String script, String checksum) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO SCHEMA_VERSION (version, script, checksum) VALUES (?, ?, ?)")) {
+            ps.setInt(1, version);
+            ps.setString(2, script);
+            ps.setString(3, checksum);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * 스크립트를 문장 단위로 분리
+     *
+     * '--'로 시작하는 주석 줄을 제거한 뒤 세미콜론을 기준으로 나눕니다.
+     *
+     * @param sql 스크립트 내용
+     * @return 실행할 SQL 문장 목록
+     */
+    static List<String> splitStatements(String sql) {
+        StringBuilder body = new StringBuilder();
+        for (String line : sql.split("\\R")) {
+            if (!line.trim().startsWith("--")) {
+                body.append(line).append('\n');
+            }
+        }
+
+        List<String> statements = new ArrayList<>();
+        for (String statement : body.toString().split(";")) {
+            if (!statement.trim().isEmpty()) {
+                statements.add(statement.trim());
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * 파일 이름에서 버전 번호 추출 (V{버전}__{설명}.sql)
+     *
+     * @param script 스크립트 파일 이름
+     * @return 버전 번호
+     */
+    static int parseVersion(String script) {
+        int separator = script.indexOf("__");
+        if (!script.startsWith("V") || separator < 2) {
+            throw new IllegalStateException("마이그레이션 파일 이름 형식이 올바르지 않습니다: " + script);
+        }
+        return Integer.parseInt(script.substring(1, separator));
+    }
+
+    /**
+     * 클래스패스에서 스크립트 읽기
+     *
+     * @param script 스크립트 파일 이름
+     * @return 스크립트 내용
+     * @throws IOException 파일을 찾지 못하거나 읽는 중 오류 발생 시
+     */
+    private static String readScript(String script) throws IOException {
+        try (InputStream inputStream = MigrationRunner.class.getClassLoader()
+                .getResourceAsStream(MIGRATION_PATH + script)) {
+            if (inputStream == null) {
+                throw new IOException("마이그레이션 파일을 찾을 수 없습니다: " + script);
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 스크립트 내용의 SHA-256 체크섬 계산
+     *
+     * 운영체제별 줄바꿈 차이로 체크섬이 달라지지 않도록 줄바꿈을 통일한 뒤 계산합니다.
+     *
+     * @param sql 스크립트 내용
+     * @return 16진수 체크섬 문자열
+     */
+    private static String checksum(String sql) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(sql.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.metaverse.mail.common;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * 이름 있는 매개변수(:name) 바인딩 도구
+ *
+ * queries.xml에서 :name으로 작성한 매개변수를 이름으로 설정합니다.
+ * 이름별 '?' 위치는 빌드 시 Query enum에 미리 계산되어 있으므로, 설정할 때 SQL을 다시 해석하지 않고
+ * 같은 이름이 여러 번 나오면 모든 위치에 같은 값을 설정합니다.
+ *
+ * 사용 예시:
+ * try (PreparedStatement ps = prepare(Query.SEARCH_RECEIVED_EMAILS_BY_KEYWORD)) {
+ *     ParameterBinder.of(ps, Query.SEARCH_RECEIVED_EMAILS_BY_KEYWORD)
+ *             .setString("phrase", quotedPhrase)
+ *             .setInt("receiverId", receiverId)
+ *             .setString("pattern", searchPattern);
+ *     ...
+ * }
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public final class ParameterBinder {
+    private final PreparedStatement statement;
+    private final Query query;
+
+    private ParameterBinder(PreparedStatement statement, Query query) {
+        this.statement = statement;
+        this.query = query;
+    }
+
+    /**
+     * PreparedStatement에 쿼리의 이름 있는 매개변수를 설정하는 도구 생성
+     *
+     * @param statement 쿼리로 준비한 PreparedStatement
+     * @param query     PreparedStatement를 준비한 쿼리
+     * @return 매개변수 바인딩 도구
+     */
+    public static ParameterBinder of(PreparedStatement statement, Query query) {
+        return new ParameterBinder(statement, query);
+    }
+
+    /**
+     * int 매개변수 설정
+     *
+     * @param name  매개변수 이름 (':' 제외)
+     * @param value 설정할 값
+     * @return 이 바인딩 도구
+     * @throws SQLException 설정 중 오류 발생 시
+     * @throws IllegalArgumentException 쿼리에 없는 매개변수인 경우
+     */
+    public ParameterBinder setInt(String name, int value) throws SQLException {
+        for (int index : query.parameterIndexes(name)) {
+            statement.setInt(index, value);
+        }
+        return this;
+    }
+
+    /**
+     * 문자열 매개변수 설정
+     *
+     * @param name  매개변수 이름 (':' 제외)
+     * @param value 설정할 값
+     * @return 이 바인딩 도구
+     * @throws SQLException 설정 중 오류 발생 시
+     * @throws IllegalArgumentException 쿼리에 없는 매개변수인 경우
+     */
+    public ParameterBinder setString(String name, String value) throws SQLException {
+        for (int index : query.parameterIndexes(name)) {
+            statement.setString(index, value);
+        }
+        return this;
+    }
+
+    /**
+     * 일시 매개변수 설정
+     *
+     * @param name  매개변수 이름 (':' 제외)
+     * @param value 설정할 값
+     * @return 이 바인딩 도구
+     * @throws SQLException 설정 중 오류 발생 시
+     * @throws IllegalArgumentException 쿼리에 없는 매개변수인 경우
+     */
+    public ParameterBinder setTimestamp(String name, Timestamp value) throws SQLException {
+        for (int index : query.parameterIndexes(name)) {
+            statement.setTimestamp(index, value);
+        }
+        return this;
+    }
+
+    /**
+     * 바이트 배열 매개변수 설정
+     *
+     * @param name  매개변수 이름 (':' 제외)
+     * @param value 설정할 값
+     * @return 이 바인딩 도구
+     * @throws SQLException 설정 중 오류 발생 시
+     * @throws IllegalArgumentException 쿼리에 없는 매개변수인 경우
+     */
+    public ParameterBinder setBytes(String name, byte[] value) throws SQLException {
+        for (int index : query.parameterIndexes(name)) {
+            statement.setBytes(index, value);
+        }
+        return this;
+    }
+
+    /**
+     * NULL 매개변수 설정
+     *
+     * @param name    매개변수 이름 (':' 제외)
+     * @param sqlType java.sql.Types의 SQL 타입
+     * @return 이 바인딩 도구
+     * @throws SQLException 설정 중 오류 발생 시
+     * @throws IllegalArgumentException 쿼리에 없는 매개변수인 경우
+     */
+    public ParameterBinder setNull(String name, int sqlType) throws SQLException {
+        for (int index : query.parameterIndexes(name)) {
+            statement.setNull(index, sqlType);
+        }
+        return this;
+    }
+}
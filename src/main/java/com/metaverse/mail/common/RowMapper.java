@@ -0,0 +1,341 @@
+package com.metaverse.mail.common;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 컬럼 위치를 결과마다 한 번만 찾는 행 변환 도구
+ *
+ * rs.getString("column")처럼 이름으로 읽으면 드라이버가 행마다 컬럼 이름을 찾아야 합니다.
+ * RowMapper는 ResultSet을 받으면 ResultSetMetaData로 컬럼 위치를 한 번만 계산하고,
+ * 이후 모든 행은 계산된 위치(인덱스)로 읽어 객체에 설정합니다.
+ *
+ * 컬럼과 설정 메서드의 연결은 클래스 로딩 시 한 번 만들어 상수로 공유합니다.
+ * 설정 메서드 없이 생성자로만 값을 받는 DTO는 of()로 컬럼 위치를 받아 객체를 만드는 함수를 연결합니다.
+ *
+ * 사용 예시:
+ * RowMapper<EmailLink> mapper = RowMapper.builder(EmailLink::new)
+ *         .intColumn("link_idx", EmailLink::setLinkIdx)
+ *         .charColumn("is_readed", 'N', EmailLink::setIsReaded)
+ *         .build();
+ *
+ * try (ResultSet rs = ps.executeQuery()) {
+ *     List<EmailLink> links = mapper.mapAll(rs);
+ * }
+ *
+ * @param <T> 변환할 객체 타입
+ * @author 유진
+ * @version 1.0
+ */
+public final class RowMapper<T> {
+
+    /**
+     * 현재 행의 컬럼 값을 객체에 설정하는 함수
+     *
+     * @param <T> 값을 설정할 객체 타입
+     */
+    @FunctionalInterface
+    public interface ColumnReader<T> {
+        /**
+         * @param target  값을 설정할 객체
+         * @param rs      현재 행에 위치한 ResultSet
+         * @param indexes 연결한 컬럼들의 위치 (1부터 시작, 연결할 때 지정한 순서)
+         * @throws SQLException 컬럼 조회 중 오류 발생 시
+         */
+        void read(T target, ResultSet rs, int[] indexes) throws SQLException;
+    }
+
+    /**
+     * 현재 행의 컬럼 값으로 객체를 만드는 함수
+     *
+     * @param <T> 만들 객체 타입
+     */
+    @FunctionalInterface
+    public interface RowFunction<T> {
+        /**
+         * @param rs      현재 행에 위치한 ResultSet
+         * @param indexes 연결한 컬럼들의 위치 (1부터 시작, 연결할 때 지정한 순서)
+         * @return 변환된 객체
+         * @throws SQLException 컬럼 조회 중 오류 발생 시
+         */
+        T map(ResultSet rs, int[] indexes) throws SQLException;
+    }
+
+    /**
+     * int 값 설정 메서드 (박싱 없이 설정)
+     *
+     * @param <T> 값을 설정할 객체 타입
+     */
+    @FunctionalInterface
+    public interface IntSetter<T> {
+        void set(T target, int value);
+    }
+
+    /**
+     * char 값 설정 메서드 (박싱 없이 설정)
+     *
+     * @param <T> 값을 설정할 객체 타입
+     */
+    @FunctionalInterface
+    public interface CharSetter<T> {
+        void set(T target, char value);
+    }
+
+    /** 빈 객체 생성자 (of()로 만든 경우 null) */
+    private final Supplier<T> factory;
+
+    /** 연결별 컬럼 이름 (소문자) */
+    private final String[][] labels;
+
+    /** 연결별 값 설정 함수 */
+    private final List<ColumnReader<T>> readers;
+
+    /** 컬럼 위치로 객체를 만드는 함수 (builder()로 만든 경우 null) */
+    private final RowFunction<T> function;
+
+    private RowMapper(Supplier<T> factory, List<String[]> labels, List<ColumnReader<T>> readers,
+                      RowFunction<T> function) {
+        this.factory = factory;
+        this.labels = labels.toArray(new String[0][]);
+        this.readers = List.copyOf(readers);
+        this.function = function;
+    }
+
+    /**
+     * 행 변환 도구 작성 시작
+     *
+     * @param factory 행마다 빈 객체를 만드는 생성자 (예: User::new)
+     * @param <T>     변환할 객체 타입
+     * @return 컬럼을 연결할 빌더
+     */
+    public static <T> Builder<T> builder(Supplier<T> factory) {
+        return new Builder<>(factory);
+    }
+
+    /**
+     * 생성자로 값을 받는 객체의 행 변환 도구 생성
+     *
+     * 사용 예시:
+     * RowMapper<EmailSearchDto> mapper = RowMapper.of(new String[]{"email_idx", "title"},
+     *         (rs, idx) -> new EmailSearchDto(rs.getInt(idx[0]), rs.getString(idx[1]), null));
+     *
+     * @param columnLabels 읽을 컬럼 이름 (function이 받는 위치 배열의 순서)
+     * @param function     계산된 위치로 값을 읽어 객체를 만드는 함수
+     * @param <T>          변환할 객체 타입
+     * @return 연결한 컬럼을 읽는 행 변환 도구
+     */
+    public static <T> RowMapper<T> of(String[] columnLabels, RowFunction<T> function) {
+        return new RowMapper<>(null, List.<String[]>of(normalize(columnLabels)), List.of(), function);
+    }
+
+    /**
+     * 컬럼 이름을 위치 계산용 소문자로 변환
+     */
+    private static String[] normalize(String[] columnLabels) {
+        String[] normalized = new String[columnLabels.length];
+        for (int i = 0; i < columnLabels.length; i++) {
+            normalized[i] = columnLabels[i].toLowerCase(Locale.ROOT);
+        }
+        return normalized;
+    }
+
+    /**
+     * ResultSet의 컬럼 위치를 계산하여 행 변환기 생성
+     *
+     * 같은 ResultSet의 모든 행은 반환된 변환기 하나로 읽습니다.
+     * 같은 이름의 컬럼이 여러 개면 rs.findColumn과 같이 첫 번째 컬럼을 사용합니다.
+     *
+     * @param rs 변환할 ResultSet
+     * @return 계산된 위치로 행을 읽는 변환기
+     * @throws SQLException 연결한 컬럼이 결과에 없거나 메타데이터 조회 중 오류 발생 시
+     */
+    public Bound<T> bind(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = meta.getColumnCount(); i >= 1; i--) {
+            positions.put(meta.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+
+        int[][] indexes = new int[labels.length][];
+        for (int i = 0; i < labels.length; i++) {
+            indexes[i] = new int[labels[i].length];
+            for (int j = 0; j < labels[i].length; j++) {
+                Integer position = positions.get(labels[i][j]);
+                if (position == null) {
+                    throw new SQLException("조회 결과에 " + labels[i][j] + " 컬럼이 없습니다.");
+                }
+                indexes[i][j] = position;
+            }
+        }
+
+        return new Bound<>(this, indexes);
+    }
+
+    /**
+     * ResultSet의 남은 행을 모두 객체로 변환
+     *
+     * @param rs 변환할 ResultSet
+     * @return 변환된 객체 목록, 행이 없으면 빈 목록
+     * @throws SQLException 컬럼 조회 중 오류 발생 시
+     */
+    public List<T> mapAll(ResultSet rs) throws SQLException {
+        List<T> rows = new ArrayList<>();
+        if (!rs.next()) {
+            return rows; // 빈 결과는 메타데이터를 조회하지 않음
+        }
+
+        Bound<T> bound = bind(rs);
+        do {
+            rows.add(bound.map(rs));
+        } while (rs.next());
+        return rows;
+    }
+
+    /**
+     * ResultSet의 다음 행 하나를 객체로 변환
+     *
+     * @param rs 변환할 ResultSet
+     * @return 변환된 객체, 행이 없으면 null
+     * @throws SQLException 컬럼 조회 중 오류 발생 시
+     */
+    public T mapFirst(ResultSet rs) throws SQLException {
+        return rs.next() ? bind(rs).map(rs) : null;
+    }
+
+    /**
+     * 컬럼 위치가 계산된 행 변환기
+     *
+     * 계산에 사용한 ResultSet(또는 같은 쿼리의 결과)에만 사용해야 합니다.
+     *
+     * @param <T> 변환할 객체 타입
+     */
+    public static final class Bound<T> {
+        private final RowMapper<T> mapper;
+        private final int[][] indexes;
+
+        private Bound(RowMapper<T> mapper, int[][] indexes) {
+            this.mapper = mapper;
+            this.indexes = indexes;
+        }
+
+        /**
+         * 현재 행을 객체로 변환
+         *
+         * @param rs 현재 행에 위치한 ResultSet
+         * @return 변환된 객체
+         * @throws SQLException 컬럼 조회 중 오류 발생 시
+         */
+        public T map(ResultSet rs) throws SQLException {
+            if (mapper.function != null) {
+                return mapper.function.map(rs, indexes[0]);
+            }
+
+            T target = mapper.factory.get();
+            List<ColumnReader<T>> readers = mapper.readers;
+            for (int i = 0; i < indexes.length; i++) {
+                readers.get(i).read(target, rs, indexes[i]);
+            }
+            return target;
+        }
+    }
+
+    /**
+     * 컬럼과 설정 메서드를 연결하는 빌더
+     *
+     * @param <T> 변환할 객체 타입
+     */
+    public static final class Builder<T> {
+        private final Supplier<T> factory;
+        private final List<String[]> labels = new ArrayList<>();
+        private final List<ColumnReader<T>> readers = new ArrayList<>();
+
+        private Builder(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * int 컬럼 연결 (NULL이면 0)
+         *
+         * @param label  컬럼 이름
+         * @param setter 값을 설정할 메서드
+         * @return 이 빌더
+         */
+        public Builder<T> intColumn(String label, IntSetter<T> setter) {
+            return columns(new String[]{label}, (target, rs, idx) -> setter.set(target, rs.getInt(idx[0])));
+        }
+
+        /**
+         * 문자열 컬럼 연결
+         *
+         * @param label  컬럼 이름
+         * @param setter 값을 설정할 메서드
+         * @return 이 빌더
+         */
+        public Builder<T> stringColumn(String label, BiConsumer<T, String> setter) {
+            return columns(new String[]{label}, (target, rs, idx) -> setter.accept(target, rs.getString(idx[0])));
+        }
+
+        /**
+         * CHAR(1) 상태 컬럼 연결
+         *
+         * @param label        컬럼 이름
+         * @param defaultValue 값이 NULL이거나 비어 있을 때 설정할 값
+         * @param setter       값을 설정할 메서드
+         * @return 이 빌더
+         */
+        public Builder<T> charColumn(String label, char defaultValue, CharSetter<T> setter) {
+            return columns(new String[]{label}, (target, rs, idx) -> {
+                String value = rs.getString(idx[0]);
+                setter.set(target, value != null && !value.isEmpty() ? value.charAt(0) : defaultValue);
+            });
+        }
+
+        /**
+         * 일시 컬럼 연결 (NULL이면 설정하지 않음)
+         *
+         * @param label  컬럼 이름
+         * @param setter 값을 설정할 메서드
+         * @return 이 빌더
+         */
+        public Builder<T> dateTimeColumn(String label, BiConsumer<T, LocalDateTime> setter) {
+            return columns(new String[]{label}, (target, rs, idx) -> {
+                Timestamp value = rs.getTimestamp(idx[0]);
+                if (value != null) {
+                    setter.accept(target, value.toLocalDateTime());
+                }
+            });
+        }
+
+        /**
+         * 여러 컬럼을 함께 읽어 설정하는 함수 연결
+         *
+         * @param columnLabels 함께 읽을 컬럼 이름 (reader가 받는 위치 배열의 순서)
+         * @param reader       계산된 위치로 값을 읽어 설정하는 함수
+         * @return 이 빌더
+         */
+        public Builder<T> columns(String[] columnLabels, ColumnReader<T> reader) {
+            labels.add(normalize(columnLabels));
+            readers.add(reader);
+            return this;
+        }
+
+        /**
+         * 행 변환 도구 생성
+         *
+         * @return 연결한 컬럼을 읽는 행 변환 도구
+         */
+        public RowMapper<T> build() {
+            return new RowMapper<>(factory, labels, readers, null);
+        }
+    }
+}
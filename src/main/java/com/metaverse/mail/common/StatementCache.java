@@ -0,0 +1,480 @@
+package com.metaverse.mail.common;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 연결별 PreparedStatement 캐시
+ *
+ * DAO가 같은 쿼리를 실행할 때마다 PreparedStatement를 새로 만들지 않도록,
+ * 커넥션 풀의 실제 연결마다 queries.xml 쿼리 ID를 키로 PreparedStatement를 보관하여 재사용합니다.
+ * 서버 측 PreparedStatement(useServerPrepStmts)를 사용하면 쿼리 분석과 실행 계획 준비도 한 번만 수행됩니다.
+ *
+ * 반환되는 PreparedStatement는 기존 코드처럼 try-with-resources로 닫으면 되며,
+ * 닫을 때 실제로 닫히지 않고 파라미터만 초기화된 뒤 캐시로 돌아갑니다.
+ * 같은 쿼리를 사용 중인 상태에서 다시 요청하면(중첩 사용) 캐시하지 않는 새 PreparedStatement를 반환합니다.
+ *
+ * 연결마다 최대 개수를 넘으면 가장 오래 사용하지 않은 PreparedStatement를 닫습니다 (LRU).
+ *
+ * PreparedStatement의 소유권:
+ *   PreparedStatement는 풀의 프록시 연결이 아니라 unwrap한 실제 연결에서 준비합니다.
+ *   프록시 연결에서 준비하면 연결을 풀로 반환할 때 HikariCP가 닫아 버리므로 재사용할 수 없기 때문입니다.
+ *   따라서 HikariCP는 이 PreparedStatement를 추적하거나 닫지 않으며, 닫는 책임은 이 캐시에 있습니다.
+ *   HikariCP가 실제 연결을 닫으면(최대 수명, 유휴 시간 초과) 드라이버가 그 연결의 PreparedStatement를 함께 닫고,
+ *   캐시는 닫힌 연결의 항목을 최대 PRUNE_INTERVAL_MILLIS 간격으로 정리합니다.
+ *   풀을 종료할 때는 JDBCConnection.close()가 clear()로 보관 중인 PreparedStatement를 모두 닫습니다.
+ * 캐시 크기는 config.properties에서 설정합니다 (0 이하이면 캐시하지 않음).
+ *   statement.cache.size=64
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public final class StatementCache {
+    /** 연결마다 보관할 최대 PreparedStatement 수 */
+    private static volatile int cacheSize = AppConfig.getInt("statement.cache.size", 64);
+
+    /** 닫힌 연결의 캐시를 정리하는 최소 간격 (밀리초) */
+    private static final long PRUNE_INTERVAL_MILLIS = 1000;
+
+    /** 실제 연결 -> 쿼리 ID별 PreparedStatement */
+    private static final Map<Connection, ConnectionCache> caches = new LinkedHashMap<>();
+
+    /** 마지막으로 닫힌 연결의 캐시를 정리한 시각 (System.nanoTime, caches 잠금으로 보호) */
+    private static long lastPruneNanos = System.nanoTime();
+
+    /** 캐시 사용 여부 */
+    private static volatile boolean enabled = cacheSize > 0;
+
+    /** 캐시된 PreparedStatement를 재사용한 횟수 */
+    private static final AtomicLong hitCount = new AtomicLong();
+
+    /** PreparedStatement를 새로 만든 횟수 */
+    private static final AtomicLong missCount = new AtomicLong();
+
+    /** 캐시 크기를 넘어 닫은 PreparedStatement 수 */
+    private static final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * 인스턴스 생성 방지
+     */
+    private StatementCache() {
+    }
+
+    /**
+     * 쿼리로 PreparedStatement 준비
+     *
+     * @param connection 데이터베이스 연결 (커넥션 풀의 연결이면 실제 연결 기준으로 캐시)
+     * @param query      queries.xml의 쿼리
+     * @return PreparedStatement (닫으면 캐시로 반환됨)
+     * @throws SQLException 준비 중 오류 발생 시
+     */
+    public static PreparedStatement prepare(Connection connection, Query query) throws SQLException {
+        return prepare(connection, query, Statement.NO_GENERATED_KEYS);
+    }
+
+    /**
+     * 쿼리로 PreparedStatement 준비 (생성된 키 반환 여부 지정)
+     *
+     * @param connection        데이터베이스 연결
+     * @param query             queries.xml의 쿼리
+     * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS 또는 Statement.NO_GENERATED_KEYS
+     * @return PreparedStatement (닫으면 캐시로 반환됨)
+     * @throws SQLException 준비 중 오류 발생 시
+     */
+    public static PreparedStatement prepare(Connection connection, Query query, int autoGeneratedKeys)
+            throws SQLException {
+        String sql = query.sql();
+
+        if (!enabled) {
+            missCount.incrementAndGet();
+            return connection.prepareStatement(sql, autoGeneratedKeys);
+        }
+
+        Connection physical = unwrap(connection);
+        String key = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? query.id() + "#keys" : query.id();
+        ConnectionCache cache = getCache(physical);
+
+        synchronized (cache) {
+            CachedStatement cached = cache.statements.get(key);
+            if (cached != null && !cached.inUse && !cached.statement.isClosed()) {
+                cached.inUse = true;
+                hitCount.incrementAndGet();
+                return cached.borrow();
+            }
+
+            missCount.incrementAndGet();
+            PreparedStatement statement = physical.prepareStatement(sql, autoGeneratedKeys);
+
+            // 같은 쿼리를 사용 중이면 캐시하지 않고 그대로 반환 (닫으면 실제로 닫힘)
+            if (cached != null && cached.inUse) {
+                return statement;
+            }
+
+            CachedStatement created = new CachedStatement(statement, cache);
+            created.inUse = true;
+            cache.statements.put(key, created);
+            return created.borrow();
+        }
+    }
+
+    /**
+     * 커넥션 풀의 프록시 연결을 실제 연결로 변환
+     *
+     * 풀에서 연결을 빌릴 때마다 새 프록시가 만들어지므로, 같은 실제 연결의 캐시를 찾기 위해 사용합니다.
+     *
+     * @param connection 연결
+     * @return 실제 연결 (변환할 수 없으면 전달된 연결)
+     */
+    private static Connection unwrap(Connection connection) {
+        try {
+            if (connection.isWrapperFor(Connection.class)) {
+                return connection.unwrap(Connection.class);
+            }
+        } catch (SQLException e) {
+            // 변환할 수 없으면 전달된 연결 기준으로 캐시
+        }
+        return connection;
+    }
+
+    /**
+     * 실제 연결의 캐시 조회 (없으면 생성)
+     *
+     * 새 캐시를 만들 때, 그리고 PRUNE_INTERVAL_MILLIS마다 닫힌 연결(풀에서 제거된 연결)의 캐시를 정리합니다.
+     *
+     * @param physical 실제 연결
+     * @return 연결의 캐시
+     */
+    private static ConnectionCache getCache(Connection physical) {
+        synchronized (caches) {
+            ConnectionCache cache = caches.get(physical);
+            if (cache == null || System.nanoTime() - lastPruneNanos >= PRUNE_INTERVAL_MILLIS * 1_000_000) {
+                pruneClosedConnections();
+            }
+            if (cache != null) {
+                return cache;
+            }
+
+            cache = new ConnectionCache();
+            caches.put(physical, cache);
+            return cache;
+        }
+    }
+
+    /**
+     * 닫힌 연결의 캐시 제거
+     *
+     * 드라이버가 연결을 닫을 때 PreparedStatement도 닫지만, 캐시 항목이 연결과 PreparedStatement를
+     * 계속 참조하지 않도록 남은 PreparedStatement를 닫고 항목을 제거합니다.
+     * 상태를 확인할 수 없는 연결도 닫힌 것으로 보고 제거합니다.
+     */
+    static void pruneClosedConnections() {
+        synchronized (caches) {
+            lastPruneNanos = System.nanoTime();
+
+            Iterator<Map.Entry<Connection, ConnectionCache>> iterator = caches.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Connection, ConnectionCache> entry = iterator.next();
+                boolean closed;
+                try {
+                    closed = entry.getKey().isClosed();
+                } catch (SQLException e) {
+                    closed = true;
+                }
+                if (closed) {
+                    entry.getValue().evictAll();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * 캐시 사용 여부 설정 (벤치마크, 테스트용)
+     *
+     * 사용하지 않도록 설정하면 보관 중인 PreparedStatement를 모두 닫습니다.
+     *
+     * @param value true이면 캐시 사용
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value && cacheSize > 0;
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    /**
+     * 연결마다 보관할 최대 PreparedStatement 수 변경 (테스트용)
+     *
+     * 보관 중인 PreparedStatement는 모두 닫습니다.
+     *
+     * @param size 최대 개수 (0 이하이면 캐시하지 않음)
+     */
+    static void setCacheSize(int size) {
+        clear();
+        cacheSize = size;
+        enabled = size > 0;
+    }
+
+    /**
+     * 보관 중인 PreparedStatement를 모두 닫고 캐시 비우기
+     *
+     * 사용 중인 PreparedStatement는 반환될 때 닫힙니다.
+     */
+    public static void clear() {
+        synchronized (caches) {
+            for (ConnectionCache cache : caches.values()) {
+                cache.evictAll();
+            }
+            caches.clear();
+        }
+    }
+
+    /**
+     * PreparedStatement를 보관 중인 연결 수
+     *
+     * @return 캐시 항목이 있는 실제 연결 수
+     */
+    public static int getConnectionCount() {
+        synchronized (caches) {
+            return caches.size();
+        }
+    }
+
+    /**
+     * 캐시 재사용 횟수
+     *
+     * @return 캐시된 PreparedStatement를 재사용한 횟수
+     */
+    public static long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * 캐시 실패 횟수
+     *
+     * @return PreparedStatement를 새로 만든 횟수
+     */
+    public static long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * 캐시에서 밀려나 닫힌 PreparedStatement 수
+     *
+     * @return 닫힌 PreparedStatement 수
+     */
+    public static long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * PreparedStatement 캐시 통계 출력
+     */
+    public static void printStatistics() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+
+        System.out.println("[PreparedStatement 캐시 상태]");
+        System.out.println("사용 여부 : " + (enabled ? "사용 (연결당 " + cacheSize + "개)" : "사용 안 함"));
+        System.out.println("보관 중인 연결 : " + getConnectionCount() + "개");
+        System.out.println("재사용 : " + hits + "회, 새로 준비 : " + missCount.get() + "회, 밀려남 : " + evictionCount.get() + "회");
+        System.out.printf("재사용률 : %.1f%%%n", total == 0 ? 0.0 : hits * 100.0 / total);
+    }
+
+    /**
+     * 누적 통계 초기화 (테스트용)
+     */
+    static void resetStatistics() {
+        hitCount.set(0);
+        missCount.set(0);
+        evictionCount.set(0);
+    }
+
+    /**
+     * 실제 연결 하나의 쿼리 ID별 PreparedStatement (접근 순서 LRU)
+     */
+    private static class ConnectionCache {
+        private final Map<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= cacheSize) {
+                    return false;
+                }
+                evictionCount.incrementAndGet();
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+
+        /**
+         * 보관 중인 PreparedStatement를 모두 닫고 비우기 (사용 중이면 반환될 때 닫음)
+         */
+        private synchronized void evictAll() {
+            for (CachedStatement cached : statements.values()) {
+                cached.evict();
+            }
+            statements.clear();
+        }
+    }
+
+    /**
+     * 캐시에 보관된 PreparedStatement와 사용 상태
+     */
+    private static class CachedStatement {
+        private final PreparedStatement statement;
+
+        /** 사용 상태를 보호하는 잠금 (소속 연결의 캐시) */
+        private final Object lock;
+
+        /** 호출한 쪽에서 사용 중인지 여부 */
+        private boolean inUse;
+
+        /** 사용 중에 캐시에서 밀려나 반환 시 닫아야 하는지 여부 */
+        private boolean evicted;
+
+        private CachedStatement(PreparedStatement statement, Object lock) {
+            this.statement = statement;
+            this.lock = lock;
+        }
+
+        /**
+         * 호출한 쪽에 빌려줄 PreparedStatement 프록시 생성
+         *
+         * @return close() 시 캐시로 반환되는 PreparedStatement
+         */
+        private PreparedStatement borrow() {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, new Lease(this));
+        }
+
+        /**
+         * 캐시에서 밀려났을 때 처리 (사용 중이면 반환될 때 닫음, 캐시 잠금을 가진 상태에서 호출)
+         */
+        private void evict() {
+            if (inUse) {
+                evicted = true;
+            } else {
+                closeQuietly();
+            }
+        }
+
+        /**
+         * 사용이 끝난 PreparedStatement를 캐시로 반환
+         *
+         * 다음 사용자가 이전 파라미터나 배치를 물려받지 않도록 초기화합니다.
+         */
+        private void release() {
+            synchronized (lock) {
+                try {
+                    if (!statement.isClosed()) {
+                        statement.clearParameters();
+                        statement.clearBatch();
+                    }
+                } catch (SQLException e) {
+                    // 초기화할 수 없는 PreparedStatement는 닫아서 다음 요청 때 다시 준비
+                    closeQuietly();
+                }
+
+                if (evicted) {
+                    closeQuietly();
+                }
+                inUse = false;
+            }
+        }
+
+        /**
+         * PreparedStatement를 실제로 닫음
+         */
+        private void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                System.err.println("PreparedStatement 닫기 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 한 번 빌려준 PreparedStatement의 호출 처리
+     *
+     * close()는 실제로 닫지 않고 캐시로 반환하며(여러 번 호출해도 한 번만 반환),
+     * 나머지 메서드는 원래 PreparedStatement에 위임합니다.
+     * PreparedStatement를 닫으면 ResultSet도 닫히던 기존 동작을 유지하도록, 사용 중 열린 ResultSet은 반환 시 닫습니다.
+     */
+    private static class Lease implements InvocationHandler {
+        private final CachedStatement cached;
+        private final List<ResultSet> resultSets = new ArrayList<>();
+        private boolean released;
+
+        private Lease(CachedStatement cached) {
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getParameterCount() == 0) {
+                switch (method.getName()) {
+                    case "close":
+                        if (!released) {
+                            released = true;
+                            closeResultSets();
+                            cached.release();
+                        }
+                        return null;
+                    case "isClosed":
+                        return released || cached.statement.isClosed();
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "StatementCache.Lease[" + cached.statement + "]";
+                    default:
+                        break;
+                }
+            }
+            if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if (released) {
+                throw new SQLException("이미 닫힌 PreparedStatement입니다.");
+            }
+
+            Object result;
+            try {
+                result = method.invoke(cached.statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof ResultSet) {
+                resultSets.add((ResultSet) result);
+            }
+            return result;
+        }
+
+        /**
+         * 사용 중 열린 ResultSet 닫기
+         */
+        private void closeResultSets() {
+            for (ResultSet resultSet : resultSets) {
+                try {
+                    resultSet.close();
+                } catch (SQLException e) {
+                    // 이미 닫혔거나 연결이 끊긴 경우 무시
+                }
+            }
+            resultSets.clear();
+        }
+    }
+}
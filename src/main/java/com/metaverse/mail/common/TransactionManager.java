@@ -0,0 +1,220 @@
+package com.metaverse.mail.common;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 현재 스레드에 하나의 데이터베이스 연결을 묶어 트랜잭션을 관리하는 유틸리티 클래스
+ *
+ * begin() 호출 시 커넥션 풀에서 연결을 하나 가져와 현재 스레드에 바인딩하고,
+ * 이후 DAO들은 getConnection()을 통해 같은 연결을 사용하여 하나의 트랜잭션에 참여합니다.
+ * 주요 기능:
+ *   트랜잭션 시작, 커밋, 롤백 및 종료
+ *   중첩 호출 시 가장 바깥쪽 트랜잭션에서만 실제 커밋/롤백 수행
+ *   트랜잭션 중인 DAO에 바인딩된 연결 제공
+ *
+ * 사용 방법:
+ *   TransactionManager.begin();
+ *   try {
+ *       ... DAO 호출 ...
+ *       TransactionManager.commit();
+ *   } finally {
+ *       TransactionManager.end(); // 커밋되지 않았다면 롤백
+ *   }
+ *
+ * JDBCConnection과 마찬가지로 정적 멤버와 메서드로 구현되어 있습니다.
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public class TransactionManager {
+    /** 현재 스레드에 바인딩된 트랜잭션 정보 */
+    private static final ThreadLocal<Transaction> currentTransaction = new ThreadLocal<>();
+
+    /**
+     * 스레드에 바인딩된 트랜잭션 정보
+     */
+    private static class Transaction {
+        /** 트랜잭션에 사용되는 연결 */
+        private final Connection connection;
+
+        /** begin() 중첩 깊이 */
+        private int depth;
+
+        /** 안쪽 트랜잭션에서 롤백이 요청되었는지 여부 */
+        private boolean rollbackOnly;
+
+        /** 가장 바깥쪽 트랜잭션이 커밋 또는 롤백으로 완료되었는지 여부 */
+        private boolean completed;
+
+        private Transaction(Connection connection) {
+            this.connection = connection;
+        }
+    }
+
+    /**
+     * 인스턴스 생성 방지
+     */
+    private TransactionManager() {
+    }
+
+    /**
+     * 트랜잭션 시작
+     *
+     * 현재 스레드에 진행 중인 트랜잭션이 없으면 커넥션 풀에서 연결을 가져와
+     * 자동 커밋을 끄고 스레드에 바인딩합니다.
+     * 이미 진행 중이면 기존 트랜잭션에 참여합니다.
+     *
+     * @throws SQLException 연결 획득 또는 설정 중 데이터베이스 오류 발생 시
+     */
+    public static void begin() throws SQLException {
+        Transaction transaction = currentTransaction.get();
+
+        if (transaction == null) {
+            Connection connection = JDBCConnection.getConnection();
+            try {
+                connection.setAutoCommit(false);
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+            transaction = new Transaction(connection);
+            currentTransaction.set(transaction);
+        }
+
+        transaction.depth++;
+    }
+
+    /**
+     * 트랜잭션 커밋
+     *
+     * 가장 바깥쪽 트랜잭션에서만 실제로 커밋합니다.
+     * 안쪽 트랜잭션에서 롤백이 요청된 경우 커밋하지 않고 롤백합니다.
+     *
+     * @throws SQLException 진행 중인 트랜잭션이 없거나 커밋 중 데이터베이스 오류 발생 시
+     */
+    public static void commit() throws SQLException {
+        Transaction transaction = getTransaction();
+
+        if (transaction.depth > 1) {
+            return; // 바깥쪽 트랜잭션에서 커밋
+        }
+
+        if (transaction.rollbackOnly) {
+            rollback();
+            throw new SQLException("안쪽 트랜잭션에서 롤백이 요청되어 커밋할 수 없습니다.");
+        }
+
+        transaction.connection.commit();
+        transaction.completed = true;
+    }
+
+    /**
+     * 트랜잭션 롤백
+     *
+     * 가장 바깥쪽 트랜잭션에서는 즉시 롤백하고,
+     * 안쪽 트랜잭션에서는 바깥쪽 트랜잭션이 커밋되지 않도록 표시만 합니다.
+     * 진행 중인 트랜잭션이 없으면 아무 작업도 하지 않습니다.
+     */
+    public static void rollback() {
+        Transaction transaction = currentTransaction.get();
+        if (transaction == null) {
+            return;
+        }
+
+        if (transaction.depth > 1) {
+            transaction.rollbackOnly = true;
+            return;
+        }
+
+        try {
+            transaction.connection.rollback();
+        } catch (SQLException e) {
+            System.err.println("트랜잭션 롤백 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+        transaction.completed = true;
+    }
+
+    /**
+     * 트랜잭션 종료
+     *
+     * begin()과 짝을 이루어 finally 블록에서 호출해야 합니다.
+     * 가장 바깥쪽 트랜잭션이 커밋되지 않은 채 종료되면 롤백한 뒤
+     * 연결의 자동 커밋을 복원하고 풀로 반환합니다.
+     */
+    public static void end() {
+        Transaction transaction = currentTransaction.get();
+        if (transaction == null) {
+            return;
+        }
+
+        if (--transaction.depth > 0) {
+            return;
+        }
+
+        currentTransaction.remove();
+
+        if (!transaction.completed) {
+            rollback(transaction.connection);
+        }
+
+        try {
+            transaction.connection.setAutoCommit(true);
+            transaction.connection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 현재 스레드에서 트랜잭션이 진행 중인지 확인
+     *
+     * @return 진행 중이면 true
+     */
+    public static boolean isActive() {
+        return currentTransaction.get() != null;
+    }
+
+    /**
+     * DAO가 사용할 연결 반환
+     *
+     * 현재 스레드에 진행 중인 트랜잭션이 있으면 바인딩된 연결을,
+     * 없으면 DAO가 가지고 있는 기본 연결을 반환합니다.
+     *
+     * @param defaultConnection 트랜잭션이 없을 때 사용할 연결
+     * @return 사용할 데이터베이스 연결 객체
+     */
+    public static Connection getConnection(Connection defaultConnection) {
+        Transaction transaction = currentTransaction.get();
+        return transaction != null ? transaction.connection : defaultConnection;
+    }
+
+    /**
+     * 진행 중인 트랜잭션 조회
+     *
+     * @return 현재 스레드의 트랜잭션 정보
+     * @throws SQLException 진행 중인 트랜잭션이 없는 경우
+     */
+    private static Transaction getTransaction() throws SQLException {
+        Transaction transaction = currentTransaction.get();
+        if (transaction == null) {
+            throw new SQLException("진행 중인 트랜잭션이 없습니다.");
+        }
+        return transaction;
+    }
+
+    /**
+     * 완료되지 않은 트랜잭션 롤백
+     *
+     * @param connection 롤백할 연결
+     */
+    private static void rollback(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            System.err.println("트랜잭션 롤백 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
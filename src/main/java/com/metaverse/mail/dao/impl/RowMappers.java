@@ -0,0 +1,130 @@
+package com.metaverse.mail.dao.impl;
+
+import com.metaverse.mail.common.RowMapper;
+import com.metaverse.mail.dto.mail.ReceivedEmailDto;
+import com.metaverse.mail.dto.mail.ReceivedEmailSearchDto;
+import com.metaverse.mail.dto.mail.SentEmailSearchDto;
+import com.metaverse.mail.model.Email;
+import com.metaverse.mail.model.EmailLink;
+import com.metaverse.mail.model.Trash;
+import com.metaverse.mail.model.User;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * DAO 구현 클래스들이 공유하는 모델 행 변환 도구 모음
+ *
+ * 각 모델과 목록/검색 DTO의 컬럼 연결을 한 곳에 정의하여 DAO마다 변환 코드를 복사하지 않게 합니다.
+ * 상태 컬럼이 NULL이면 schema.sql의 기본값을 설정합니다.
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public final class RowMappers {
+
+    /** 사용자 (idx, email_id, email_pwd, nickname, status, created_at, updated_at, deleted_at) */
+    public static final RowMapper<User> USER = RowMapper.builder(User::new)
+            .intColumn("idx", User::setIdx)
+            .stringColumn("email_id", User::setEmailId)
+            .stringColumn("email_pwd", User::setEmailPwd)
+            .stringColumn("nickname", User::setNickname)
+            .charColumn("status", 'A', User::setStatus)
+            .dateTimeColumn("created_at", User::setCreatedAt)
+            .dateTimeColumn("updated_at", User::setUpdatedAt)
+            .dateTimeColumn("deleted_at", User::setDeletedAt)
+            .build();
+
+    /** 이메일 링크 (link_idx, receiver_id, email_idx, is_readed, is_deleted) */
+    public static final RowMapper<EmailLink> EMAIL_LINK = RowMapper.builder(EmailLink::new)
+            .intColumn("link_idx", EmailLink::setLinkIdx)
+            .intColumn("receiver_id", EmailLink::setReceiverId)
+            .intColumn("email_idx", EmailLink::setEmailIdx)
+            .charColumn("is_readed", 'N', EmailLink::setIsReaded)
+            .charColumn("is_deleted", 'N', EmailLink::setIsDeleted)
+            .build();
+
+    /** 본문을 제외한 이메일 (email_idx, sender_id, title, snippet, status, created_at) */
+    public static final RowMapper<Email> EMAIL_HEADER = RowMapper.builder(Email::new)
+            .intColumn("email_idx", Email::setEmailIdx)
+            .intColumn("sender_id", Email::setSenderId)
+            .stringColumn("title", Email::setTitle)
+            .stringColumn("snippet", Email::setSnippet)
+            .charColumn("status", 'N', Email::setStatus)
+            .dateTimeColumn("created_at", Email::setCreatedAt)
+            .build();
+
+    /** 본문을 포함한 이메일 (email_idx, sender_id, title, body, status, created_at) */
+    public static final RowMapper<Email> EMAIL = RowMapper.builder(Email::new)
+            .intColumn("email_idx", Email::setEmailIdx)
+            .intColumn("sender_id", Email::setSenderId)
+            .stringColumn("title", Email::setTitle)
+            .stringColumn("body", Email::setBody)
+            .charColumn("status", 'N', Email::setStatus)
+            .dateTimeColumn("created_at", Email::setCreatedAt)
+            .build();
+
+    /** 휴지통 항목 (trash_idx, link_id, deleted_at, expiration_date, is_restored) */
+    public static final RowMapper<Trash> TRASH = RowMapper.builder(Trash::new)
+            .intColumn("trash_idx", Trash::setTrashIdx)
+            .intColumn("link_id", Trash::setLinkId)
+            .dateTimeColumn("deleted_at", Trash::setDeletedAt)
+            .dateTimeColumn("expiration_date", Trash::setExpirationDate)
+            .charColumn("is_restored", 'N', Trash::setIsRestored)
+            .build();
+
+    /**
+     * 받은 메일함 목록 행 (email_idx, link_idx, sender_name, sender_email, title, snippet, is_readed, created_at)
+     * 목록 조회 결과이므로 본문 대신 미리보기만 채웁니다.
+     */
+    public static final RowMapper<ReceivedEmailDto> RECEIVED_EMAIL = RowMapper.of(
+            new String[]{"email_idx", "link_idx", "sender_name", "sender_email", "title", "snippet", "is_readed", "created_at"},
+            (rs, idx) -> {
+                ReceivedEmailDto receivedEmail = new ReceivedEmailDto(
+                        rs.getInt(idx[0]),
+                        rs.getString(idx[2]),
+                        rs.getString(idx[3]),
+                        rs.getString(idx[4]),
+                        null, // 목록에서는 본문을 조회하지 않음
+                        "Y".equals(rs.getString(idx[6])),
+                        toLocalDateTime(rs.getTimestamp(idx[7])));
+                receivedEmail.setLinkId(rs.getInt(idx[1]));
+                receivedEmail.setSnippet(rs.getString(idx[5]));
+                return receivedEmail;
+            });
+
+    /** 받은 메일 검색 결과 행 (email_idx, title, created_at, person_name, person_email, is_readed) */
+    public static final RowMapper<ReceivedEmailSearchDto> RECEIVED_EMAIL_SEARCH = RowMapper.builder(ReceivedEmailSearchDto::new)
+            .intColumn("email_idx", ReceivedEmailSearchDto::setEmailId)
+            .stringColumn("title", ReceivedEmailSearchDto::setTitle)
+            .dateTimeColumn("created_at", ReceivedEmailSearchDto::setSentDate)
+            .stringColumn("person_name", ReceivedEmailSearchDto::setSenderName)
+            .stringColumn("person_email", ReceivedEmailSearchDto::setSenderEmail)
+            .columns(new String[]{"is_readed"}, (result, rs, idx) -> result.setRead("Y".equals(rs.getString(idx[0]))))
+            .build();
+
+    /**
+     * 보낸 메일 검색 결과 행 (email_idx, title, created_at, person_name, person_email)
+     * 행마다 수신자 한 명이 담기며, 같은 이메일의 행은 DAO에서 하나로 묶습니다.
+     */
+    public static final RowMapper<SentEmailSearchDto> SENT_EMAIL_SEARCH = RowMapper.builder(SentEmailSearchDto::new)
+            .intColumn("email_idx", SentEmailSearchDto::setEmailId)
+            .stringColumn("title", SentEmailSearchDto::setTitle)
+            .dateTimeColumn("created_at", SentEmailSearchDto::setSentDate)
+            .columns(new String[]{"person_name", "person_email"},
+                    (result, rs, idx) -> result.addReceiver(rs.getString(idx[0]), rs.getString(idx[1])))
+            .build();
+
+    private RowMappers() {
+    }
+
+    /**
+     * 일시 컬럼 값 변환
+     *
+     * @param value 일시 컬럼 값
+     * @return 변환된 일시, 값이 NULL이면 null
+     */
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
@@ -1,18 +1,36 @@
 package com.metaverse.mail.dao.impl.inbox;
 
 import com.metaverse.mail.common.JDBCConnection;
-import com.metaverse.mail.common.QueryUtil;
+import com.metaverse.mail.common.ParameterBinder;
+import com.metaverse.mail.common.Query;
+import com.metaverse.mail.common.StatementCache;
+import com.metaverse.mail.common.TransactionManager;
+import com.metaverse.mail.dao.impl.RowMappers;
 import com.metaverse.mail.dao.interfaces.EmailLinkDao;
+import com.metaverse.mail.dto.inbox.MailboxSummaryDto;
+import com.metaverse.mail.dto.mail.ReceivedEmailDto;
 import com.metaverse.mail.model.EmailLink;
+import com.metaverse.mail.model.User;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class EmailLinkDaoImpl implements EmailLinkDao {
+    /** 한 번의 executeBatch로 전송할 최대 링크 수 */
+    private static final int LINK_BATCH_SIZE = 1000;
+
+    /** IN 절 하나에 넣을 최대 이메일 ID 수 */
+    private static final int EMAIL_ID_CHUNK_SIZE = 500;
+
     private final Connection connection;
 
     /**
@@ -35,11 +53,37 @@ public class EmailLinkDaoImpl implements EmailLinkDao {
         this.connection = connection;
     }
 
+    /**
+     * 쿼리 실행에 사용할 연결 반환
+     *
+     * 현재 스레드에 진행 중인 트랜잭션이 있으면 그 연결을 사용하여 트랜잭션에 참여하고,
+     * 없으면 생성 시 주입된 연결을 사용합니다.
+     *
+     * @return 데이터베이스 연결 객체
+     */
+    private Connection getConnection() {
+        return TransactionManager.getConnection(connection);
+    }
+
+    /**
+     * 쿼리로 PreparedStatement 준비
+     *
+     * 연결별 PreparedStatement 캐시를 사용하므로, 같은 쿼리를 다시 실행할 때 새로 준비하지 않습니다.
+     *
+     * @param query queries.xml의 쿼리
+     * @return PreparedStatement (닫으면 캐시로 반환됨)
+     * @throws SQLException 준비 중 오류 발생 시
+     */
+    private PreparedStatement prepare(Query query) throws SQLException {
+        return StatementCache.prepare(getConnection(), query);
+    }
+
     /**
      * 이메일 링크 생성 (이메일-수신자 연결)
      *
      * 데이터베이스에 이메일과 수신자 간의 연결 정보를 저장합니다.
      * 이메일 발송 시 각 수신자마다 호출됩니다.
+     * 수신자의 메일함 개수도 같은 트랜잭션에서 함께 늘립니다.
      *
      * @param emailId    이메일 ID
      * @param receiverId 수신자 ID
@@ -47,17 +91,101 @@ public class EmailLinkDaoImpl implements EmailLinkDao {
      */
     @Override
     public boolean createEmailLink(int emailId, int receiverId) {
-        String query = QueryUtil.getQuery("createEmailLink");
 
-        try (PreparedStatement ps = connection.prepareStatement(query)) {
-            ps.setInt(1, emailId);
-            ps.setInt(2, receiverId);
-            int result = ps.executeUpdate();
-            return result > 0;
+        try {
+            TransactionManager.begin();
+
+            try (PreparedStatement ps = prepare(Query.CREATE_EMAIL_LINK)) {
+                ps.setInt(1, emailId);
+                ps.setInt(2, receiverId);
+                if (ps.executeUpdate() == 0) {
+                    TransactionManager.rollback();
+                    return false;
+                }
+            }
+
+            try (PreparedStatement ps = prepare(Query.INCREMENT_MAILBOX_RECEIVED)) {
+                ps.setInt(1, receiverId);
+                ps.executeUpdate();
+            }
+
+            TransactionManager.commit();
+            return true;
         } catch (SQLException e) {
+            TransactionManager.rollback();
             System.err.println("이메일 링크 생성 실패: " + e.getMessage());
             e.printStackTrace();
             return false;
+        } finally {
+            TransactionManager.end();
+        }
+    }
+
+    /**
+     * 여러 수신자에 대한 이메일 링크 일괄 생성
+     *
+     * 하나의 PreparedStatement에 수신자별 파라미터를 addBatch로 쌓아 한 번에 전송합니다.
+     * 드라이버의 rewriteBatchedStatements 옵션이 켜져 있으면 배치가 multi-row INSERT로
+     * 재작성되어 LINK_BATCH_SIZE 단위로 한 번의 왕복만 발생합니다.
+     *
+     * 수신자들의 메일함 개수도 같은 방식의 배치로 같은 트랜잭션에서 늘립니다.
+     * 동시에 발송되는 메일끼리 교착 상태가 생기지 않도록 개수 행은 수신자 ID 순서로 갱신합니다.
+     *
+     * @param emailId     이메일 ID
+     * @param receiverIds 수신자 ID 배열
+     * @return 모든 링크 생성 성공 여부
+     */
+    @Override
+    public boolean createEmailLinks(int emailId, int[] receiverIds) {
+        if (receiverIds == null || receiverIds.length == 0) {
+            return false;
+        }
+
+
+        try {
+            TransactionManager.begin();
+
+            try (PreparedStatement ps = prepare(Query.CREATE_EMAIL_LINK)) {
+                for (int i = 0; i < receiverIds.length; i++) {
+                    ps.setInt(1, emailId);
+                    ps.setInt(2, receiverIds[i]);
+                    ps.addBatch();
+
+                    if ((i + 1) % LINK_BATCH_SIZE == 0 || i == receiverIds.length - 1) {
+                        if (!isBatchSucceeded(ps.executeBatch())) {
+                            TransactionManager.rollback();
+                            return false;
+                        }
+                    }
+                }
+            }
+
+            // 수신자별 메일함 개수 증가
+            int[] sortedReceiverIds = receiverIds.clone();
+            Arrays.sort(sortedReceiverIds);
+            try (PreparedStatement ps = prepare(Query.INCREMENT_MAILBOX_RECEIVED)) {
+                for (int i = 0; i < sortedReceiverIds.length; i++) {
+                    ps.setInt(1, sortedReceiverIds[i]);
+                    ps.addBatch();
+
+                    if ((i + 1) % LINK_BATCH_SIZE == 0 || i == sortedReceiverIds.length - 1) {
+                        if (!isBatchSucceeded(ps.executeBatch())) {
+                            TransactionManager.rollback();
+                            return false;
+                        }
+                    }
+                }
+            }
+
+            TransactionManager.commit();
+            return true;
+        } catch (SQLException e) {
+            TransactionManager.rollback();
+            System.err.println("이메일 링크 일괄 생성 실패: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        } finally {
+            TransactionManager.end();
         }
     }
 
@@ -71,25 +199,42 @@ public class EmailLinkDaoImpl implements EmailLinkDao {
      */
     @Override
     public EmailLink getLinkById(int linkId) {
-        String query = QueryUtil.getQuery("getLinkById");
         EmailLink emailLink = null;
 
-        try (PreparedStatement ps = connection.prepareStatement(query)) {
+        try (PreparedStatement ps = prepare(Query.GET_LINK_BY_ID)) {
             ps.setInt(1, linkId);
 
             try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    emailLink = new EmailLink();
-                    emailLink.setLinkIdx(rs.getInt("link_idx"));
-                    emailLink.setReceiverId(rs.getInt("receiver_id"));
-                    emailLink.setEmailIdx(rs.getInt("email_idx"));
+                emailLink = RowMappers.EMAIL_LINK.mapFirst(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("이메일 링크 조회 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
 
-                    String isReaded = rs.getString("is_readed");
-                    emailLink.setIsReaded(isReaded != null && !isReaded.isEmpty() ? isReaded.charAt(0) : 'N');
+        return emailLink;
+    }
 
-                    String isDeleted = rs.getString("is_deleted");
-                    emailLink.setIsDeleted(isDeleted != null && !isDeleted.isEmpty() ? isDeleted.charAt(0) : 'N');
-                }
+    /**
+     * 수신자 ID와 이메일 ID로 이메일 링크 조회
+     *
+     * 수신자 ID와 이메일 ID 복합 인덱스를 이용해 해당 수신자의 링크 하나만 조회합니다.
+     * 삭제되지 않은 링크가 우선 반환되며, 삭제 여부는 호출하는 쪽에서 확인합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param emailIdx   이메일 ID
+     * @return 이메일 링크 객체, 없으면 null
+     */
+    @Override
+    public EmailLink findByReceiverAndEmail(int receiverId, int emailIdx) {
+        EmailLink emailLink = null;
+
+        try (PreparedStatement ps = prepare(Query.FIND_LINK_BY_RECEIVER_AND_EMAIL)) {
+            ps.setInt(1, receiverId);
+            ps.setInt(2, emailIdx);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                emailLink = RowMappers.EMAIL_LINK.mapFirst(rs);
             }
         } catch (SQLException e) {
             System.err.println("이메일 링크 조회 실패: " + e.getMessage());
@@ -99,6 +244,35 @@ public class EmailLinkDaoImpl implements EmailLinkDao {
         return emailLink;
     }
 
+    /**
+     * 링크 ID 순서로 이메일 링크 목록 조회
+     *
+     * 지정된 ID보다 큰 링크를 삭제 여부와 관계없이 ID 오름차순으로 최대 limit개 조회합니다.
+     * 전체 링크를 나누어 읽어야 하는 검색 색인 재구축 시 호출됩니다.
+     *
+     * @param lastLinkIdx 마지막으로 조회한 링크 ID (처음에는 0)
+     * @param limit       조회할 최대 개수
+     * @return 이메일 링크 목록, 더 이상 없으면 빈 목록
+     */
+    @Override
+    public List<EmailLink> getLinksAfter(int lastLinkIdx, int limit) {
+        List<EmailLink> emailLinks = new ArrayList<>();
+
+        try (PreparedStatement ps = prepare(Query.GET_LINKS_AFTER)) {
+            ps.setInt(1, lastLinkIdx);
+            ps.setInt(2, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                emailLinks.addAll(RowMappers.EMAIL_LINK.mapAll(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("이메일 링크 목록 조회 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return emailLinks;
+    }
+
     /**
      * 수신자 ID로 받은 이메일 링크 목록 조회
      *
@@ -111,57 +285,191 @@ public class EmailLinkDaoImpl implements EmailLinkDao {
     @Override
     public List<EmailLink> getLinksByReceiverId(int receiverId) {
         List<EmailLink> emailLinks = new ArrayList<>();
-        String query = QueryUtil.getQuery("getLinksByReceiverId");
 
-        try (PreparedStatement ps = connection.prepareStatement(query)) {
+        try (PreparedStatement ps = prepare(Query.GET_LINKS_BY_RECEIVER_ID)) {
             ps.setInt(1, receiverId);
 
             try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    EmailLink emailLink = new EmailLink();
-                    emailLink.setLinkIdx(rs.getInt("link_idx"));
-                    emailLink.setReceiverId(rs.getInt("receiver_id"));
-                    emailLink.setEmailIdx(rs.getInt("email_idx"));
+                emailLinks.addAll(RowMappers.EMAIL_LINK.mapAll(rs));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+
+        return emailLinks;
+    }
+
+    /**
+     * 수신자 ID로 받은 메일함 목록 조회 (이메일, 발신자 정보 포함)
+     *
+     * 이메일과 발신자 정보를 조인된 결과에서 바로 읽어 DTO로 변환하므로
+     * 메일 수와 관계없이 한 번의 조회로 받은 메일함을 구성합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @return 받은 이메일 목록
+     */
+    @Override
+    public List<ReceivedEmailDto> getReceivedEmailsByReceiverId(int receiverId) {
+        List<ReceivedEmailDto> receivedEmails = new ArrayList<>();
+
+        try (PreparedStatement ps = prepare(Query.GET_RECEIVED_EMAILS_BY_RECEIVER_ID)) {
+            ps.setInt(1, receiverId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                receivedEmails.addAll(RowMappers.RECEIVED_EMAIL.mapAll(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("받은 메일함 조회 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return receivedEmails;
+    }
+
+    /**
+     * 여러 이메일의 수신자 목록 조회
+     *
+     * 이메일 ID를 IN 절로 묶어 수신자를 한 번에 조회한 뒤 이메일 ID별로 나눕니다.
+     * 이메일 ID가 많으면 EMAIL_ID_CHUNK_SIZE개씩 나누어 조회합니다.
+     *
+     * @param emailIds 이메일 ID 목록
+     * @return 이메일 ID별 수신자 목록 (링크 생성 순)
+     */
+    @Override
+    public Map<Integer, List<User>> getReceiversByEmailIds(List<Integer> emailIds) {
+        Map<Integer, List<User>> receivers = new HashMap<>();
+        if (emailIds == null || emailIds.isEmpty()) {
+            return receivers;
+        }
 
-                    String isReaded = rs.getString("is_readed");
-                    emailLink.setIsReaded(isReaded != null && !isReaded.isEmpty() ? isReaded.charAt(0) : 'N');
+        for (int from = 0; from < emailIds.size(); from += EMAIL_ID_CHUNK_SIZE) {
+            List<Integer> chunk = emailIds.subList(from, Math.min(from + EMAIL_ID_CHUNK_SIZE, emailIds.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String query = String.format(Query.GET_RECEIVERS_BY_EMAIL_IDS.sql(), placeholders);
 
-                    String isDeleted = rs.getString("is_deleted");
-                    emailLink.setIsDeleted(isDeleted != null && !isDeleted.isEmpty() ? isDeleted.charAt(0) : 'N');
+            try (PreparedStatement ps = getConnection().prepareStatement(query)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    ps.setInt(i + 1, chunk.get(i));
+                }
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        User receiver = new User();
+                        receiver.setIdx(rs.getInt("idx"));
+                        receiver.setEmailId(rs.getString("email_id"));
+                        receiver.setNickname(rs.getString("nickname"));
 
-                    emailLinks.add(emailLink);
+                        receivers.computeIfAbsent(rs.getInt("email_idx"), k -> new ArrayList<>()).add(receiver);
+                    }
                 }
+            } catch (SQLException e) {
+                System.err.println("수신자 목록 조회 실패: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+
+        return receivers;
+    }
+
+    /**
+     * 받은 메일함 첫 페이지 조회
+     *
+     * @param receiverId 수신자 ID
+     * @param limit 조회할 최대 개수
+     * @return 받은 이메일 목록 (최신순)
+     */
+    @Override
+    public List<ReceivedEmailDto> getReceivedEmailsFirstPage(int receiverId, int limit) {
+        List<ReceivedEmailDto> receivedEmails = new ArrayList<>();
+
+        try (PreparedStatement ps = prepare(Query.GET_RECEIVED_EMAILS_FIRST_PAGE)) {
+            ps.setInt(1, receiverId);
+            ps.setInt(2, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                receivedEmails.addAll(RowMappers.RECEIVED_EMAIL.mapAll(rs));
             }
         } catch (SQLException e) {
+            System.err.println("받은 메일함 페이지 조회 실패: " + e.getMessage());
             e.printStackTrace();
         }
 
-        return emailLinks;
+        return receivedEmails;
     }
 
     /**
-     * 이메일을 읽음 상태로 변경
+     * 커서보다 오래된 받은 메일 페이지 조회 (다음 페이지)
      *
-     * 데이터베이스에서 이메일 링크의 읽음 상태를 변경합니다.
-     * 이메일 상세 내용 조회 시 호출됩니다.
+     * @param receiverId 수신자 ID
+     * @param cursorEmailId 커서 이메일의 ID
+     * @param limit 조회할 최대 개수
+     * @return 받은 이메일 목록 (최신순)
+     */
+    @Override
+    public List<ReceivedEmailDto> getReceivedEmailsOlderThan(int receiverId, int cursorEmailId, int limit) {
+        return getReceivedEmailsByCursor(Query.GET_RECEIVED_EMAILS_OLDER_PAGE, receiverId, cursorEmailId, limit);
+    }
+
+    /**
+     * 커서보다 최근의 받은 메일 페이지 조회 (이전 페이지)
      *
-     * @param linkId 링크 ID
-     * @return 성공 여부
+     * 쿼리는 커서에 가까운 순서(오래된 순)로 조회하므로, 결과를 뒤집어 최신순으로 반환합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param cursorEmailId 커서 이메일의 ID
+     * @param limit 조회할 최대 개수
+     * @return 받은 이메일 목록 (최신순)
      */
     @Override
-    public boolean markAsRead(int linkId) {
-        String query = QueryUtil.getQuery("markAsRead");
+    public List<ReceivedEmailDto> getReceivedEmailsNewerThan(int receiverId, int cursorEmailId, int limit) {
+        List<ReceivedEmailDto> receivedEmails =
+                getReceivedEmailsByCursor(Query.GET_RECEIVED_EMAILS_NEWER_PAGE, receiverId, cursorEmailId, limit);
+        Collections.reverse(receivedEmails);
+        return receivedEmails;
+    }
 
-        try (PreparedStatement ps = connection.prepareStatement(query)) {
-            ps.setInt(1, linkId);
+    /**
+     * 커서 기준 받은 메일 페이지 조회 공통 처리
+     *
+     * @param query 실행할 쿼리
+     * @param receiverId 수신자 ID
+     * @param cursorEmailId 커서 이메일의 ID
+     * @param limit 조회할 최대 개수
+     * @return 쿼리 순서대로 담긴 받은 이메일 목록
+     */
+    private List<ReceivedEmailDto> getReceivedEmailsByCursor(Query query, int receiverId, int cursorEmailId, int limit) {
+        List<ReceivedEmailDto> receivedEmails = new ArrayList<>();
 
-            int updatedRows = ps.executeUpdate();
-            return updatedRows > 0;
+        try (PreparedStatement ps = prepare(query)) {
+            ParameterBinder.of(ps, query)
+                    .setInt("receiverId", receiverId)
+                    .setInt("cursorEmailId", cursorEmailId)
+                    .setInt("limit", limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                receivedEmails.addAll(RowMappers.RECEIVED_EMAIL.mapAll(rs));
+            }
         } catch (SQLException e) {
-            System.err.println("이메일 읽음 상태 변경 실패: " + e.getMessage());
+            System.err.println("받은 메일함 페이지 조회 실패: " + e.getMessage());
             e.printStackTrace();
-            return false;
         }
+
+        return receivedEmails;
+    }
+
+    /**
+     * 이메일을 읽음 상태로 변경
+     *
+     * 데이터베이스에서 이메일 링크의 읽음 상태를 변경합니다.
+     * 이메일 상세 내용 조회 시 호출됩니다.
+     * 읽지 않은 메일이었으면 수신자의 읽지 않은 메일 수도 같은 트랜잭션에서 줄입니다.
+     *
+     * @param linkId 링크 ID
+     * @return 읽음 상태로 변경되었으면 true, 링크가 없거나 이미 읽은 메일이면 false
+     */
+    @Override
+    public boolean markAsRead(int linkId) {
+        return updateLinkAndCounter(Query.MARK_AS_READ, Query.DECREMENT_MAILBOX_UNREAD, linkId, "이메일 읽음 상태 변경 실패: ");
     }
 
     /**
@@ -169,25 +477,287 @@ public class EmailLinkDaoImpl implements EmailLinkDao {
      *
      * 데이터베이스에서 이메일 링크의 삭제 상태를 변경합니다.
      * 이메일 삭제(휴지통으로 이동) 시 호출됩니다.
+     * 수신자의 받은 메일 수와 휴지통 메일 수도 같은 트랜잭션에서 함께 갱신합니다.
      *
      * @param linkId 링크 ID
-     * @return 성공 여부
+     * @return 삭제 상태로 변경되었으면 true, 링크가 없거나 이미 삭제된 메일이면 false
      */
     @Override
     public boolean markAsDeleted(int linkId) {
-        String query = QueryUtil.getQuery("markAsDeleted");
+        return updateLinkAndCounter(Query.MARK_AS_DELETED, Query.MOVE_MAILBOX_TO_TRASH, linkId, "이메일 삭제 상태 변경 실패: ");
+    }
 
-        try (PreparedStatement ps = connection.prepareStatement(query)) {
-            ps.setInt(1, linkId);
+    /**
+     * 여러 이메일을 한 번에 읽음 상태로 변경
+     *
+     * 변경할 링크를 잠그며 조회한 뒤, 링크 ID를 IN 절로 묶어 한 번에 변경하고
+     * 읽지 않은 메일 수를 변경된 개수만큼 한 번에 줄입니다.
+     * 링크 ID가 많으면 EMAIL_ID_CHUNK_SIZE개씩 나누어 실행하므로 천 건을 처리해도 문장 수는 몇 개뿐입니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param linkIds    링크 ID 배열
+     * @return 실제로 읽음 상태로 변경된 링크 목록, 실패하면 빈 목록
+     */
+    @Override
+    public List<EmailLink> markAsRead(int receiverId, int[] linkIds) {
+        if (linkIds == null || linkIds.length == 0) {
+            return new ArrayList<>();
+        }
+
+        try {
+            TransactionManager.begin();
 
-            int updatedRows = ps.executeUpdate();
-            return updatedRows > 0;
+            List<EmailLink> links = lockLinks(Query.LOCK_UNREAD_LINKS, receiverId, linkIds);
+            updateLinks(Query.MARK_LINKS_AS_READ, links);
+            decrementUnreadCount(receiverId, links.size());
+
+            TransactionManager.commit();
+            return links;
         } catch (SQLException e) {
-            System.err.println("이메일 삭제 상태 변경 실패: " + e.getMessage());
+            TransactionManager.rollback();
+            System.err.println("이메일 일괄 읽음 상태 변경 실패: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        } finally {
+            TransactionManager.end();
+        }
+    }
+
+    /**
+     * 받은 메일함의 모든 메일을 읽음 상태로 변경
+     *
+     * 읽지 않은 링크 전체를 잠그며 조회한 뒤 링크 ID 묶음으로 변경합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @return 실제로 읽음 상태로 변경된 링크 목록, 실패하면 빈 목록
+     */
+    @Override
+    public List<EmailLink> markAllAsRead(int receiverId) {
+        try {
+            TransactionManager.begin();
+
+            List<EmailLink> links = new ArrayList<>();
+            try (PreparedStatement ps = prepare(Query.LOCK_ALL_UNREAD_LINKS)) {
+                ps.setInt(1, receiverId);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    links.addAll(RowMappers.EMAIL_LINK.mapAll(rs));
+                }
+            }
+            updateLinks(Query.MARK_LINKS_AS_READ, links);
+            decrementUnreadCount(receiverId, links.size());
+
+            TransactionManager.commit();
+            return links;
+        } catch (SQLException e) {
+            TransactionManager.rollback();
+            System.err.println("전체 읽음 상태 변경 실패: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        } finally {
+            TransactionManager.end();
+        }
+    }
+
+    /**
+     * 여러 이메일을 한 번에 삭제 상태로 변경
+     *
+     * 변경할 링크를 잠그며 조회한 뒤 링크 ID 묶음으로 변경하고, 잠근 링크의 읽음 여부로
+     * 받은 메일 수, 읽지 않은 메일 수, 휴지통 수를 한 번에 갱신합니다.
+     * 진행 중인 트랜잭션이 있으면 그 트랜잭션에 참여하므로 휴지통 추가와 함께 묶을 수 있습니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param linkIds    링크 ID 배열
+     * @return 실제로 삭제 상태로 변경된 링크 목록, 실패하면 빈 목록
+     */
+    @Override
+    public List<EmailLink> markAsDeleted(int receiverId, int[] linkIds) {
+        if (linkIds == null || linkIds.length == 0) {
+            return new ArrayList<>();
+        }
+
+        try {
+            TransactionManager.begin();
+
+            List<EmailLink> links = lockLinks(Query.LOCK_INBOX_LINKS, receiverId, linkIds);
+            updateLinks(Query.MARK_LINKS_AS_DELETED, links);
+
+            if (!links.isEmpty()) {
+                int unread = 0;
+                for (EmailLink link : links) {
+                    if (link.getIsReaded() == 'N') {
+                        unread++;
+                    }
+                }
+
+                try (PreparedStatement ps = prepare(Query.MOVE_MAILBOX_TO_TRASH_BY)) {
+                    ParameterBinder.of(ps, Query.MOVE_MAILBOX_TO_TRASH_BY)
+                            .setInt("count", links.size())
+                            .setInt("unreadCount", unread)
+                            .setInt("userIdx", receiverId);
+                    ps.executeUpdate();
+                }
+            }
+
+            TransactionManager.commit();
+            return links;
+        } catch (SQLException e) {
+            TransactionManager.rollback();
+            System.err.println("이메일 일괄 삭제 상태 변경 실패: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        } finally {
+            TransactionManager.end();
+        }
+    }
+
+    /**
+     * 수신자의 링크 중 선택한 링크를 잠그며 조회
+     *
+     * 링크 ID를 EMAIL_ID_CHUNK_SIZE개씩 IN 절로 묶어 조회합니다.
+     * 조회 조건에 맞지 않는 링크(다른 사용자의 링크, 이미 변경된 링크)는 결과에서 빠집니다.
+     *
+     * @param query      잠금 조회 쿼리 (수신자 ID, 링크 ID 목록 순서의 매개변수)
+     * @param receiverId 수신자 ID
+     * @param linkIds    링크 ID 배열
+     * @return 잠근 링크 목록
+     * @throws SQLException 조회 중 오류 발생 시
+     */
+    private List<EmailLink> lockLinks(Query query, int receiverId, int[] linkIds) throws SQLException {
+        List<EmailLink> links = new ArrayList<>();
+
+        for (int from = 0; from < linkIds.length; from += EMAIL_ID_CHUNK_SIZE) {
+            int to = Math.min(from + EMAIL_ID_CHUNK_SIZE, linkIds.length);
+            String placeholders = String.join(", ", Collections.nCopies(to - from, "?"));
+            String sql = String.format(query.sql(), placeholders);
+
+            try (PreparedStatement ps = getConnection().prepareStatement(sql)) {
+                ps.setInt(1, receiverId);
+                for (int i = from; i < to; i++) {
+                    ps.setInt(i - from + 2, linkIds[i]);
+                }
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    links.addAll(RowMappers.EMAIL_LINK.mapAll(rs));
+                }
+            }
+        }
+
+        return links;
+    }
+
+    /**
+     * 링크 ID를 IN 절로 묶어 상태 변경 쿼리 실행
+     *
+     * @param query 상태 변경 쿼리 (링크 ID 목록이 유일한 매개변수)
+     * @param links   변경할 링크 목록
+     * @throws SQLException 변경 중 오류 발생 시
+     */
+    private void updateLinks(Query query, List<EmailLink> links) throws SQLException {
+        for (int from = 0; from < links.size(); from += EMAIL_ID_CHUNK_SIZE) {
+            List<EmailLink> chunk = links.subList(from, Math.min(from + EMAIL_ID_CHUNK_SIZE, links.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String sql = String.format(query.sql(), placeholders);
+
+            try (PreparedStatement ps = getConnection().prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    ps.setInt(i + 1, chunk.get(i).getLinkIdx());
+                }
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * 읽지 않은 메일 수를 읽음 처리된 개수만큼 줄임
+     *
+     * @param receiverId 수신자 ID
+     * @param count      읽음 처리된 메일 수 (0이면 실행하지 않음)
+     * @throws SQLException 갱신 중 오류 발생 시
+     */
+    private void decrementUnreadCount(int receiverId, int count) throws SQLException {
+        if (count == 0) {
+            return;
+        }
+
+        try (PreparedStatement ps = prepare(Query.DECREMENT_MAILBOX_UNREAD_BY)) {
+            ps.setInt(1, count);
+            ps.setInt(2, receiverId);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * 링크 상태 변경과 메일함 개수 갱신을 하나의 트랜잭션으로 실행
+     *
+     * 링크 상태가 실제로 변경된 경우에만 개수를 갱신하므로 같은 링크를 여러 번 처리해도 개수가 어긋나지 않습니다.
+     * 진행 중인 트랜잭션이 있으면 그 트랜잭션에 참여합니다.
+     *
+     * @param linkQuery      링크 상태를 변경하는 쿼리
+     * @param counterQuery   메일함 개수를 갱신하는 쿼리
+     * @param linkId         링크 ID
+     * @param errorMessage   실패 시 출력할 메시지
+     * @return 링크 상태가 변경되었으면 true
+     */
+    private boolean updateLinkAndCounter(Query linkQuery, Query counterQuery, int linkId, String errorMessage) {
+        try {
+            TransactionManager.begin();
+
+            boolean updated;
+            try (PreparedStatement ps = prepare(linkQuery)) {
+                ps.setInt(1, linkId);
+                updated = ps.executeUpdate() > 0;
+            }
+
+            if (updated) {
+                try (PreparedStatement ps = prepare(counterQuery)) {
+                    ps.setInt(1, linkId);
+                    ps.executeUpdate();
+                }
+            }
+
+            TransactionManager.commit();
+            return updated;
+        } catch (SQLException e) {
+            TransactionManager.rollback();
+            System.err.println(errorMessage + e.getMessage());
             e.printStackTrace();
             return false;
+        } finally {
+            TransactionManager.end();
         }
     }
+
+    /**
+     * 사용자의 메일함 개수 조회
+     *
+     * MAILBOX_COUNTER에 미리 집계된 한 행만 읽으므로 메일 수와 관계없이 비용이 일정합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 메일함 개수 정보, 받은 메일이 없으면 모두 0
+     */
+    @Override
+    public MailboxSummaryDto getMailboxSummary(int userId) {
+
+        try (PreparedStatement ps = prepare(Query.GET_MAILBOX_SUMMARY)) {
+            ps.setInt(1, userId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return new MailboxSummaryDto(
+                            rs.getInt("total_count"),
+                            rs.getInt("unread_count"),
+                            rs.getInt("trash_count"));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("메일함 개수 조회 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return new MailboxSummaryDto();
+    }
+
     /**
      * 이메일을 복구 (삭제 취소)
      *
@@ -201,4 +771,22 @@ public class EmailLinkDaoImpl implements EmailLinkDao {
     public boolean restoreEmail(int linkId) {
         return false;
     }
+
+    /**
+     * 배치 실행 결과 확인
+     *
+     * 배치가 multi-row INSERT로 재작성되면 드라이버는 개별 결과 대신
+     * SUCCESS_NO_INFO를 반환하므로 EXECUTE_FAILED가 없는지만 확인합니다.
+     *
+     * @param results executeBatch 결과 배열
+     * @return 실패한 문장이 없으면 true
+     */
+    private boolean isBatchSucceeded(int[] results) {
+        for (int result : results) {
+            if (result == Statement.EXECUTE_FAILED) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -1,16 +1,37 @@
 package com.metaverse.mail.dao.impl.inbox;
 
-import com.metaverse.mail.common.QueryUtil;
+import com.metaverse.mail.common.AppConfig;
+import com.metaverse.mail.common.Query;
+import com.metaverse.mail.common.StatementCache;
+import com.metaverse.mail.common.TransactionManager;
+import com.metaverse.mail.dao.impl.RowMappers;
 import com.metaverse.mail.dao.interfaces.TrashDao;
+import com.metaverse.mail.dto.inbox.TrashPurgeDto;
+import com.metaverse.mail.model.EmailLink;
 import com.metaverse.mail.model.Trash;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 public class TrashDaoImpl implements TrashDao {
+    /** 한 번의 executeBatch로 전송할 최대 휴지통 항목 수 */
+    private static final int TRASH_BATCH_SIZE = 1000;
+
+    /** 만료 항목 정리 시 한 트랜잭션에서 삭제할 최대 항목 수 */
+    private static final int PURGE_CHUNK_SIZE = AppConfig.getInt("trash.purge.chunk.size", 500);
+
+    /** 만료 항목 정리 시 묶음 사이 대기 시간 (밀리초) */
+    private static final long PURGE_PAUSE_MILLIS = AppConfig.getLong("trash.purge.pause.millis", 100);
+
     private final Connection connection;
 
     /**
@@ -22,6 +43,49 @@ public class TrashDaoImpl implements TrashDao {
         this.connection = connection;
     }
 
+    /**
+     * 연결을 보유하지 않는 DAO 생성
+     *
+     * 모든 쿼리를 TransactionManager의 트랜잭션 연결로 실행하므로,
+     * 만료 항목 정리처럼 묶음마다 트랜잭션을 여는 백그라운드 작업이 풀 연결을 계속 점유하지 않습니다.
+     * 트랜잭션 밖에서 호출하는 메서드(getTrashByUserId 등)는 사용할 수 없습니다.
+     *
+     * @return 트랜잭션 전용 DAO
+     */
+    public static TrashDaoImpl transactional() {
+        return new TrashDaoImpl(null);
+    }
+
+    /**
+     * 쿼리 실행에 사용할 연결 반환
+     *
+     * 현재 스레드에 진행 중인 트랜잭션이 있으면 그 연결을 사용하여 트랜잭션에 참여하고,
+     * 없으면 생성 시 주입된 연결을 사용합니다.
+     *
+     * @return 데이터베이스 연결 객체
+     * @throws SQLException 트랜잭션 전용 DAO를 트랜잭션 밖에서 사용한 경우
+     */
+    private Connection getConnection() throws SQLException {
+        Connection current = TransactionManager.getConnection(connection);
+        if (current == null) {
+            throw new SQLException("트랜잭션 전용 TrashDaoImpl은 트랜잭션 안에서만 사용할 수 있습니다.");
+        }
+        return current;
+    }
+
+    /**
+     * 쿼리로 PreparedStatement 준비
+     *
+     * 연결별 PreparedStatement 캐시를 사용하므로, 같은 쿼리를 다시 실행할 때 새로 준비하지 않습니다.
+     *
+     * @param query queries.xml의 쿼리
+     * @return PreparedStatement (닫으면 캐시로 반환됨)
+     * @throws SQLException 준비 중 오류 발생 시
+     */
+    private PreparedStatement prepare(Query query) throws SQLException {
+        return StatementCache.prepare(getConnection(), query);
+    }
+
     /**
      * 휴지통에 이메일 추가
      *
@@ -33,9 +97,8 @@ public class TrashDaoImpl implements TrashDao {
      */
     @Override
     public boolean addToTrash(int linkId) {
-        String query = QueryUtil.getQuery("addToTrash");
 
-        try (PreparedStatement ps = connection.prepareStatement(query)) {
+        try (PreparedStatement ps = prepare(Query.ADD_TO_TRASH)) {
             ps.setInt(1, linkId);
 
             int result = ps.executeUpdate();
@@ -47,9 +110,124 @@ public class TrashDaoImpl implements TrashDao {
         }
     }
 
+    /**
+     * 휴지통에 여러 이메일 추가
+     *
+     * 하나의 PreparedStatement에 링크별 파라미터를 addBatch로 쌓아 TRASH_BATCH_SIZE 단위로 전송합니다.
+     * 드라이버의 rewriteBatchedStatements 옵션이 켜져 있으면 배치가 multi-row INSERT로 재작성됩니다.
+     * 진행 중인 트랜잭션이 있으면 그 트랜잭션에 참여하므로, 실패 시 호출하는 쪽에서 롤백합니다.
+     *
+     * @param linkIds 이메일 링크 ID 배열
+     * @return 모든 항목 추가 성공 여부
+     */
+    @Override
+    public boolean addToTrash(int[] linkIds) {
+        if (linkIds == null || linkIds.length == 0) {
+            return false;
+        }
+
+
+        try (PreparedStatement ps = prepare(Query.ADD_TO_TRASH)) {
+            for (int i = 0; i < linkIds.length; i++) {
+                ps.setInt(1, linkIds[i]);
+                ps.addBatch();
+
+                if ((i + 1) % TRASH_BATCH_SIZE == 0 || i == linkIds.length - 1) {
+                    for (int result : ps.executeBatch()) {
+                        if (result == Statement.EXECUTE_FAILED) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("휴지통 항목 일괄 추가 실패: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * 받은 이메일을 휴지통으로 이동
+     *
+     * 수신자와 이메일로 삭제되지 않은 링크 하나를 먼저 찾은 뒤, 그 링크 ID로 삭제 상태 변경과
+     * 메일함 개수 갱신(한 문장), 휴지통 항목 추가를 실행합니다.
+     * 같은 메일의 링크가 여러 개여도 한 번에 하나만 이동하므로 휴지통에 없는데 숨겨지는 링크가 생기지 않으며,
+     * 모든 문장이 같은 트랜잭션에서 실행됩니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param emailIdx   이메일 ID
+     * @return 휴지통으로 이동했으면 true, 링크가 없거나 이미 삭제된 메일이면 false
+     */
+    @Override
+    public boolean moveToTrash(int receiverId, int emailIdx) {
+        try {
+            TransactionManager.begin();
+
+            EmailLink link;
+            try (PreparedStatement ps = prepare(Query.FIND_LINK_BY_RECEIVER_AND_EMAIL)) {
+                ps.setInt(1, receiverId);
+                ps.setInt(2, emailIdx);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    link = RowMappers.EMAIL_LINK.mapFirst(rs);
+                }
+            }
+
+            // 삭제되지 않은 링크가 우선 조회되므로, 조회된 링크가 삭제 상태이면 이동할 링크가 없음
+            if (link == null || link.getIsDeleted() == 'Y') {
+                TransactionManager.rollback();
+                return false;
+            }
+
+            try (PreparedStatement ps = prepare(Query.MOVE_LINK_TO_TRASH)) {
+                ps.setInt(1, link.getLinkIdx());
+                if (ps.executeUpdate() == 0) {
+                    // 다른 트랜잭션이 먼저 삭제한 경우
+                    TransactionManager.rollback();
+                    return false;
+                }
+            }
+
+            try (PreparedStatement ps = prepare(Query.ADD_TO_TRASH)) {
+                ps.setInt(1, link.getLinkIdx());
+                ps.executeUpdate();
+            }
+
+            TransactionManager.commit();
+            return true;
+        } catch (SQLException e) {
+            TransactionManager.rollback();
+            System.err.println("휴지통 이동 실패: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        } finally {
+            TransactionManager.end();
+        }
+    }
+
+    /**
+     * 사용자의 휴지통 목록 조회
+     *
+     * 복구되지 않은 항목을 삭제 일시 최신순으로 조회합니다.
+     *
+     * @param userId 사용자 ID (링크의 수신자)
+     * @return 휴지통 항목 목록, 실패하면 빈 목록
+     */
     @Override
     public List<Trash> getTrashByUserId(int userId) {
-        return new ArrayList<>();
+        try (PreparedStatement ps = prepare(Query.GET_TRASH_BY_USER_ID)) {
+            ps.setInt(1, userId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return RowMappers.TRASH.mapAll(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("휴지통 목록 조회 실패: " + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
     }
 
     @Override
@@ -67,12 +245,159 @@ public class TrashDaoImpl implements TrashDao {
      *
      * 데이터베이스에서 만료 날짜가 지난 휴지통 항목을 자동으로 삭제합니다.
      * 시스템에서 정기적으로 호출하여 오래된 이메일을 정리합니다.
+     * 묶음 크기와 대기 시간은 config.properties에서 설정합니다.
+     *   trash.purge.chunk.size=500
+     *   trash.purge.pause.millis=100
      *
      * @return 삭제된 이메일 수
      */
     @Override
     public int deleteExpiredEmails() {
-        return 0;
+        return deleteExpiredEmails(PURGE_CHUNK_SIZE, PURGE_PAUSE_MILLIS, 0).getRemovedCount();
+    }
+
+    /**
+     * 실행 시간을 제한하여 만료된 이메일 자동 삭제
+     *
+     * @param maxRuntimeMillis 최대 실행 시간 (밀리초, 0 이하이면 제한 없음)
+     * @return 삭제한 항목 수, 묶음 수와 실행 시간
+     */
+    @Override
+    public TrashPurgeDto deleteExpiredEmails(long maxRuntimeMillis) {
+        return deleteExpiredEmails(PURGE_CHUNK_SIZE, PURGE_PAUSE_MILLIS, maxRuntimeMillis);
+    }
+
+    /**
+     * 만료된 이메일을 묶음 단위로 자동 삭제
+     *
+     * 한 번에 모두 삭제하면 TRASH와 EMAIL_LINK의 잠금을 오래 잡게 되므로,
+     * expiration_date 인덱스 순서로 chunkSize개씩 잠가 삭제하고 바로 커밋합니다.
+     * 마지막 묶음(chunkSize보다 적게 삭제된 묶음)에 도달하거나, 오류가 발생하거나,
+     * 최대 실행 시간이 지나면 멈춥니다.
+     * 묶음별 삭제 건수와 걸린 시간은 콘솔에 출력하지 않고 결과 객체에 담아 반환합니다.
+     * 실행 중인 묶음은 끝까지 처리하므로 실제 실행 시간은 묶음 하나만큼 더 걸릴 수 있습니다.
+     *
+     * @param chunkSize        한 트랜잭션에서 삭제할 최대 항목 수
+     * @param pauseMillis      묶음 사이 대기 시간 (밀리초, 0이면 대기하지 않음)
+     * @param maxRuntimeMillis 최대 실행 시간 (밀리초, 0 이하이면 제한 없음)
+     * @return 삭제한 항목 수, 묶음 수와 실행 시간
+     */
+    @Override
+    public TrashPurgeDto deleteExpiredEmails(int chunkSize, long pauseMillis, long maxRuntimeMillis) {
+        TrashPurgeDto result = new TrashPurgeDto();
+        if (chunkSize <= 0) {
+            return result;
+        }
+
+        long begin = System.nanoTime();
+        long deadline = begin + maxRuntimeMillis * 1_000_000;
+
+        while (true) {
+            long start = System.nanoTime();
+            int purged = deleteExpiredChunk(chunkSize);
+            if (purged < 0) {
+                result.setFailed(true);
+                break;
+            }
+            if (purged == 0) {
+                break;
+            }
+
+            result.addChunk(purged, (System.nanoTime() - start) / 1_000_000);
+
+            if (purged < chunkSize) {
+                break;
+            }
+
+            if (maxRuntimeMillis > 0 && System.nanoTime() - deadline >= 0) {
+                result.setTimedOut(true); // 남은 항목은 다음 실행에서 이어서 정리
+                break;
+            }
+
+            if (pauseMillis > 0) {
+                try {
+                    Thread.sleep(pauseMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        result.setElapsedMillis((System.nanoTime() - begin) / 1_000_000);
+        return result;
+    }
+
+    /**
+     * 만료된 휴지통 항목 한 묶음 삭제
+     *
+     * 만료 항목과 링크를 잠그며 조회하고(다른 트랜잭션이 사용 중인 행은 건너뜀), 링크를 삭제하여
+     * 휴지통 항목이 외래 키로 함께 삭제되게 한 뒤, 수신자별 휴지통 메일 수를 줄입니다.
+     * 잠금 조회는 삭제와 같은 조건이므로 잠근 링크는 모두 삭제되어야 하며, 삭제된 행 수가 다르면
+     * 개수가 어긋나지 않도록 묶음 전체를 롤백합니다.
+     * 동시에 실행되는 작업과 교착 상태가 생기지 않도록 개수 행은 수신자 ID 순서로 갱신합니다.
+     *
+     * @param chunkSize 삭제할 최대 항목 수
+     * @return 삭제한 항목 수, 더 이상 없으면 0, 오류가 발생하면 -1
+     */
+    private int deleteExpiredChunk(int chunkSize) {
+        try {
+            TransactionManager.begin();
+
+            // 링크 ID -> 수신자 ID (만료일 순)
+            Map<Integer, Integer> receiverByLink = new LinkedHashMap<>();
+            try (PreparedStatement ps = prepare(Query.LOCK_EXPIRED_TRASH)) {
+                ps.setInt(1, chunkSize);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        receiverByLink.put(rs.getInt("link_id"), rs.getInt("receiver_id"));
+                    }
+                }
+            }
+
+            if (receiverByLink.isEmpty()) {
+                TransactionManager.commit();
+                return 0;
+            }
+
+            String placeholders = String.join(", ", Collections.nCopies(receiverByLink.size(), "?"));
+            String query = String.format(Query.DELETE_EXPIRED_EMAILS.sql(), placeholders);
+            try (PreparedStatement ps = getConnection().prepareStatement(query)) {
+                int index = 1;
+                for (int linkId : receiverByLink.keySet()) {
+                    ps.setInt(index++, linkId);
+                }
+                int deleted = ps.executeUpdate();
+                if (deleted != receiverByLink.size()) {
+                    throw new SQLException("잠근 링크 " + receiverByLink.size() + "건 중 " + deleted + "건만 삭제되었습니다.");
+                }
+            }
+
+            // 수신자별 휴지통 메일 수 감소
+            Map<Integer, Integer> purgedByReceiver = new TreeMap<>();
+            for (int receiverId : receiverByLink.values()) {
+                purgedByReceiver.merge(receiverId, 1, Integer::sum);
+            }
+            try (PreparedStatement ps = prepare(Query.DECREMENT_MAILBOX_TRASH_BY)) {
+                for (Map.Entry<Integer, Integer> entry : purgedByReceiver.entrySet()) {
+                    ps.setInt(1, entry.getValue());
+                    ps.setInt(2, entry.getKey());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+
+            TransactionManager.commit();
+            return receiverByLink.size();
+        } catch (SQLException e) {
+            TransactionManager.rollback();
+            System.err.println("만료된 휴지통 항목 삭제 실패: " + e.getMessage());
+            e.printStackTrace();
+            return -1;
+        } finally {
+            TransactionManager.end();
+        }
     }
 
 }
\ No newline at end of file
@@ -1,12 +1,22 @@
 package com.metaverse.mail.dao.impl.mail;
 
+import com.metaverse.mail.common.BodyHash;
 import com.metaverse.mail.common.JDBCConnection;
-import com.metaverse.mail.common.QueryUtil;
+import com.metaverse.mail.common.ParameterBinder;
+import com.metaverse.mail.common.Query;
+import com.metaverse.mail.common.StatementCache;
+import com.metaverse.mail.common.TransactionManager;
+import com.metaverse.mail.dao.impl.RowMappers;
 import com.metaverse.mail.dao.interfaces.EmailDao;
+import com.metaverse.mail.dto.mail.BodyStorageDto;
+import com.metaverse.mail.dto.mail.ReceivedEmailSearchDto;
+import com.metaverse.mail.dto.mail.SentEmailSearchDto;
 import com.metaverse.mail.model.Email;
 
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -19,6 +29,15 @@ import java.util.List;
  */
 public class EmailDaoImpl implements EmailDao {
 
+    /** 전문 인덱스로 검색할 수 있는 최소 키워드 길이 (MySQL ngram_token_size 기본값) */
+    private static final int FULLTEXT_MIN_KEYWORD_LENGTH = 2;
+
+    /** 본문 미리보기 최대 길이 (EMAIL.snippet 컬럼 크기) */
+    private static final int SNIPPET_LENGTH = 100;
+
+    /** 본문 테이블의 압축 페이지 크기 (바이트, V7 마이그레이션의 KEY_BLOCK_SIZE=8) */
+    private static final int BODY_PAGE_SIZE = 8192;
+
     private final Connection connection;
 
     /**
@@ -41,55 +60,154 @@ public class EmailDaoImpl implements EmailDao {
         this.connection = connection;
     }
 
+    /**
+     * 쿼리 실행에 사용할 연결 반환
+     *
+     * 현재 스레드에 진행 중인 트랜잭션이 있으면 그 연결을 사용하여 트랜잭션에 참여하고,
+     * 없으면 생성 시 주입된 연결을 사용합니다.
+     *
+     * @return 데이터베이스 연결 객체
+     */
+    private Connection getConnection() {
+        return TransactionManager.getConnection(connection);
+    }
+
+    /**
+     * 쿼리로 PreparedStatement 준비
+     *
+     * 연결별 PreparedStatement 캐시를 사용하므로, 같은 쿼리를 다시 실행할 때 새로 준비하지 않습니다.
+     *
+     * @param query queries.xml의 쿼리
+     * @return PreparedStatement (닫으면 캐시로 반환됨)
+     * @throws SQLException 준비 중 오류 발생 시
+     */
+    private PreparedStatement prepare(Query query) throws SQLException {
+        return StatementCache.prepare(getConnection(), query);
+    }
+
+    /**
+     * 쿼리로 PreparedStatement 준비 (생성된 키 반환 여부 지정)
+     *
+     * @param query             queries.xml의 쿼리
+     * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS 또는 Statement.NO_GENERATED_KEYS
+     * @return PreparedStatement (닫으면 캐시로 반환됨)
+     * @throws SQLException 준비 중 오류 발생 시
+     */
+    private PreparedStatement prepare(Query query, int autoGeneratedKeys) throws SQLException {
+        return StatementCache.prepare(getConnection(), query, autoGeneratedKeys);
+    }
+
     /**
      * 새 이메일 생성
      *
      * 데이터베이스에 새로운 이메일을 저장합니다.
      * 이메일 작성 및 전송 시 호출됩니다.
+     * 본문은 EMAIL_BODY, 헤더는 EMAIL 테이블에 하나의 트랜잭션으로 저장하며,
+     * 진행 중인 트랜잭션이 있으면 그 트랜잭션에 참여합니다.
+     * 같은 내용의 본문이 이미 저장되어 있으면 본문은 다시 쓰지 않고 참조 수만 늘립니다.
      *
      * @param email 이메일 객체
      * @return 생성된 이메일 ID, 실패 시 -1
      */
     @Override
     public int createEmail(Email email) {
-        String query = QueryUtil.getQuery("createEmail");
         int emailId = -1;
 
-        try (PreparedStatement ps = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
-            // 쿼리 파라미터 설정
-            ps.setInt(1, email.getSenderId());
-            ps.setString(2, email.getTitle());
-            ps.setString(3, email.getBody());
-
-            // 쿼리 실행
-            int affectedRows = ps.executeUpdate();
-
-            if (affectedRows > 0) {
-                // 생성된 ID 가져오기
-                try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        emailId = generatedKeys.getInt(1);
+        try {
+            TransactionManager.begin();
+
+            // 공유 본문 확보 (기존 본문 참조 또는 새로 저장)
+            int bodyId = acquireEmailBody(email.getBody());
+
+            try (PreparedStatement ps = prepare(Query.CREATE_EMAIL, Statement.RETURN_GENERATED_KEYS)) {
+                // 쿼리 파라미터 설정
+                ps.setInt(1, email.getSenderId());
+                ps.setString(2, email.getTitle());
+                ps.setString(3, toSnippet(email.getBody()));
+                ps.setInt(4, bodyId);
+
+                // 쿼리 실행
+                int affectedRows = ps.executeUpdate();
+
+                if (affectedRows > 0) {
+                    // 생성된 ID 가져오기
+                    try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                        if (generatedKeys.next()) {
+                            emailId = generatedKeys.getInt(1);
+                        }
                     }
                 }
             }
 
             // 생성 실패 시 별도 쿼리로 마지막 삽입 ID 조회 시도
             if (emailId == -1) {
-                String lastIdQuery = QueryUtil.getQuery("getLastInsertId");
-                try (Statement stmt = connection.createStatement();
+                String lastIdQuery = Query.GET_LAST_INSERT_ID.sql();
+                try (Statement stmt = getConnection().createStatement();
                      ResultSet rs = stmt.executeQuery(lastIdQuery)) {
                     if (rs.next()) {
                         emailId = rs.getInt(1);
                     }
                 }
             }
+
+            TransactionManager.commit();
         } catch (SQLException e) {
+            TransactionManager.rollback();
             e.printStackTrace();
+            emailId = -1;
+        } finally {
+            TransactionManager.end();
         }
 
         return emailId;
     }
 
+    /**
+     * 이메일이 참조할 공유 본문 확보
+     *
+     * 원문의 SHA-256 해시로 기존 본문을 찾아 참조 수를 늘리고, 없으면 새로 저장합니다.
+     * 기존 본문이 있으면 해시만 전송하므로 본문 쓰기가 생략됩니다.
+     * 새 본문은 전문 인덱스(ft_email_body)로 검색되도록 항상 원문으로 body 컬럼에 저장하며,
+     * 저장 공간은 EMAIL_BODY 테이블의 InnoDB 압축(ROW_FORMAT=COMPRESSED)으로 줄입니다.
+     * 동시에 같은 본문이 저장되면 createEmailBody 쿼리가 참조 수를 늘리고 기존 ID를 반환합니다.
+     *
+     * @param body 이메일 본문
+     * @return 본문 ID (EMAIL_BODY.body_idx)
+     * @throws SQLException 쿼리 실행 중 오류가 발생하거나 본문 ID를 얻지 못한 경우
+     */
+    private int acquireEmailBody(String body) throws SQLException {
+        byte[] contentHash = BodyHash.contentHash(body);
+
+        // 같은 내용의 본문이 있으면 참조 수만 증가
+        try (PreparedStatement ps = prepare(Query.ADD_EMAIL_BODY_REFERENCE)) {
+            ps.setBytes(1, contentHash);
+            if (ps.executeUpdate() > 0) {
+                try (PreparedStatement select = prepare(Query.GET_EMAIL_BODY_ID_BY_HASH)) {
+                    select.setBytes(1, contentHash);
+                    try (ResultSet rs = select.executeQuery()) {
+                        if (rs.next()) {
+                            return rs.getInt("body_idx");
+                        }
+                    }
+                }
+            }
+        }
+
+        // 새 본문 저장
+        try (PreparedStatement ps = prepare(Query.CREATE_EMAIL_BODY, Statement.RETURN_GENERATED_KEYS)) {
+            ps.setBytes(1, contentHash);
+            ps.setString(2, body);
+            ps.executeUpdate();
+
+            try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    return generatedKeys.getInt(1);
+                }
+            }
+        }
+
+        throw new SQLException("이메일 본문 ID를 얻지 못했습니다.");
+    }
 
     /**
      * 이메일 ID로 이메일 조회
@@ -102,25 +220,15 @@ public class EmailDaoImpl implements EmailDao {
      */
     @Override
     public Email getEmailById(int emailId) {
-        String query = QueryUtil.getQuery("getEmailById");
         Email email = null;
 
-        try (PreparedStatement ps = connection.prepareStatement(query)) {
+        try (PreparedStatement ps = prepare(Query.GET_EMAIL_BY_ID)) {
             ps.setInt(1, emailId);
 
             try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    email = new Email();
-                    email.setEmailIdx(rs.getInt("email_idx"));
-                    email.setSenderId(rs.getInt("sender_id"));
-                    email.setTitle(rs.getString("title"));
-                    email.setBody(rs.getString("body"));
-                    email.setStatus(rs.getString("status").charAt(0));
-
-                    Timestamp createdAt = rs.getTimestamp("created_at");
-                    if (createdAt != null) {
-                        email.setCreatedAt(createdAt.toLocalDateTime());
-                    }
+                email = RowMappers.EMAIL_HEADER.mapFirst(rs);
+                if (email != null) {
+                    setBodyLoader(email);
                 }
             }
         } catch (SQLException e) {
@@ -130,6 +238,33 @@ public class EmailDaoImpl implements EmailDao {
         return email;
     }
 
+    /**
+     * 이메일 본문 조회
+     *
+     * 헤더만 조회한 이메일의 본문이 필요할 때(상세 보기 등) 호출됩니다.
+     *
+     * @param emailId 이메일 ID
+     * @return 이메일 본문, 없으면 null
+     */
+    @Override
+    public String getEmailBody(int emailId) {
+
+        try (PreparedStatement ps = prepare(Query.GET_EMAIL_BODY)) {
+            ps.setInt(1, emailId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getString("body");
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("이메일 본문 조회 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
     /**
      * 발신자 ID로 보낸 이메일 목록 조회
      *
@@ -141,28 +276,13 @@ public class EmailDaoImpl implements EmailDao {
      */
     @Override
     public List<Email> getEmailsBySenderId(int senderId) {
-        String query = QueryUtil.getQuery("getEmailsBySenderId");
         List<Email> emails = new ArrayList<>();
 
-        try (PreparedStatement ps = connection.prepareStatement(query)) {
+        try (PreparedStatement ps = prepare(Query.GET_EMAILS_BY_SENDER_ID)) {
             ps.setInt(1, senderId);
 
             try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    Email email = new Email();
-                    email.setEmailIdx(rs.getInt("email_idx"));
-                    email.setSenderId(rs.getInt("sender_id"));
-                    email.setTitle(rs.getString("title"));
-                    email.setBody(rs.getString("body"));
-                    email.setStatus(rs.getString("status").charAt(0));
-
-                    Timestamp createdAt = rs.getTimestamp("created_at");
-                    if (createdAt != null) {
-                        email.setCreatedAt(createdAt.toLocalDateTime());
-                    }
-
-                    emails.add(email);
-                }
+                emails.addAll(mapEmailHeaders(rs));
             }
         } catch (SQLException e) {
             System.err.println("보낸 이메일 목록 조회 실패: " + e.getMessage());
@@ -172,50 +292,345 @@ public class EmailDaoImpl implements EmailDao {
         return emails;
     }
 
+    /**
+     * 보낸 메일함 첫 페이지 조회
+     *
+     * @param senderId 발신자 ID
+     * @param limit    조회할 최대 개수
+     * @return 본문이 비어 있는 이메일 목록 (최신순)
+     */
+    @Override
+    public List<Email> getSentEmailsFirstPage(int senderId, int limit) {
+        List<Email> emails = new ArrayList<>();
+
+        try (PreparedStatement ps = prepare(Query.GET_SENT_EMAILS_FIRST_PAGE)) {
+            ps.setInt(1, senderId);
+            ps.setInt(2, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                emails.addAll(mapEmailHeaders(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("보낸 메일함 페이지 조회 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return emails;
+    }
+
+    /**
+     * 커서보다 오래된 보낸 메일 페이지 조회 (다음 페이지)
+     *
+     * @param senderId      발신자 ID
+     * @param cursorDate    커서 이메일의 발송 일시
+     * @param cursorEmailId 커서 이메일의 ID
+     * @param limit         조회할 최대 개수
+     * @return 본문이 비어 있는 이메일 목록 (최신순)
+     */
+    @Override
+    public List<Email> getSentEmailsOlderThan(int senderId, LocalDateTime cursorDate, int cursorEmailId, int limit) {
+        return getSentEmailsByCursor(Query.GET_SENT_EMAILS_OLDER_PAGE, senderId, cursorDate, cursorEmailId, limit);
+    }
+
+    /**
+     * 커서보다 최근의 보낸 메일 페이지 조회 (이전 페이지)
+     *
+     * 쿼리는 커서에 가까운 순서(오래된 순)로 조회하므로, 결과를 뒤집어 최신순으로 반환합니다.
+     *
+     * @param senderId      발신자 ID
+     * @param cursorDate    커서 이메일의 발송 일시
+     * @param cursorEmailId 커서 이메일의 ID
+     * @param limit         조회할 최대 개수
+     * @return 본문이 비어 있는 이메일 목록 (최신순)
+     */
+    @Override
+    public List<Email> getSentEmailsNewerThan(int senderId, LocalDateTime cursorDate, int cursorEmailId, int limit) {
+        List<Email> emails = getSentEmailsByCursor(Query.GET_SENT_EMAILS_NEWER_PAGE, senderId, cursorDate, cursorEmailId, limit);
+        Collections.reverse(emails);
+        return emails;
+    }
+
+    /**
+     * 커서 기준 보낸 메일 페이지 조회 공통 처리
+     *
+     * @param query         실행할 쿼리
+     * @param senderId      발신자 ID
+     * @param cursorDate    커서 이메일의 발송 일시
+     * @param cursorEmailId 커서 이메일의 ID
+     * @param limit         조회할 최대 개수
+     * @return 쿼리 순서대로 담긴 이메일 목록
+     */
+    private List<Email> getSentEmailsByCursor(Query query, int senderId,
+                                              LocalDateTime cursorDate, int cursorEmailId, int limit) {
+        List<Email> emails = new ArrayList<>();
+        Timestamp cursorTimestamp = Timestamp.valueOf(cursorDate);
+
+        try (PreparedStatement ps = prepare(query)) {
+            ParameterBinder.of(ps, query)
+                    .setInt("senderId", senderId)
+                    .setTimestamp("cursorDate", cursorTimestamp)
+                    .setInt("cursorEmailId", cursorEmailId)
+                    .setInt("limit", limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                emails.addAll(mapEmailHeaders(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("보낸 메일함 페이지 조회 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return emails;
+    }
+
+    /**
+     * 이메일 ID 순서로 이메일 목록 조회
+     *
+     * 지정된 ID보다 큰 이메일을 ID 오름차순으로 최대 limit개 조회합니다.
+     * 전체 이메일을 나누어 읽어야 하는 검색 색인 재구축 시 호출됩니다.
+     *
+     * @param lastEmailIdx 마지막으로 조회한 이메일 ID (처음에는 0)
+     * @param limit        조회할 최대 개수
+     * @return 이메일 목록, 더 이상 없으면 빈 목록
+     */
     @Override
-    public List<Email> searchReceivedEmails(String keyword, int receiverId) {
-        String query = QueryUtil.getQuery("searchReceivedEmailsByKeyword");
+    public List<Email> getEmailsAfter(int lastEmailIdx, int limit) {
         List<Email> emails = new ArrayList<>();
 
-        // 검색 키워드에 '%' 와일드카드 추가
+        try (PreparedStatement ps = prepare(Query.GET_EMAILS_AFTER)) {
+            ps.setInt(1, lastEmailIdx);
+            ps.setInt(2, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                emails.addAll(RowMappers.EMAIL.mapAll(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("이메일 목록 조회 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return emails;
+    }
+
+    /**
+     * 이메일 본문 저장 상태 조회
+     *
+     * 테이블 크기는 information_schema.TABLES의 추정치이며,
+     * InnoDB 압축 페이지 통계는 PROCESS 권한이 없으면 조회하지 않고 compressionAvailable을 false로 둡니다.
+     *
+     * @return 본문 저장 상태, 조회에 실패하면 모든 값이 비어 있는 객체
+     */
+    @Override
+    public BodyStorageDto getBodyStorage() {
+        BodyStorageDto storage = new BodyStorageDto();
+
+        try (PreparedStatement ps = prepare(Query.GET_EMAIL_BODY_STORAGE);
+             ResultSet rs = ps.executeQuery()) {
+            if (rs.next()) {
+                storage.setRowFormat(rs.getString("row_format"));
+                storage.setCreateOptions(rs.getString("create_options"));
+                storage.setRowCount(rs.getLong("table_rows"));
+                storage.setDataBytes(rs.getLong("data_length"));
+                storage.setIndexBytes(rs.getLong("index_length"));
+            }
+        } catch (SQLException e) {
+            System.err.println("본문 저장 상태 조회 실패: " + e.getMessage());
+            e.printStackTrace();
+            return storage;
+        }
+
+        try (PreparedStatement ps = prepare(Query.GET_INNODB_COMPRESSION_STATISTICS)) {
+            ps.setInt(1, BODY_PAGE_SIZE);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    storage.setCompressOps(rs.getLong("compress_ops"));
+                    storage.setCompressOpsOk(rs.getLong("compress_ops_ok"));
+                    storage.setCompressSeconds(rs.getLong("compress_time"));
+                    storage.setUncompressOps(rs.getLong("uncompress_ops"));
+                    storage.setUncompressSeconds(rs.getLong("uncompress_time"));
+                    storage.setCompressionAvailable(true);
+                }
+            }
+        } catch (SQLException e) {
+            // PROCESS 권한이 없으면 테이블 크기만 보고
+            System.err.println("InnoDB 압축 통계 조회 실패: " + e.getMessage());
+        }
+
+        return storage;
+    }
+
+    /**
+     * 키워드로 수신 이메일 검색
+     *
+     * 제목과 본문은 ngram 전문 인덱스(ft_email_title, ft_email_body)로 검색하여 메일 수가 늘어나도
+     * 본문 전체를 읽지 않으며, 발신자 이름과 이메일은 LIKE로 검색합니다.
+     * 키워드는 큰따옴표로 감싼 구문으로 검색하므로 기존 LIKE 검색과 같이 연속된 문자열만 일치합니다.
+     * ngram 토큰보다 짧은 1글자 키워드는 전문 인덱스로 찾을 수 없으므로 LIKE 검색을 사용합니다.
+     *
+     * 발신자 이름, 이메일과 읽음 여부도 같은 쿼리로 조회하여 검색 결과 DTO로 바로 변환합니다.
+     *
+     * @param keyword    검색할 키워드
+     * @param receiverId 수신자 ID
+     * @return 검색 결과 목록 (최신순)
+     */
+    @Override
+    public List<ReceivedEmailSearchDto> searchReceivedEmails(String keyword, int receiverId) {
+        // 검색 키워드에 '%' 와일드카드 추가 (발신자 검색 및 짧은 키워드 검색용)
         String searchPattern = "%" + keyword + "%";
 
-        try (PreparedStatement ps = connection.prepareStatement(query)) {
-            // 파라미터 설정 - 수신 이메일만 검색
-            ps.setInt(1, receiverId);           // receiver_id = ?
-            ps.setString(2, searchPattern);     // title LIKE ?
-            ps.setString(3, searchPattern);     // body LIKE ?
-            ps.setString(4, searchPattern);     // sender_name LIKE ?
-            ps.setString(5, searchPattern);     // sender_email LIKE ?
+        // 전문 검색 구문 연산자로 해석되지 않도록 큰따옴표 제거
+        String phrase = keyword.replace("\"", "").trim();
+        if (phrase.length() < FULLTEXT_MIN_KEYWORD_LENGTH) {
+            return searchReceivedEmailsByLike(searchPattern, receiverId);
+        }
+
+        List<ReceivedEmailSearchDto> results = new ArrayList<>();
+
+        try (PreparedStatement ps = prepare(Query.SEARCH_RECEIVED_EMAILS_BY_KEYWORD)) {
+            // 파라미터 설정 - 수신 이메일만 검색 (같은 이름의 매개변수는 한 번에 설정)
+            ParameterBinder.of(ps, Query.SEARCH_RECEIVED_EMAILS_BY_KEYWORD)
+                    .setString("phrase", "\"" + phrase + "\"")   // MATCH(title/body) AGAINST
+                    .setInt("receiverId", receiverId)
+                    .setString("pattern", searchPattern);       // 발신자 이름/이메일 LIKE
 
             // 결과 처리
             try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    Email email = new Email();
-                    email.setEmailIdx(rs.getInt("email_idx"));
-                    email.setSenderId(rs.getInt("sender_id"));
-                    email.setTitle(rs.getString("title"));
-                    email.setBody(rs.getString("body"));
-
-                    Timestamp createdAt = rs.getTimestamp("created_at");
-                    if (createdAt != null) {
-                        email.setCreatedAt(createdAt.toLocalDateTime());
-                    }
+                results.addAll(RowMappers.RECEIVED_EMAIL_SEARCH.mapAll(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("수신 이메일 검색 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
 
-                    emails.add(email);
-                }
+        return results;
+    }
+
+    /**
+     * LIKE 패턴으로 수신 이메일 검색 (1글자 키워드용)
+     *
+     * @param searchPattern '%'가 추가된 검색 패턴
+     * @param receiverId    수신자 ID
+     * @return 검색 결과 목록 (최신순)
+     */
+    private List<ReceivedEmailSearchDto> searchReceivedEmailsByLike(String searchPattern, int receiverId) {
+        List<ReceivedEmailSearchDto> results = new ArrayList<>();
+
+        try (PreparedStatement ps = prepare(Query.SEARCH_RECEIVED_EMAILS_BY_KEYWORD_LIKE)) {
+            // 파라미터 설정 - 수신 이메일만 검색
+            ParameterBinder.of(ps, Query.SEARCH_RECEIVED_EMAILS_BY_KEYWORD_LIKE)
+                    .setInt("receiverId", receiverId)
+                    .setString("pattern", searchPattern);   // 제목, 본문, 발신자 이름/이메일 LIKE
+
+            // 결과 처리
+            try (ResultSet rs = ps.executeQuery()) {
+                results.addAll(RowMappers.RECEIVED_EMAIL_SEARCH.mapAll(rs));
             }
         } catch (SQLException e) {
             System.err.println("수신 이메일 검색 실패: " + e.getMessage());
             e.printStackTrace();
         }
 
+        return results;
+    }
+
+    /**
+     * 본문으로 목록 표시용 미리보기 생성
+     *
+     * 연속된 공백과 줄바꿈을 공백 하나로 바꾸고 SNIPPET_LENGTH 글자까지 자릅니다.
+     *
+     * @param body 이메일 본문
+     * @return 본문 미리보기
+     */
+    private static String toSnippet(String body) {
+        if (body == null) {
+            return "";
+        }
+        String text = body.replaceAll("\\s+", " ").trim();
+        if (text.codePointCount(0, text.length()) > SNIPPET_LENGTH) {
+            text = text.substring(0, text.offsetByCodePoints(0, SNIPPET_LENGTH));
+        }
+        return text;
+    }
+
+    /**
+     * 본문을 제외한 이메일 행을 모두 Email 객체로 변환
+     *
+     * 컬럼 위치는 결과마다 한 번만 계산하며, 본문은 getBody()를 처음 호출할 때 조회됩니다.
+     *
+     * @param rs 이메일 헤더 쿼리 결과 (email_idx, sender_id, title, snippet, status, created_at)
+     * @return 본문을 나중에 조회하는 이메일 목록
+     * @throws SQLException 컬럼 조회 중 오류 발생 시
+     */
+    private List<Email> mapEmailHeaders(ResultSet rs) throws SQLException {
+        List<Email> emails = RowMappers.EMAIL_HEADER.mapAll(rs);
+        for (Email email : emails) {
+            setBodyLoader(email);
+        }
         return emails;
     }
 
+    /**
+     * 본문을 getEmailBody로 조회하도록 로더 설정
+     *
+     * @param email 본문을 제외하고 조회한 이메일
+     */
+    private void setBodyLoader(Email email) {
+        int emailId = email.getEmailIdx();
+        email.setBodyLoader(() -> getEmailBody(emailId));
+    }
+
+    /**
+     * 키워드로 발신 이메일 검색
+     *
+     * 제목/본문은 전문 인덱스로, 수신자 이름/이메일은 LIKE로 검색합니다.
+     * 쿼리는 일치한 이메일마다 수신자 수만큼 행을 반환하며,
+     * 같은 이메일의 행은 연속되므로 한 번 순회하면서 수신자 목록으로 묶습니다.
+     * 전문 인덱스 토큰보다 짧은 키워드는 LIKE 검색으로 처리합니다.
+     *
+     * @param keyword  검색할 키워드
+     * @param senderId 발신자 ID
+     * @return 수신자 목록이 채워진 검색 결과 목록 (최신순)
+     */
     @Override
-    public List<Email> searchSentEmails(String keyword, int senderId) {
-        return List.of();
+    public List<SentEmailSearchDto> searchSentEmails(String keyword, int senderId) {
+        // 검색 키워드에 '%' 와일드카드 추가 (수신자 검색 및 짧은 키워드 검색용)
+        String searchPattern = "%" + keyword + "%";
+
+        // 전문 검색 구문 연산자로 해석되지 않도록 큰따옴표 제거
+        String phrase = keyword.replace("\"", "").trim();
+        boolean useFulltext = phrase.length() >= FULLTEXT_MIN_KEYWORD_LENGTH;
+
+        List<SentEmailSearchDto> results = new ArrayList<>();
+
+        Query query = useFulltext ? Query.SEARCH_SENT_EMAILS_BY_KEYWORD : Query.SEARCH_SENT_EMAILS_BY_KEYWORD_LIKE;
+        try (PreparedStatement ps = prepare(query)) {
+            // 파라미터 설정 - 제목/본문 조건과 수신자 조건
+            ParameterBinder binder = ParameterBinder.of(ps, query)
+                    .setInt("senderId", senderId)
+                    .setString("pattern", searchPattern);   // 수신자 이름/이메일 LIKE (짧은 키워드는 제목, 본문도 LIKE)
+            if (useFulltext) {
+                binder.setString("phrase", "\"" + phrase + "\"");   // MATCH(title/body) AGAINST
+            }
+
+            // 결과 처리 - 연속된 같은 이메일 행을 하나의 DTO로 묶음
+            try (ResultSet rs = ps.executeQuery()) {
+                SentEmailSearchDto current = null;
+                for (SentEmailSearchDto row : RowMappers.SENT_EMAIL_SEARCH.mapAll(rs)) {
+                    if (current != null && current.getEmailId() == row.getEmailId()) {
+                        current.addReceiver(row.getReceiverNames().get(0), row.getReceiverEmails().get(0));
+                    } else {
+                        current = row;
+                        results.add(current);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("발신 이메일 검색 실패: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return results;
     }
 
 
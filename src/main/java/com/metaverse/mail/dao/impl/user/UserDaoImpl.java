@@ -3,9 +3,21 @@ package com.metaverse.mail.dao.impl.user;
 import com.metaverse.mail.common.Session;
 import com.metaverse.mail.dao.interfaces.UserDao;
 import com.metaverse.mail.model.User;
-import com.metaverse.mail.common.QueryUtil;
+import com.metaverse.mail.common.ParameterBinder;
+import com.metaverse.mail.common.Query;
+import com.metaverse.mail.common.StatementCache;
+import com.metaverse.mail.common.TransactionManager;
+import com.metaverse.mail.dao.impl.RowMappers;
 
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 /*
  * UserDao 구현 클래스
@@ -13,6 +25,9 @@ import java.sql.*;
  */
 public class UserDaoImpl implements UserDao {
 
+    // IN 조건 한 번에 바인딩할 최대 이메일 주소 수
+    private static final int EMAIL_ID_CHUNK_SIZE = 500;
+
     private final Connection connection;
 
     // 생성자 - 데이터베이스 연결을 받는 생성자
@@ -20,22 +35,35 @@ public class UserDaoImpl implements UserDao {
         this.connection = connection;
     }
 
+    /*
+     * 쿼리 실행에 사용할 연결 반환
+     * 진행 중인 트랜잭션이 있으면 그 연결을, 없으면 생성 시 주입된 연결을 사용
+     */
+    private Connection getConnection() {
+        return TransactionManager.getConnection(connection);
+    }
+
+    /*
+     * 쿼리로 PreparedStatement 준비
+     * 연결별 캐시를 사용하므로 같은 쿼리는 다시 준비하지 않음 (닫으면 캐시로 반환)
+     */
+    private PreparedStatement prepare(Query query) throws SQLException {
+        return StatementCache.prepare(getConnection(), query);
+    }
+
     /*
      * 사용자 ID로 사용자 정보 조회
      * 사용자 ID를 이용하여 데이터베이스에서 해당 사용자 정보를 조회
      */
     @Override
     public User findById(int userId) {
-        String query = QueryUtil.getQuery("findUserById"); // XML에서 쿼리 가져오기
         User user = null;
 
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (PreparedStatement pstmt = prepare(Query.FIND_USER_BY_ID)) {
             pstmt.setInt(1, userId);  // 사용자 ID 매개변수 설정
             ResultSet rs = pstmt.executeQuery();
 
-            if (rs.next()) {
-                user = mapToUser(rs);  // 사용자가 존재하면 User 객체로 변환
-            }
+            user = RowMappers.USER.mapFirst(rs);  // 사용자가 존재하면 User 객체로 변환
         } catch (SQLException e) {
             e.printStackTrace();  // 예외 처리 (로깅 추가 가능)
         }
@@ -49,16 +77,13 @@ public class UserDaoImpl implements UserDao {
      */
     @Override
     public User findByEmailId(String emailId) {
-        String query = QueryUtil.getQuery("findUserByEmailId"); // XML에서 쿼리 가져오기
         User user = null;
 
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (PreparedStatement pstmt = prepare(Query.FIND_USER_BY_EMAIL_ID)) {
             pstmt.setString(1, emailId);  // 이메일 ID 매개변수 설정
             ResultSet rs = pstmt.executeQuery();
 
-            if (rs.next()) {
-                user = mapToUser(rs);  // 사용자가 존재하면 User 객체로 변환
-            }
+            user = RowMappers.USER.mapFirst(rs);  // 사용자가 존재하면 User 객체로 변환
         } catch (SQLException e) {
             e.printStackTrace();  // 예외 처리 (로깅 추가 가능)
         }
@@ -66,15 +91,76 @@ public class UserDaoImpl implements UserDao {
         return user;  // 사용자 반환, 없으면 null 반환
     }
 
+    /*
+     * 여러 이메일 주소로 사용자 정보 일괄 조회
+     * 수신자 목록을 EMAIL_ID_CHUNK_SIZE 단위의 IN 조건으로 나누어 조회 (메일 발송)
+     * USER.email_id 컬럼 collation과 같이 대소문자를 구분하지 않는 Map으로 반환
+     */
+    @Override
+    public Map<String, User> findByEmailIds(Collection<String> emailIds) {
+        Map<String, User> users = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (emailIds == null || emailIds.isEmpty()) {
+            return users;
+        }
+
+        // 중복 주소 제거 (대소문자 무시)
+        Set<String> distinctEmailIds = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String emailId : emailIds) {
+            if (emailId != null) {
+                distinctEmailIds.add(emailId);
+            }
+        }
+
+        List<String> pending = new ArrayList<>(distinctEmailIds);
+        for (int from = 0; from < pending.size(); from += EMAIL_ID_CHUNK_SIZE) {
+            List<String> chunk = pending.subList(from, Math.min(from + EMAIL_ID_CHUNK_SIZE, pending.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String query = String.format(Query.FIND_USERS_BY_EMAIL_IDS.sql(), placeholders); // XML 쿼리에 '?' 목록 채우기
+
+            try (PreparedStatement pstmt = getConnection().prepareStatement(query)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    pstmt.setString(i + 1, chunk.get(i));  // 이메일 ID 매개변수 설정
+                }
+                ResultSet rs = pstmt.executeQuery();
+
+                for (User user : RowMappers.USER.mapAll(rs)) {  // 컬럼 위치는 묶음마다 한 번만 계산
+                    users.put(user.getEmailId(), user);
+                }
+            } catch (SQLException e) {
+                e.printStackTrace();  // 예외 처리 (로깅 추가 가능)
+            }
+        }
+
+        return users;  // 조회된 사용자만 포함
+    }
+
+    /*
+     * 전체 사용자 목록 조회
+     * 탈퇴한 사용자를 포함한 모든 사용자 정보를 조회 (검색 색인 재구축)
+     */
+    @Override
+    public List<User> findAll() {
+        List<User> users = new ArrayList<>();
+
+        try (PreparedStatement pstmt = prepare(Query.FIND_ALL_USERS)) {
+            ResultSet rs = pstmt.executeQuery();
+
+            users.addAll(RowMappers.USER.mapAll(rs));  // 각 행을 User 객체로 변환
+        } catch (SQLException e) {
+            e.printStackTrace();  // 예외 처리 (로깅 추가 가능)
+        }
+
+        return users;  // 사용자 목록 반환
+    }
+
     /*
      * 새 사용자 추가
      * 새 사용자의 정보를 데이터베이스에 추가하는 메서드 (회원가입)
      */
     @Override
     public boolean insert(User user) {
-        String query = QueryUtil.getQuery("insertUser"); // XML에서 쿼리 가져오기
 
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (PreparedStatement pstmt = prepare(Query.INSERT_USER)) {
             pstmt.setString(1, user.getEmailId());  // 이메일 ID 설정
             pstmt.setString(2, user.getEmailPwd());  // 비밀번호 설정
             pstmt.setString(3, user.getNickname());  // 닉네임 설정
@@ -90,11 +176,11 @@ public class UserDaoImpl implements UserDao {
 
     @Override
     public boolean updateNickname(int userIdx, String nickname) {
-        String query = QueryUtil.getQuery("updateNickname"); // XML에서 쿼리 가져오기
 
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
-            pstmt.setString(1, nickname);  // 새 닉네임 설정
-            pstmt.setInt(2, userIdx);  // userIdx는 사용자 식별자(ID)
+        try (PreparedStatement pstmt = prepare(Query.UPDATE_NICKNAME)) {
+            ParameterBinder.of(pstmt, Query.UPDATE_NICKNAME)
+                    .setString("nickname", nickname)  // 새 닉네임 설정
+                    .setInt("idx", userIdx);  // userIdx는 사용자 식별자(ID)
             int updatedRows = pstmt.executeUpdate(); // 실행된 업데이트된 행의 수
             return updatedRows > 0; // 수정된 행이 있으면 성공
 
@@ -107,11 +193,11 @@ public class UserDaoImpl implements UserDao {
 
     @Override
     public boolean updatePassword(int userIdx, String newPassword) {
-        String query = QueryUtil.getQuery("updatePassword"); // XML에서 쿼리 가져오기
 
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
-            pstmt.setString(1, newPassword);  // 새 비밀번호 설정
-            pstmt.setInt(2, userIdx);  // userIdx는 사용자 식별자(ID)
+        try (PreparedStatement pstmt = prepare(Query.UPDATE_PASSWORD)) {
+            ParameterBinder.of(pstmt, Query.UPDATE_PASSWORD)
+                    .setString("password", newPassword)  // 새 비밀번호 설정
+                    .setInt("idx", userIdx);  // userIdx는 사용자 식별자(ID)
             int updatedRows = pstmt.executeUpdate();
             return updatedRows > 0;
 
@@ -128,9 +214,8 @@ public class UserDaoImpl implements UserDao {
      */
     @Override
     public boolean updateStatus(int userId, char status) {
-        String query = QueryUtil.getQuery("updateUserStatus"); // XML에서 쿼리 가져오기
 
-        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+        try (PreparedStatement pstmt = prepare(Query.UPDATE_USER_STATUS)) {
             pstmt.setString(1, String.valueOf(status));  // 상태 설정
             pstmt.setInt(2, userId);  // 사용자 ID 설정
             int updatedRows = pstmt.executeUpdate(); // 실행된 업데이트된 행의 수
@@ -142,25 +227,4 @@ public class UserDaoImpl implements UserDao {
 
         return false;  // 상태 변경 실패
     }
-
-    /*
-     * ResultSet을 User 객체로 변환하는 메서드
-     * 데이터베이스에서 가져온 ResultSet을 User 객체로 변환하는 유틸리티 메서드
-     */
-    private User mapToUser(ResultSet rs) throws SQLException {
-        User user = new User();
-        user.setIdx(rs.getInt("idx"));  // 사용자 ID 설정
-        user.setEmailId(rs.getString("email_id"));  // 이메일 ID 설정
-        user.setEmailPwd(rs.getString("email_pwd"));  // 해시된 비밀번호 설정
-        user.setNickname(rs.getString("nickname"));  // 닉네임 설정
-        user.setStatus(rs.getString("status").charAt(0));  // 상태 설정
-        // null 체크 후 toLocalDateTime 호출
-        Timestamp createdAt = rs.getTimestamp("created_at");
-        user.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null); // 생성일 설정
-        Timestamp updatedAt = rs.getTimestamp("updated_at");
-        user.setUpdatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null); // 수정일 설정
-        Timestamp deletedAt = rs.getTimestamp("deleted_at");
-        user.setDeletedAt(deletedAt != null ? deletedAt.toLocalDateTime() : null); // 삭제일 설정
-        return user;  // User 객체 반환
-    }
 }
@@ -1,6 +1,11 @@
 package com.metaverse.mail.dao.interfaces;
 
+import com.metaverse.mail.dto.mail.BodyStorageDto;
+import com.metaverse.mail.dto.mail.ReceivedEmailSearchDto;
+import com.metaverse.mail.dto.mail.SentEmailSearchDto;
 import com.metaverse.mail.model.Email;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -33,46 +38,121 @@ public interface EmailDao {
      * 
      * 데이터베이스에서 지정된 ID에 해당하는 이메일 정보를 검색합니다.
      * 이메일 상세 보기 시 호출됩니다.
+     * 헤더만 조회하며, 본문은 getBody()를 처음 호출할 때 조회됩니다.
      *
      * @param emailId 이메일 ID
      * @return 이메일 객체, 없으면 null
      */
     Email getEmailById(int emailId);
 
+    /**
+     * 이메일 본문 조회
+     * 
+     * 헤더만 조회한 이메일의 본문이 필요할 때 호출됩니다.
+     *
+     * @param emailId 이메일 ID
+     * @return 이메일 본문, 없으면 null
+     */
+    String getEmailBody(int emailId);
+
     /**
      * 발신자 ID로 보낸 이메일 목록 조회
      * 
      * 특정 사용자가 보낸 이메일 목록을 데이터베이스에서 조회합니다.
      * 보낸 메일함 기능 구현 시 호출됩니다.
+     * 본문 대신 미리보기만 조회하며, 본문은 getBody()를 처음 호출할 때 조회됩니다.
      *
      * @param senderId 발신자 ID
      * @return 이메일 목록
      */
     List<Email> getEmailsBySenderId(int senderId);
 
+    /**
+     * 보낸 메일함 첫 페이지 조회
+     *
+     * 가장 최근에 보낸 이메일부터 최대 limit개의 헤더(ID, 제목, 발송 일시)를 조회합니다.
+     * 목록 표시에는 본문이 필요 없으므로 본문은 조회하지 않습니다.
+     *
+     * @param senderId 발신자 ID
+     * @param limit 조회할 최대 개수
+     * @return 본문이 비어 있는 이메일 목록 (최신순)
+     */
+    List<Email> getSentEmailsFirstPage(int senderId, int limit);
+
+    /**
+     * 커서보다 오래된 보낸 메일 페이지 조회 (다음 페이지)
+     *
+     * (발송 일시, 이메일 ID)가 커서보다 작은 이메일 헤더를 최대 limit개 조회합니다.
+     *
+     * @param senderId 발신자 ID
+     * @param cursorDate 커서 이메일의 발송 일시
+     * @param cursorEmailId 커서 이메일의 ID
+     * @param limit 조회할 최대 개수
+     * @return 본문이 비어 있는 이메일 목록 (최신순)
+     */
+    List<Email> getSentEmailsOlderThan(int senderId, LocalDateTime cursorDate, int cursorEmailId, int limit);
+
+    /**
+     * 커서보다 최근의 보낸 메일 페이지 조회 (이전 페이지)
+     *
+     * (발송 일시, 이메일 ID)가 커서보다 큰 이메일 중 커서에 가장 가까운 최대 limit개의 헤더를 조회합니다.
+     *
+     * @param senderId 발신자 ID
+     * @param cursorDate 커서 이메일의 발송 일시
+     * @param cursorEmailId 커서 이메일의 ID
+     * @param limit 조회할 최대 개수
+     * @return 본문이 비어 있는 이메일 목록 (최신순)
+     */
+    List<Email> getSentEmailsNewerThan(int senderId, LocalDateTime cursorDate, int cursorEmailId, int limit);
+
+    /**
+     * 이메일 ID 순서로 이메일 목록 조회
+     *
+     * 지정된 ID보다 큰 이메일을 ID 오름차순으로 최대 limit개 조회합니다.
+     * 전체 이메일을 나누어 읽어야 하는 검색 색인 재구축 시 호출됩니다.
+     *
+     * @param lastEmailIdx 마지막으로 조회한 이메일 ID (처음에는 0)
+     * @param limit 조회할 최대 개수
+     * @return 이메일 목록, 더 이상 없으면 빈 목록
+     */
+    List<Email> getEmailsAfter(int lastEmailIdx, int limit);
+
+    /**
+     * 이메일 본문 저장 상태 조회
+     *
+     * EMAIL_BODY 테이블의 저장 형식, 크기와 InnoDB 압축 페이지 통계를 조회합니다.
+     * 검색 색인 재구축 도구에서 본문 저장 공간을 확인할 때 호출됩니다.
+     *
+     * @return 본문 저장 상태, 조회에 실패하면 모든 값이 비어 있는 객체
+     */
+    BodyStorageDto getBodyStorage();
+
     /**
      * 키워드로 수신 이메일 검색
      * 
      * 특정 사용자가 받은 이메일 중에서 주어진 키워드가 포함된 이메일을 검색합니다.
      * 메일 검색 기능 구현 시 호출됩니다.
+     * 발신자 정보와 읽음 여부를 검색 쿼리 하나로 함께 조회하여 검색 결과 DTO로 반환합니다.
      *
      * @param keyword 검색할 키워드
      * @param receiverId 수신자 ID
-     * @return 검색된 이메일 목록
+     * @return 검색 결과 목록 (최신순)
      */
-    List<Email> searchReceivedEmails(String keyword, int receiverId);
+    List<ReceivedEmailSearchDto> searchReceivedEmails(String keyword, int receiverId);
 
     /**
      * 키워드로 발신 이메일 검색
      * 
      * 특정 사용자가 보낸 이메일 중에서 주어진 키워드가 포함된 이메일을 검색합니다.
      * 메일 검색 기능 구현 시 호출됩니다.
+     * 제목, 본문 또는 수신자 이름/이메일이 일치하는 이메일을 찾으며,
+     * 각 이메일의 수신자 목록까지 검색 쿼리 하나로 함께 조회합니다.
      *
      * @param keyword 검색할 키워드
      * @param senderId 발신자 ID
-     * @return 검색된 이메일 목록
+     * @return 수신자 목록이 채워진 검색 결과 목록 (최신순)
      */
-    List<Email> searchSentEmails(String keyword, int senderId);
+    List<SentEmailSearchDto> searchSentEmails(String keyword, int senderId);
 
     /**
      * 이메일 삭제 (실제 삭제가 아닌 상태 변경)
@@ -1,7 +1,12 @@
 package com.metaverse.mail.dao.interfaces;
 
+import com.metaverse.mail.dto.inbox.MailboxSummaryDto;
+import com.metaverse.mail.dto.mail.ReceivedEmailDto;
 import com.metaverse.mail.model.EmailLink;
+import com.metaverse.mail.model.User;
+
 import java.util.List;
+import java.util.Map;
 
 /**
  * 이메일 링크(이메일-수신자 연결 정보) 데이터 액세스를 위한 인터페이스
@@ -29,6 +34,18 @@ public interface EmailLinkDao {
      */
     boolean createEmailLink(int emailId, int receiverId);
 
+    /**
+     * 여러 수신자에 대한 이메일 링크 일괄 생성
+     *
+     * 모든 수신자의 연결 정보를 JDBC 배치로 묶어 저장합니다.
+     * 수신자가 많은 이메일도 수신자 수만큼 왕복하지 않고 몇 번의 요청으로 처리됩니다.
+     *
+     * @param emailId 이메일 ID
+     * @param receiverIds 수신자 ID 배열
+     * @return 모든 링크 생성 성공 여부
+     */
+    boolean createEmailLinks(int emailId, int[] receiverIds);
+
     /**
      * 링크 ID로 이메일 링크 조회
      * 
@@ -39,6 +56,31 @@ public interface EmailLinkDao {
      */
     EmailLink getLinkById(int linkId);
 
+    /**
+     * 수신자 ID와 이메일 ID로 이메일 링크 조회
+     *
+     * 수신자 ID와 이메일 ID 복합 인덱스를 이용해 해당 수신자의 링크 하나만 조회합니다.
+     * 삭제되지 않은 링크가 우선 반환되며, 삭제된 링크만 있으면 삭제된 링크가 반환되므로
+     * 호출하는 쪽에서 삭제 여부를 확인해야 합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param emailIdx 이메일 ID
+     * @return 이메일 링크 객체, 없으면 null
+     */
+    EmailLink findByReceiverAndEmail(int receiverId, int emailIdx);
+
+    /**
+     * 링크 ID 순서로 이메일 링크 목록 조회
+     *
+     * 지정된 ID보다 큰 링크를 삭제 여부와 관계없이 ID 오름차순으로 최대 limit개 조회합니다.
+     * 전체 링크를 나누어 읽어야 하는 검색 색인 재구축 시 호출됩니다.
+     *
+     * @param lastLinkIdx 마지막으로 조회한 링크 ID (처음에는 0)
+     * @param limit 조회할 최대 개수
+     * @return 이메일 링크 목록, 더 이상 없으면 빈 목록
+     */
+    List<EmailLink> getLinksAfter(int lastLinkIdx, int limit);
+
     /**
      * 수신자 ID로 받은 이메일 링크 목록 조회
      * 
@@ -50,6 +92,67 @@ public interface EmailLinkDao {
      */
     List<EmailLink> getLinksByReceiverId(int receiverId);
 
+    /**
+     * 수신자 ID로 받은 메일함 목록 조회 (이메일, 발신자 정보 포함)
+     *
+     * EMAIL_LINK, EMAIL, USER 테이블을 한 번에 조인하여 받은 메일함에 표시할
+     * 정보를 모두 채운 DTO 목록을 반환합니다.
+     * 삭제되지 않은 이메일만 포함되며, 최신 이메일부터 정렬됩니다.
+     *
+     * @param receiverId 수신자 ID
+     * @return 받은 이메일 목록
+     */
+    List<ReceivedEmailDto> getReceivedEmailsByReceiverId(int receiverId);
+
+    /**
+     * 여러 이메일의 수신자 목록 조회
+     *
+     * 보낸 메일함 한 페이지의 이메일 ID 목록을 받아 각 이메일의 수신자를 한 번에 조회합니다.
+     * 수신자 수와 관계없이 이메일 ID 목록 하나당 쿼리 하나로 처리됩니다.
+     * 반환되는 User 객체에는 ID, 이메일 아이디, 닉네임만 채워집니다.
+     *
+     * @param emailIds 이메일 ID 목록
+     * @return 이메일 ID별 수신자 목록 (링크 생성 순), 수신자가 없는 이메일은 포함되지 않음
+     */
+    Map<Integer, List<User>> getReceiversByEmailIds(List<Integer> emailIds);
+
+    /**
+     * 받은 메일함 첫 페이지 조회
+     *
+     * 가장 최근에 받은 이메일부터 최대 limit개를 조회합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param limit 조회할 최대 개수
+     * @return 받은 이메일 목록 (최신순)
+     */
+    List<ReceivedEmailDto> getReceivedEmailsFirstPage(int receiverId, int limit);
+
+    /**
+     * 커서보다 오래된 받은 메일 페이지 조회 (다음 페이지)
+     *
+     * 이메일 ID가 커서보다 작은 이메일을 최대 limit개 조회합니다.
+     * 이메일 ID는 발송 순서대로 증가하므로 (receiver_id, is_deleted, email_idx) 인덱스 범위를 정렬 없이 읽으며,
+     * OFFSET이 없으므로 페이지 위치나 메일함 크기와 관계없이 비용이 일정합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param cursorEmailId 커서 이메일의 ID
+     * @param limit 조회할 최대 개수
+     * @return 받은 이메일 목록 (최신순)
+     */
+    List<ReceivedEmailDto> getReceivedEmailsOlderThan(int receiverId, int cursorEmailId, int limit);
+
+    /**
+     * 커서보다 최근의 받은 메일 페이지 조회 (이전 페이지)
+     *
+     * 이메일 ID가 커서보다 큰 이메일 중 커서에 가장 가까운 최대 limit개를 조회합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param cursorEmailId 커서 이메일의 ID
+     * @param limit 조회할 최대 개수
+     * @return 받은 이메일 목록 (최신순)
+     */
+    List<ReceivedEmailDto> getReceivedEmailsNewerThan(int receiverId, int cursorEmailId, int limit);
+
     /**
      * 이메일을 읽음 상태로 변경
      * 
@@ -72,6 +175,49 @@ public interface EmailLinkDao {
      */
     boolean markAsDeleted(int linkId);
 
+    /**
+     * 여러 이메일을 한 번에 읽음 상태로 변경
+     * 
+     * 선택한 링크 중 수신자의 읽지 않은 메일만 하나의 트랜잭션에서 읽음 상태로 변경하고,
+     * 읽지 않은 메일 수도 한 번에 줄입니다. 받은 메일함에서 범위를 선택해 읽음 처리할 때 호출됩니다.
+     *
+     * @param receiverId 수신자 ID (다른 사용자의 링크는 변경하지 않음)
+     * @param linkIds 링크 ID 배열
+     * @return 실제로 읽음 상태로 변경된 링크 목록
+     */
+    List<EmailLink> markAsRead(int receiverId, int[] linkIds);
+
+    /**
+     * 받은 메일함의 모든 메일을 읽음 상태로 변경
+     *
+     * @param receiverId 수신자 ID
+     * @return 실제로 읽음 상태로 변경된 링크 목록
+     */
+    List<EmailLink> markAllAsRead(int receiverId);
+
+    /**
+     * 여러 이메일을 한 번에 삭제 상태로 변경
+     * 
+     * 선택한 링크 중 수신자의 받은 메일함에 있는 메일만 하나의 트랜잭션에서 삭제 상태로 변경하고,
+     * 메일함 개수도 한 번에 갱신합니다. 여러 메일을 휴지통으로 이동할 때 호출됩니다.
+     *
+     * @param receiverId 수신자 ID (다른 사용자의 링크는 변경하지 않음)
+     * @param linkIds 링크 ID 배열
+     * @return 실제로 삭제 상태로 변경된 링크 목록
+     */
+    List<EmailLink> markAsDeleted(int receiverId, int[] linkIds);
+
+    /**
+     * 사용자의 메일함 개수 조회
+     * 
+     * 미리 집계된 받은 메일 수, 읽지 않은 메일 수, 휴지통 메일 수를 조회합니다.
+     * 메인 메뉴의 읽지 않은 메일 표시 시 호출됩니다.
+     *
+     * @param userId 사용자 ID
+     * @return 메일함 개수 정보
+     */
+    MailboxSummaryDto getMailboxSummary(int userId);
+
     /**
      * 이메일을 복구 (삭제 취소)
      * 
@@ -1,5 +1,6 @@
 package com.metaverse.mail.dao.interfaces;
 
+import com.metaverse.mail.dto.inbox.TrashPurgeDto;
 import com.metaverse.mail.model.Trash;
 import java.util.List;
 
@@ -28,6 +29,30 @@ public interface TrashDao {
      */
     boolean addToTrash(int linkId);
 
+    /**
+     * 휴지통에 여러 이메일 추가
+     * 
+     * 여러 링크의 휴지통 항목을 배치로 한 번에 추가합니다.
+     * 받은 메일함에서 여러 이메일을 삭제할 때 호출됩니다.
+     *
+     * @param linkIds 이메일 링크 ID 배열
+     * @return 모든 항목 추가 성공 여부
+     */
+    boolean addToTrash(int[] linkIds);
+
+    /**
+     * 받은 이메일을 휴지통으로 이동
+     * 
+     * 수신자의 받은 메일 링크를 찾아 삭제 상태로 변경하고, 메일함 개수를 갱신하고,
+     * 휴지통 항목을 추가하는 작업을 하나의 트랜잭션으로 처리합니다.
+     * 받은 메일함에서 이메일 한 통을 삭제할 때 호출됩니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param emailIdx 이메일 ID
+     * @return 휴지통으로 이동했으면 true, 링크가 없거나 이미 삭제된 메일이면 false
+     */
+    boolean moveToTrash(int receiverId, int emailIdx);
+
     /**
      * 사용자의 휴지통 이메일 목록 조회
      * 
@@ -66,8 +91,33 @@ public interface TrashDao {
      * 
      * 데이터베이스에서 만료 날짜가 지난 휴지통 항목을 자동으로 삭제합니다.
      * 시스템에서 정기적으로 호출하여 오래된 이메일을 정리합니다.
+     * 묶음 크기와 묶음 사이 대기 시간은 config.properties 설정을 사용합니다.
      *
      * @return 삭제된 이메일 수
      */
     int deleteExpiredEmails();
+
+    /**
+     * 실행 시간을 제한하여 만료된 이메일 자동 삭제
+     * 
+     * 묶음 크기와 대기 시간은 config.properties 설정을 사용하며,
+     * 제한 시간이 지나면 다음 묶음을 시작하지 않고 멈춥니다. 남은 항목은 다음 실행에서 삭제됩니다.
+     *
+     * @param maxRuntimeMillis 최대 실행 시간 (밀리초, 0 이하이면 제한 없음)
+     * @return 삭제한 항목 수, 묶음 수와 실행 시간
+     */
+    TrashPurgeDto deleteExpiredEmails(long maxRuntimeMillis);
+
+    /**
+     * 만료된 이메일을 묶음 단위로 자동 삭제
+     * 
+     * 한 번에 chunkSize개씩 짧은 트랜잭션으로 삭제하고 묶음 사이에 잠시 쉬므로,
+     * 정리할 항목이 많아도 메일함 쓰기 작업을 오래 막지 않습니다.
+     *
+     * @param chunkSize 한 트랜잭션에서 삭제할 최대 항목 수
+     * @param pauseMillis 묶음 사이 대기 시간 (밀리초, 0이면 대기하지 않음)
+     * @param maxRuntimeMillis 최대 실행 시간 (밀리초, 0 이하이면 제한 없음)
+     * @return 삭제한 항목 수, 묶음 수와 실행 시간
+     */
+    TrashPurgeDto deleteExpiredEmails(int chunkSize, long pauseMillis, long maxRuntimeMillis);
 }
\ No newline at end of file
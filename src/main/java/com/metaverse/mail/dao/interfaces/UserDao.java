@@ -1,7 +1,9 @@
 package com.metaverse.mail.dao.interfaces;
 
 import com.metaverse.mail.model.User;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 사용자 데이터 액세스를 위한 인터페이스
@@ -40,6 +42,28 @@ public interface UserDao {
      */
     User findByEmailId(String emailId);
 
+    /**
+     * 여러 이메일 주소로 사용자 정보 일괄 조회
+     * 
+     * 지정된 이메일 주소 목록에 해당하는 사용자 정보를 IN 조건으로 한 번에 검색합니다.
+     * 주로 메일 발송 시 수신자 확인에 활용됩니다.
+     * 반환되는 Map의 키는 데이터베이스와 동일하게 대소문자를 구분하지 않습니다.
+     *
+     * @param emailIds 조회할 이메일 주소 목록
+     * @return 이메일 주소를 키로 하는 사용자 Map, 존재하지 않는 주소는 포함되지 않음
+     */
+    Map<String, User> findByEmailIds(Collection<String> emailIds);
+
+    /**
+     * 전체 사용자 목록 조회
+     * 
+     * 탈퇴한 사용자를 포함한 모든 사용자 정보를 ID 순서로 조회합니다.
+     * 검색 색인 재구축 시 발신자 정보를 불러올 때 호출됩니다.
+     *
+     * @return 사용자 목록
+     */
+    List<User> findAll();
+
     /**
      * 새 사용자 추가
      * 
@@ -1,8 +1,12 @@
 package com.metaverse.mail.dao.mock;
 
 import com.metaverse.mail.dao.interfaces.EmailDao;
+import com.metaverse.mail.dto.mail.BodyStorageDto;
+import com.metaverse.mail.dto.mail.ReceivedEmailSearchDto;
+import com.metaverse.mail.dto.mail.SentEmailSearchDto;
 import com.metaverse.mail.model.Email;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,6 +37,11 @@ public class MockEmailDao implements EmailDao {
         return dummyEmail;
     }
 
+    @Override
+    public String getEmailBody(int emailId) {
+        return "테스트 이메일 본문";
+    }
+
     @Override
     public List<Email> getEmailsBySenderId(int senderId) {
         // 테스트용 더미 이메일 리스트 생성
@@ -58,6 +67,30 @@ public class MockEmailDao implements EmailDao {
         return emails;
     }
 
+    @Override
+    public List<Email> getSentEmailsFirstPage(int senderId, int limit) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<Email> getSentEmailsOlderThan(int senderId, LocalDateTime cursorDate, int cursorEmailId, int limit) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<Email> getSentEmailsNewerThan(int senderId, LocalDateTime cursorDate, int cursorEmailId, int limit) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<Email> getEmailsAfter(int lastEmailIdx, int limit) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public BodyStorageDto getBodyStorage() {
+        return new BodyStorageDto();
+    }
 
     @Override
     public boolean deleteEmail(int emailId) {
@@ -67,12 +100,12 @@ public class MockEmailDao implements EmailDao {
     }
 
     @Override
-    public List<Email> searchReceivedEmails(String keyword, int receiverId) {
+    public List<ReceivedEmailSearchDto> searchReceivedEmails(String keyword, int receiverId) {
         return List.of();
     }
 
     @Override
-    public List<Email> searchSentEmails(String keyword, int senderId) {
+    public List<SentEmailSearchDto> searchSentEmails(String keyword, int senderId) {
         return List.of();
     }
 }
\ No newline at end of file
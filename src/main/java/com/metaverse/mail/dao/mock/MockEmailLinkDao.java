@@ -1,10 +1,15 @@
 package com.metaverse.mail.dao.mock;
 
 import com.metaverse.mail.dao.interfaces.EmailLinkDao;
+import com.metaverse.mail.dto.inbox.MailboxSummaryDto;
+import com.metaverse.mail.dto.mail.ReceivedEmailDto;
 import com.metaverse.mail.model.EmailLink;
+import com.metaverse.mail.model.User;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 테스트용 EmailLinkDao Mock 클래스
@@ -18,11 +23,33 @@ public class MockEmailLinkDao implements EmailLinkDao {
         return true;
     }
 
+    @Override
+    public boolean createEmailLinks(int emailId, int[] receiverIds) {
+        // 테스트를 위해 항상 성공 반환
+        System.out.println("Mock: 이메일 링크 일괄 생성 성공 - 이메일 ID: " + emailId + ", 수신자 수: " + receiverIds.length);
+        return true;
+    }
+
     @Override
     public EmailLink getLinkById(int linkId) {
         return null;
     }
 
+    @Override
+    public EmailLink findByReceiverAndEmail(int receiverId, int emailIdx) {
+        for (EmailLink link : getLinksByReceiverId(receiverId)) {
+            if (link.getEmailIdx() == emailIdx) {
+                return link;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<EmailLink> getLinksAfter(int lastLinkIdx, int limit) {
+        return new ArrayList<>();
+    }
+
     @Override
     public List<EmailLink> getLinksByReceiverId(int receiverId) {
         List<EmailLink> emailLinks = new ArrayList<>();
@@ -60,6 +87,31 @@ public class MockEmailLinkDao implements EmailLinkDao {
         return emailLinks;
     }
 
+    @Override
+    public List<ReceivedEmailDto> getReceivedEmailsByReceiverId(int receiverId) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public Map<Integer, List<User>> getReceiversByEmailIds(List<Integer> emailIds) {
+        return new HashMap<>();
+    }
+
+    @Override
+    public List<ReceivedEmailDto> getReceivedEmailsFirstPage(int receiverId, int limit) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<ReceivedEmailDto> getReceivedEmailsOlderThan(int receiverId, int cursorEmailId, int limit) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<ReceivedEmailDto> getReceivedEmailsNewerThan(int receiverId, int cursorEmailId, int limit) {
+        return new ArrayList<>();
+    }
+
     @Override
     public boolean markAsRead(int linkId) {
         return false;
@@ -70,6 +122,36 @@ public class MockEmailLinkDao implements EmailLinkDao {
         return false;
     }
 
+    @Override
+    public List<EmailLink> markAsRead(int receiverId, int[] linkIds) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<EmailLink> markAllAsRead(int receiverId) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public List<EmailLink> markAsDeleted(int receiverId, int[] linkIds) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public MailboxSummaryDto getMailboxSummary(int userId) {
+        int total = 0;
+        int unread = 0;
+        for (EmailLink link : getLinksByReceiverId(userId)) {
+            if (link.getIsDeleted() == 'N') {
+                total++;
+                if (link.getIsReaded() == 'N') {
+                    unread++;
+                }
+            }
+        }
+        return new MailboxSummaryDto(total, unread, 0);
+    }
+
     @Override
     public boolean restoreEmail(int linkId) {
         return false;
@@ -3,6 +3,12 @@ package com.metaverse.mail.dao.mock;
 import com.metaverse.mail.dao.interfaces.UserDao;
 import com.metaverse.mail.model.User;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 /**
  * 테스트용 UserDao Mock 클래스
  */
@@ -25,6 +31,21 @@ public class MockUserDao implements UserDao {
         return user;
     }
 
+    @Override
+    public Map<String, User> findByEmailIds(Collection<String> emailIds) {
+        // 모든 이메일 주소에 대해 테스트용 더미 사용자 반환
+        Map<String, User> users = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String emailId : emailIds) {
+            users.put(emailId, findByEmailId(emailId));
+        }
+        return users;
+    }
+
+    @Override
+    public List<User> findAll() {
+        return new ArrayList<>();
+    }
+
     @Override
     public boolean insert(User user) {
         return false;
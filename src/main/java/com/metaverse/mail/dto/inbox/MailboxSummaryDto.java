@@ -0,0 +1,97 @@
+package com.metaverse.mail.dto.inbox;
+
+/**
+ * 사용자 메일함 개수 정보를 전달하기 위한 DTO 클래스
+ *
+ * 이 클래스는 MAILBOX_COUNTER 테이블에 미리 집계된 받은 메일 수, 읽지 않은 메일 수,
+ * 휴지통 메일 수를 서비스 계층에서 프레젠테이션 계층으로 전달하는 데 사용됩니다.
+ * 메인 메뉴의 읽지 않은 메일 표시 등에 사용됩니다.
+ *
+ * 담당 개발자: 효민(개발자 C)
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public class MailboxSummaryDto {
+    /** 받은 메일함의 메일 수 (삭제되지 않은 메일) */
+    private int totalCount;
+
+    /** 받은 메일함의 읽지 않은 메일 수 */
+    private int unreadCount;
+
+    /** 휴지통의 메일 수 */
+    private int trashCount;
+
+    /**
+     * 기본 생성자 (모든 개수 0)
+     */
+    public MailboxSummaryDto() {
+    }
+
+    /**
+     * 모든 필드를 초기화하는 생성자
+     *
+     * @param totalCount 받은 메일함의 메일 수
+     * @param unreadCount 읽지 않은 메일 수
+     * @param trashCount 휴지통의 메일 수
+     */
+    public MailboxSummaryDto(int totalCount, int unreadCount, int trashCount) {
+        this.totalCount = totalCount;
+        this.unreadCount = unreadCount;
+        this.trashCount = trashCount;
+    }
+
+    /**
+     * 받은 메일함의 메일 수 반환
+     *
+     * @return 받은 메일 수
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 받은 메일함의 메일 수 설정
+     *
+     * @param totalCount 받은 메일 수
+     */
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * 읽지 않은 메일 수 반환
+     *
+     * @return 읽지 않은 메일 수
+     */
+    public int getUnreadCount() {
+        return unreadCount;
+    }
+
+    /**
+     * 읽지 않은 메일 수 설정
+     *
+     * @param unreadCount 읽지 않은 메일 수
+     */
+    public void setUnreadCount(int unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    /**
+     * 휴지통의 메일 수 반환
+     *
+     * @return 휴지통 메일 수
+     */
+    public int getTrashCount() {
+        return trashCount;
+    }
+
+    /**
+     * 휴지통의 메일 수 설정
+     *
+     * @param trashCount 휴지통 메일 수
+     */
+    public void setTrashCount(int trashCount) {
+        this.trashCount = trashCount;
+    }
+}
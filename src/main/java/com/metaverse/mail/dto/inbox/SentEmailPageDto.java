@@ -0,0 +1,96 @@
+package com.metaverse.mail.dto.inbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보낸 메일함의 한 페이지 정보를 전달하기 위한 DTO 클래스
+ *
+ * 이 클래스는 보낸 메일함을 페이지 단위로 조회할 때 현재 페이지의 이메일 목록과
+ * 앞뒤 페이지 존재 여부를 서비스 계층에서 프레젠테이션 계층으로 전달하는 데 사용됩니다.
+ *
+ * 페이지는 (발송 일시, 이메일 ID) 기준의 키셋 방식으로 이동하며,
+ * 현재 페이지의 첫 번째/마지막 이메일이 이전/다음 페이지 조회의 기준점(커서)이 됩니다.
+ *
+ * 담당 개발자: 효민(개발자 C)
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public class SentEmailPageDto {
+    /** 현재 페이지의 이메일 목록 (최신순) */
+    private List<SentEmailDto> emails;
+
+    /** 다음 페이지(더 오래된 이메일) 존재 여부 */
+    private boolean hasNext;
+
+    /** 이전 페이지(더 최근 이메일) 존재 여부 */
+    private boolean hasPrevious;
+
+    /**
+     * 모든 필드를 초기화하는 생성자
+     *
+     * @param emails 현재 페이지의 이메일 목록
+     * @param hasNext 다음 페이지 존재 여부
+     * @param hasPrevious 이전 페이지 존재 여부
+     */
+    public SentEmailPageDto(List<SentEmailDto> emails, boolean hasNext, boolean hasPrevious) {
+        this.emails = emails != null ? emails : new ArrayList<>();
+        this.hasNext = hasNext;
+        this.hasPrevious = hasPrevious;
+    }
+
+    /**
+     * 현재 페이지의 이메일 목록 반환
+     *
+     * @return 이메일 목록 (최신순)
+     */
+    public List<SentEmailDto> getEmails() {
+        return emails;
+    }
+
+    /**
+     * 다음 페이지 존재 여부 반환
+     *
+     * @return 다음 페이지(더 오래된 이메일) 존재 여부
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * 이전 페이지 존재 여부 반환
+     *
+     * @return 이전 페이지(더 최근 이메일) 존재 여부
+     */
+    public boolean hasPrevious() {
+        return hasPrevious;
+    }
+
+    /**
+     * 현재 페이지가 비어 있는지 확인
+     *
+     * @return 이메일이 없으면 true
+     */
+    public boolean isEmpty() {
+        return emails.isEmpty();
+    }
+
+    /**
+     * 현재 페이지의 첫 번째 이메일 반환 (이전 페이지 조회 커서)
+     *
+     * @return 첫 번째 이메일, 비어 있으면 null
+     */
+    public SentEmailDto getFirst() {
+        return emails.isEmpty() ? null : emails.get(0);
+    }
+
+    /**
+     * 현재 페이지의 마지막 이메일 반환 (다음 페이지 조회 커서)
+     *
+     * @return 마지막 이메일, 비어 있으면 null
+     */
+    public SentEmailDto getLast() {
+        return emails.isEmpty() ? null : emails.get(emails.size() - 1);
+    }
+}
@@ -0,0 +1,130 @@
+package com.metaverse.mail.dto.inbox;
+
+/**
+ * 만료된 휴지통 항목 정리 결과를 전달하기 위한 DTO 클래스
+ *
+ * 이 클래스는 한 번의 정리 실행에서 삭제한 항목 수와 묶음(트랜잭션) 수, 걸린 시간을
+ * 데이터 계층에서 정리 스케줄러로 전달하는 데 사용됩니다.
+ * 데이터 계층은 콘솔에 출력하지 않으며, 결과를 표시하거나 집계하는 것은 호출한 쪽이 담당합니다.
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public class TrashPurgeDto {
+    /** 삭제한 휴지통 항목 수 */
+    private int removedCount;
+
+    /** 커밋한 묶음 수 */
+    private int chunkCount;
+
+    /** 전체 실행 시간 (밀리초, 묶음 사이 대기 시간 포함) */
+    private long elapsedMillis;
+
+    /** 가장 오래 걸린 묶음의 실행 시간 (밀리초) */
+    private long slowestChunkMillis;
+
+    /** 최대 실행 시간이 지나 남은 항목을 다음 실행으로 미루었는지 여부 */
+    private boolean timedOut;
+
+    /** 묶음 삭제 중 오류가 발생하여 멈추었는지 여부 */
+    private boolean failed;
+
+    /**
+     * 기본 생성자 (삭제한 항목 없음)
+     */
+    public TrashPurgeDto() {
+    }
+
+    /**
+     * 커밋한 묶음 하나를 결과에 추가
+     *
+     * @param removed     묶음에서 삭제한 항목 수
+     * @param chunkMillis 묶음 실행 시간 (밀리초)
+     */
+    public void addChunk(int removed, long chunkMillis) {
+        removedCount += removed;
+        chunkCount++;
+        slowestChunkMillis = Math.max(slowestChunkMillis, chunkMillis);
+    }
+
+    /**
+     * 삭제한 휴지통 항목 수 반환
+     *
+     * @return 삭제한 항목 수
+     */
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    /**
+     * 커밋한 묶음 수 반환
+     *
+     * @return 묶음 수
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * 전체 실행 시간 반환
+     *
+     * @return 밀리초
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 전체 실행 시간 설정
+     *
+     * @param elapsedMillis 전체 실행 시간 (밀리초)
+     */
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 가장 오래 걸린 묶음의 실행 시간 반환
+     *
+     * @return 밀리초
+     */
+    public long getSlowestChunkMillis() {
+        return slowestChunkMillis;
+    }
+
+    /**
+     * 최대 실행 시간 초과 여부 반환
+     *
+     * @return 남은 항목을 다음 실행으로 미루었으면 true
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * 최대 실행 시간 초과 여부 설정
+     *
+     * @param timedOut 남은 항목을 다음 실행으로 미루었는지 여부
+     */
+    public void setTimedOut(boolean timedOut) {
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * 오류 발생 여부 반환
+     *
+     * @return 묶음 삭제 중 오류가 발생했으면 true
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * 오류 발생 여부 설정
+     *
+     * @param failed 묶음 삭제 중 오류가 발생했는지 여부
+     */
+    public void setFailed(boolean failed) {
+        this.failed = failed;
+    }
+}
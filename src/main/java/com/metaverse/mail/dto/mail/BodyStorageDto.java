@@ -0,0 +1,262 @@
+package com.metaverse.mail.dto.mail;
+
+/**
+ * 이메일 본문 저장 상태 정보를 전달하기 위한 DTO 클래스
+ *
+ * EMAIL_BODY 테이블의 저장 형식과 크기(information_schema.TABLES), 그리고
+ * InnoDB 압축 페이지 통계(information_schema.INNODB_CMP)를 담습니다.
+ * INNODB_CMP는 같은 압축 페이지 크기를 쓰는 모든 테이블의 서버 전체 누적값이며,
+ * 조회에 PROCESS 권한이 필요하므로 권한이 없으면 compressionAvailable이 false입니다.
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public class BodyStorageDto {
+    /** 테이블 저장 형식 (예: Compressed) */
+    private String rowFormat;
+
+    /** 테이블 생성 옵션 (예: row_format=COMPRESSED KEY_BLOCK_SIZE=8) */
+    private String createOptions;
+
+    /** 추정 행 수 */
+    private long rowCount;
+
+    /** 데이터 크기 (바이트, 압축 후) */
+    private long dataBytes;
+
+    /** 인덱스 크기 (바이트, 전문 인덱스 보조 테이블 제외) */
+    private long indexBytes;
+
+    /** InnoDB 압축 통계 조회 여부 */
+    private boolean compressionAvailable;
+
+    /** 페이지 압축 시도 수 */
+    private long compressOps;
+
+    /** 페이지 압축 성공 수 (압축 페이지 크기에 맞게 압축된 경우) */
+    private long compressOpsOk;
+
+    /** 페이지 압축에 사용한 시간 합계 (초) */
+    private long compressSeconds;
+
+    /** 페이지 압축 해제 수 */
+    private long uncompressOps;
+
+    /** 페이지 압축 해제에 사용한 시간 합계 (초) */
+    private long uncompressSeconds;
+
+    /**
+     * 기본 생성자 (모든 값 0)
+     */
+    public BodyStorageDto() {
+    }
+
+    /**
+     * 테이블 저장 형식 반환
+     *
+     * @return 테이블 저장 형식
+     */
+    public String getRowFormat() {
+        return rowFormat;
+    }
+
+    /**
+     * 테이블 저장 형식 설정
+     *
+     * @param rowFormat 테이블 저장 형식
+     */
+    public void setRowFormat(String rowFormat) {
+        this.rowFormat = rowFormat;
+    }
+
+    /**
+     * 테이블 생성 옵션 반환
+     *
+     * @return 테이블 생성 옵션
+     */
+    public String getCreateOptions() {
+        return createOptions;
+    }
+
+    /**
+     * 테이블 생성 옵션 설정
+     *
+     * @param createOptions 테이블 생성 옵션
+     */
+    public void setCreateOptions(String createOptions) {
+        this.createOptions = createOptions;
+    }
+
+    /**
+     * 추정 행 수 반환
+     *
+     * @return 추정 행 수
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 추정 행 수 설정
+     *
+     * @param rowCount 추정 행 수
+     */
+    public void setRowCount(long rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * 데이터 크기 (바이트) 반환
+     *
+     * @return 데이터 크기 (바이트)
+     */
+    public long getDataBytes() {
+        return dataBytes;
+    }
+
+    /**
+     * 데이터 크기 (바이트) 설정
+     *
+     * @param dataBytes 데이터 크기 (바이트)
+     */
+    public void setDataBytes(long dataBytes) {
+        this.dataBytes = dataBytes;
+    }
+
+    /**
+     * 인덱스 크기 (바이트) 반환
+     *
+     * @return 인덱스 크기 (바이트)
+     */
+    public long getIndexBytes() {
+        return indexBytes;
+    }
+
+    /**
+     * 인덱스 크기 (바이트) 설정
+     *
+     * @param indexBytes 인덱스 크기 (바이트)
+     */
+    public void setIndexBytes(long indexBytes) {
+        this.indexBytes = indexBytes;
+    }
+
+    /**
+     * InnoDB 압축 통계 조회 여부 반환
+     *
+     * @return InnoDB 압축 통계 조회 여부
+     */
+    public boolean isCompressionAvailable() {
+        return compressionAvailable;
+    }
+
+    /**
+     * InnoDB 압축 통계 조회 여부 설정
+     *
+     * @param compressionAvailable InnoDB 압축 통계 조회 여부
+     */
+    public void setCompressionAvailable(boolean compressionAvailable) {
+        this.compressionAvailable = compressionAvailable;
+    }
+
+    /**
+     * 페이지 압축 시도 수 반환
+     *
+     * @return 페이지 압축 시도 수
+     */
+    public long getCompressOps() {
+        return compressOps;
+    }
+
+    /**
+     * 페이지 압축 시도 수 설정
+     *
+     * @param compressOps 페이지 압축 시도 수
+     */
+    public void setCompressOps(long compressOps) {
+        this.compressOps = compressOps;
+    }
+
+    /**
+     * 페이지 압축 성공 수 반환
+     *
+     * @return 페이지 압축 성공 수
+     */
+    public long getCompressOpsOk() {
+        return compressOpsOk;
+    }
+
+    /**
+     * 페이지 압축 성공 수 설정
+     *
+     * @param compressOpsOk 페이지 압축 성공 수
+     */
+    public void setCompressOpsOk(long compressOpsOk) {
+        this.compressOpsOk = compressOpsOk;
+    }
+
+    /**
+     * 페이지 압축 시간 합계 (초) 반환
+     *
+     * @return 페이지 압축 시간 합계 (초)
+     */
+    public long getCompressSeconds() {
+        return compressSeconds;
+    }
+
+    /**
+     * 페이지 압축 시간 합계 (초) 설정
+     *
+     * @param compressSeconds 페이지 압축 시간 합계 (초)
+     */
+    public void setCompressSeconds(long compressSeconds) {
+        this.compressSeconds = compressSeconds;
+    }
+
+    /**
+     * 페이지 압축 해제 수 반환
+     *
+     * @return 페이지 압축 해제 수
+     */
+    public long getUncompressOps() {
+        return uncompressOps;
+    }
+
+    /**
+     * 페이지 압축 해제 수 설정
+     *
+     * @param uncompressOps 페이지 압축 해제 수
+     */
+    public void setUncompressOps(long uncompressOps) {
+        this.uncompressOps = uncompressOps;
+    }
+
+    /**
+     * 페이지 압축 해제 시간 합계 (초) 반환
+     *
+     * @return 페이지 압축 해제 시간 합계 (초)
+     */
+    public long getUncompressSeconds() {
+        return uncompressSeconds;
+    }
+
+    /**
+     * 페이지 압축 해제 시간 합계 (초) 설정
+     *
+     * @param uncompressSeconds 페이지 압축 해제 시간 합계 (초)
+     */
+    public void setUncompressSeconds(long uncompressSeconds) {
+        this.uncompressSeconds = uncompressSeconds;
+    }
+
+    /**
+     * 페이지 압축 성공률
+     *
+     * 낮으면 압축 페이지 크기에 맞지 않아 페이지를 나누는 경우가 많으므로 KEY_BLOCK_SIZE를 늘려야 합니다.
+     *
+     * @return 0과 1 사이의 성공률, 압축한 페이지가 없으면 1
+     */
+    public double getCompressSuccessRatio() {
+        return compressOps > 0 ? (double) compressOpsOk / compressOps : 1.0;
+    }
+}
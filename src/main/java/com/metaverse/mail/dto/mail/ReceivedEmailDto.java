@@ -2,6 +2,7 @@ package com.metaverse.mail.dto.mail;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
 /**
  * 받은 이메일 정보를 전달하기 위한 DTO(Data Transfer Object) 클래스
@@ -12,6 +13,9 @@ import java.time.format.DateTimeFormatter;
  * DTO 패턴을 사용하여 비즈니스 계층과 프레젠테이션 계층 사이의
  * 데이터 교환을 명확하게 정의합니다.
  * 
+ * 목록용 DTO에는 본문 대신 미리보기만 채워지며, 상세 보기용 DTO의 본문은
+ * 화면에서 getBody()를 처음 호출할 때 조회될 수 있습니다.
+ * 
  * 담당 개발자: 유진(개발자 B)
  * 
  * @author 유진
@@ -20,6 +24,9 @@ import java.time.format.DateTimeFormatter;
 public class ReceivedEmailDto {
     /** 이메일 고유 식별자 */
     private int emailId;
+
+    /** 받은 메일 링크 식별자 (EMAIL_LINK.link_idx, 목록 조회 시 채워짐) */
+    private int linkId;
     
     /** 발신자 이름(닉네임) */
     private String senderName;
@@ -30,8 +37,14 @@ public class ReceivedEmailDto {
     /** 이메일 제목 */
     private String title;
     
-    /** 이메일 본문 내용 */
+    /** 이메일 본문 내용 (목록 조회 시 또는 아직 조회하지 않았으면 null) */
     private String body;
+
+    /** 본문을 처음 사용할 때 조회하는 로더 */
+    private Supplier<String> bodyLoader;
+
+    /** 본문 미리보기 (목록 표시용) */
+    private String snippet;
     
     /** 읽음 여부 */
     private boolean isRead;
@@ -61,6 +74,26 @@ public class ReceivedEmailDto {
         return emailId;
     }
 
+    /**
+     * 받은 메일 링크 ID 반환
+     * 
+     * 여러 메일을 한 번에 읽음/삭제 처리할 때 사용합니다.
+     * 
+     * @return 링크 ID, 목록 조회로 만들어지지 않았으면 0
+     */
+    public int getLinkId() {
+        return linkId;
+    }
+
+    /**
+     * 받은 메일 링크 ID 설정
+     * 
+     * @param linkId 링크 ID
+     */
+    public void setLinkId(int linkId) {
+        this.linkId = linkId;
+    }
+
     /**
      * 발신자 이름 반환
      * 
@@ -94,9 +127,42 @@ public class ReceivedEmailDto {
      * @return 이메일 본문 내용
      */
     public String getBody() {
+        if (body == null && bodyLoader != null) {
+            body = bodyLoader.get();
+            bodyLoader = null;
+        }
         return body;
     }
 
+    /**
+     * 본문 로더 설정
+     * 
+     * 본문은 상세 화면에서 getBody()를 처음 호출할 때 조회됩니다.
+     * 
+     * @param bodyLoader 본문을 조회하는 함수
+     */
+    public void setBodyLoader(Supplier<String> bodyLoader) {
+        this.bodyLoader = bodyLoader;
+    }
+
+    /**
+     * 본문 미리보기 반환
+     * 
+     * @return 본문 미리보기, 없으면 null
+     */
+    public String getSnippet() {
+        return snippet;
+    }
+
+    /**
+     * 본문 미리보기 설정
+     * 
+     * @param snippet 본문 미리보기
+     */
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
     /**
      * 읽음 여부 반환
      * 
@@ -2,11 +2,13 @@ package com.metaverse.mail.model;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
 /**
  * 이메일 정보를 나타내는 모델 클래스
  * 
  * 이 클래스는 데이터베이스 EMAIL 테이블의 레코드를 자바 객체로 표현합니다.
+ * 본문은 EMAIL_BODY 테이블에 따로 저장됩니다.
  * 이메일의 기본 정보(발신자, 제목, 내용, 상태 등)를 포함합니다.
  * 
  * 관련 테이블 구조:
@@ -14,13 +16,28 @@ import java.time.format.DateTimeFormatter;
  *     email_idx  INTEGER PRIMARY KEY AUTO_INCREMENT COMMENT '이메일 고유의 idx 값',
  *     sender_id  INTEGER               NOT NULL COMMENT '발신자 ID',
  *     title      VARCHAR(100)          NOT NULL COMMENT '제목',
- *     body       LONGTEXT              NOT NULL COMMENT '내용',
+ *     snippet    VARCHAR(100) DEFAULT '' NOT NULL COMMENT '본문 미리보기',
+ *     body_idx   INTEGER               NOT NULL COMMENT '본문 idx 값',
  *     status     CHAR(1) DEFAULT 'N'   NOT NULL COMMENT '메일 발송 상태 확인(Y:발송완료, N:발송실패)',
  *     created_at DATETIME DEFAULT NOW() NOT NULL COMMENT '메일 발신일 표시',
  *     FOREIGN KEY (sender_id) REFERENCES USER (idx) ON DELETE CASCADE,
+ *     CONSTRAINT fk_email_body FOREIGN KEY (body_idx) REFERENCES EMAIL_BODY (body_idx),
  *     CONSTRAINT chk_email_status CHECK (status IN ('Y', 'N'))
  * );
  * 
+ * CREATE TABLE EMAIL_BODY (
+ *     body_idx     INTEGER PRIMARY KEY AUTO_INCREMENT COMMENT '본문 고유의 idx 값',
+ *     content_hash BINARY(32)          NOT NULL COMMENT '원문 SHA-256 해시',
+ *     ref_count    INTEGER DEFAULT 1   NOT NULL COMMENT '이 본문을 참조하는 이메일 수',
+ *     body         LONGTEXT            NOT NULL COMMENT '내용',
+ *     CONSTRAINT uk_email_body_hash UNIQUE (content_hash)
+ * ) ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
+ * 
+ * 같은 내용의 본문은 EMAIL_BODY에 한 번만 저장되고 여러 이메일이 함께 참조합니다.
+ * 
+ * 목록 조회 시에는 본문 없이 헤더와 미리보기만 채워지며,
+ * 본문은 getBody()를 처음 호출할 때 bodyLoader를 통해 조회됩니다.
+ * 
  * @author 유진
  * @version 1.0
  */
@@ -34,8 +51,14 @@ public class Email {
     /** 이메일 제목 */
     private String title;
     
-    /** 이메일 본문 내용 */
+    /** 이메일 본문 내용 (아직 조회하지 않았으면 null) */
     private String body;
+
+    /** 본문을 처음 사용할 때 조회하는 로더 (본문이 이미 있으면 null) */
+    private Supplier<String> bodyLoader;
+
+    /** 본문 미리보기 (목록 표시용) */
+    private String snippet;
     
     /** 이메일 발송 상태 (Y: 발송 완료, N: 발송 실패) */
     private char status;
@@ -122,9 +145,15 @@ public class Email {
     /**
      * 이메일 내용 반환
      * 
+     * 본문이 아직 조회되지 않았고 로더가 설정되어 있으면 이때 한 번 조회합니다.
+     * 
      * @return 이메일 내용
      */
     public String getBody() {
+        if (body == null && bodyLoader != null) {
+            body = bodyLoader.get();
+            bodyLoader = null;
+        }
         return body;
     }
 
@@ -135,6 +164,46 @@ public class Email {
      */
     public void setBody(String body) {
         this.body = body;
+        this.bodyLoader = null;
+    }
+
+    /**
+     * 본문 로더 설정
+     * 
+     * 헤더만 조회한 이메일에 설정하며, getBody()를 처음 호출할 때 사용됩니다.
+     * 
+     * @param bodyLoader 본문을 조회하는 함수
+     */
+    public void setBodyLoader(Supplier<String> bodyLoader) {
+        this.body = null;
+        this.bodyLoader = bodyLoader;
+    }
+
+    /**
+     * 본문 조회 여부 확인
+     * 
+     * @return 본문이 이미 채워져 있으면 true
+     */
+    public boolean isBodyLoaded() {
+        return body != null;
+    }
+
+    /**
+     * 본문 미리보기 반환
+     * 
+     * @return 본문 미리보기
+     */
+    public String getSnippet() {
+        return snippet;
+    }
+
+    /**
+     * 본문 미리보기 설정
+     * 
+     * @param snippet 설정할 본문 미리보기
+     */
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
     }
 
     /**
@@ -0,0 +1,72 @@
+package com.metaverse.mail.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 색인용 bigram 토크나이저
+ *
+ * 한글은 띄어쓰기 없이 조사와 붙어 쓰이므로 형태소 분석 없이도 부분 문자열을 찾을 수 있도록
+ * 글자 또는 숫자가 이어진 구간(단어)을 두 글자씩 겹쳐 자른 토큰으로 색인합니다.
+ * 예) "회의일정을" → 회의, 의일, 일정, 정을
+ *
+ * 영문은 소문자로 통일하며, 한 글자 단어는 그 글자 하나를 토큰으로 사용합니다.
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public final class BigramTokenizer {
+
+    /**
+     * 인스턴스 생성 방지
+     */
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 중복 없는 토큰 집합으로 변환
+     *
+     * @param text 색인 또는 검색할 텍스트 (null 허용)
+     * @return 등장 순서를 유지한 토큰 집합
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWord(normalized, start, i, tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 단어 하나를 bigram 토큰으로 잘라 추가
+     *
+     * @param text 정규화된 텍스트
+     * @param start 단어 시작 위치
+     * @param end 단어 끝 위치 (포함하지 않음)
+     * @param tokens 토큰을 추가할 집합
+     */
+    private static void addWord(String text, int start, int end, Set<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,563 @@
+package com.metaverse.mail.search;
+
+import com.metaverse.mail.dao.interfaces.EmailDao;
+import com.metaverse.mail.dao.interfaces.EmailLinkDao;
+import com.metaverse.mail.dao.interfaces.UserDao;
+import com.metaverse.mail.dto.mail.ReceivedEmailSearchDto;
+import com.metaverse.mail.model.Email;
+import com.metaverse.mail.model.EmailLink;
+import com.metaverse.mail.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 받은 메일 검색을 위한 메모리 내 역색인(inverted index)
+ *
+ * 이메일의 제목, 본문, 발신자 이름과 이메일 주소를 bigram 토큰으로 색인하여
+ * MySQL에 질의하지 않고 받은 메일을 검색합니다.
+ * 주요 기능:
+ *   메일 발송 시 새 이메일을 증분 색인
+ *   읽음 표시 및 삭제를 사용자별 메일함에 반영
+ *   데이터베이스 전체를 다시 읽어 색인 재구축
+ *   색인 크기 및 메모리 사용량 통계 출력
+ *
+ * 저장 구조:
+ *   토큰 → 이메일 ID 포스팅 리스트 (delta 인코딩된 int 배열)
+ *   이메일 ID → 제목, 발신일, 발신자 ID (검색 결과 표시용, 본문은 보관하지 않음)
+ *   수신자 ID → 받은 메일 ID 집합과 읽은 메일 ID 집합
+ *
+ * 검색어의 모든 토큰을 포함하는 메일을 찾으므로, SQL 구문 검색과 달리
+ * 토큰이 서로 떨어져 있는 메일도 결과에 포함될 수 있습니다.
+ * 읽기는 여러 스레드가 동시에, 변경은 한 번에 하나씩 처리되도록 ReadWriteLock으로 보호합니다.
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public class MailSearchIndex {
+    /** 재구축 시 한 번에 읽을 행 수 */
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    /** 읽기/쓰기 잠금 */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 토큰별 포스팅 리스트 */
+    private Map<String, PostingList> postings = new HashMap<>();
+
+    /** 이메일 ID별 검색 결과 표시 정보 */
+    private Map<Integer, IndexedEmail> emails = new HashMap<>();
+
+    /** 사용자 ID별 발신자 정보 */
+    private Map<Integer, IndexedSender> senders = new HashMap<>();
+
+    /** 수신자 ID별 메일함 */
+    private Map<Integer, Mailbox> mailboxes = new HashMap<>();
+
+    /**
+     * 검색 결과 표시에 필요한 이메일 정보
+     */
+    private static class IndexedEmail {
+        private final String title;
+        private final LocalDateTime createdAt;
+        private final int senderId;
+
+        private IndexedEmail(String title, LocalDateTime createdAt, int senderId) {
+            this.title = title;
+            this.createdAt = createdAt;
+            this.senderId = senderId;
+        }
+    }
+
+    /**
+     * 검색 결과 표시에 필요한 발신자 정보
+     */
+    private static class IndexedSender {
+        private final String nickname;
+        private final String emailId;
+
+        private IndexedSender(String nickname, String emailId) {
+            this.nickname = nickname;
+            this.emailId = emailId;
+        }
+    }
+
+    /**
+     * 수신자 한 명의 메일함 (삭제되지 않은 받은 메일과 읽은 메일)
+     */
+    private static class Mailbox {
+        private final SortedIntSet received = new SortedIntSet();
+        private final SortedIntSet read = new SortedIntSet();
+    }
+
+    /**
+     * 새로 발송된 이메일 색인
+     *
+     * 메일 발송 트랜잭션이 커밋된 뒤 호출되며, 이메일을 색인하고 각 수신자의 메일함에 추가합니다.
+     *
+     * @param email 발송된 이메일 (이메일 ID 포함)
+     * @param sender 발신자 정보
+     * @param receiverIds 수신자 ID 배열
+     */
+    public void indexEmail(Email email, User sender, int[] receiverIds) {
+        lock.writeLock().lock();
+        try {
+            if (sender != null) {
+                putSender(senders, sender);
+            }
+            addDocument(postings, emails, senders, email);
+            for (int receiverId : receiverIds) {
+                mailboxes.computeIfAbsent(receiverId, id -> new Mailbox()).received.add(email.getEmailIdx());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 읽음 상태 반영
+     *
+     * @param receiverId 수신자 ID
+     * @param emailId 이메일 ID
+     */
+    public void markRead(int receiverId, int emailId) {
+        lock.writeLock().lock();
+        try {
+            Mailbox mailbox = mailboxes.get(receiverId);
+            if (mailbox != null) {
+                mailbox.read.add(emailId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 받은 메일 삭제(휴지통 이동) 반영
+     *
+     * 해당 수신자의 검색 결과에서만 제외되며, 다른 수신자와 공유하는 색인은 유지됩니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param emailId 이메일 ID
+     */
+    public void removeFromMailbox(int receiverId, int emailId) {
+        lock.writeLock().lock();
+        try {
+            Mailbox mailbox = mailboxes.get(receiverId);
+            if (mailbox != null) {
+                mailbox.received.remove(emailId);
+                mailbox.read.remove(emailId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 받은 메일 검색
+     *
+     * 검색어를 bigram 토큰으로 나누어 모든 토큰을 포함하는 이메일 중
+     * 해당 사용자의 메일함에 있는 이메일을 최신순으로 반환합니다.
+     * 한 글자 토큰은 그 글자를 포함하는 모든 토큰의 포스팅을 합쳐서 찾습니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param keyword 검색 키워드
+     * @return 검색 결과 목록 (최신순)
+     */
+    public List<ReceivedEmailSearchDto> searchReceived(int receiverId, String keyword) {
+        List<ReceivedEmailSearchDto> results = new ArrayList<>();
+        Set<String> tokens = BigramTokenizer.tokenize(keyword);
+        if (tokens.isEmpty()) {
+            return results;
+        }
+
+        lock.readLock().lock();
+        try {
+            Mailbox mailbox = mailboxes.get(receiverId);
+            if (mailbox == null || mailbox.received.size() == 0) {
+                return results;
+            }
+
+            // 모든 토큰의 포스팅 교집합
+            int[] candidates = null;
+            for (String token : tokens) {
+                int[] ids = findPostings(token);
+                candidates = candidates == null ? ids : intersect(candidates, ids);
+                if (candidates.length == 0) {
+                    return results;
+                }
+            }
+
+            for (int emailId : candidates) {
+                if (!mailbox.received.contains(emailId)) {
+                    continue;
+                }
+                IndexedEmail email = emails.get(emailId);
+                IndexedSender sender = senders.get(email.senderId);
+
+                ReceivedEmailSearchDto result = new ReceivedEmailSearchDto();
+                result.setEmailId(emailId);
+                result.setTitle(email.title);
+                result.setSentDate(email.createdAt);
+                result.setSenderName(sender != null ? sender.nickname : null);
+                result.setSenderEmail(sender != null ? sender.emailId : null);
+                result.setRead(mailbox.read.contains(emailId));
+                results.add(result);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 날짜 기준 내림차순 정렬 (같은 날짜는 최근 ID 우선)
+        results.sort(Comparator.comparing(ReceivedEmailSearchDto::getSentDate,
+                        Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(ReceivedEmailSearchDto::getEmailId, Comparator.reverseOrder()));
+        return results;
+    }
+
+    /**
+     * 데이터베이스에서 색인 재구축
+     *
+     * 사용자, 이메일, 이메일 링크를 순서대로 나누어 읽어 새 색인을 만든 뒤 기존 색인과 교체합니다.
+     * 재구축 중 발송, 읽음, 삭제가 누락되지 않도록 재구축이 끝날 때까지 쓰기 잠금을 유지하며,
+     * 그동안 검색은 대기합니다.
+     *
+     * @param emailDao 이메일 DAO
+     * @param emailLinkDao 이메일 링크 DAO
+     * @param userDao 사용자 DAO
+     */
+    public void rebuild(EmailDao emailDao, EmailLinkDao emailLinkDao, UserDao userDao) {
+        long startTime = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            Map<String, PostingList> newPostings = new HashMap<>();
+            Map<Integer, IndexedEmail> newEmails = new HashMap<>();
+            Map<Integer, IndexedSender> newSenders = new HashMap<>();
+            Map<Integer, Mailbox> newMailboxes = new HashMap<>();
+
+            // 1. 발신자 정보
+            for (User user : userDao.findAll()) {
+                putSender(newSenders, user);
+            }
+
+            // 2. 이메일 색인
+            int lastEmailIdx = 0;
+            List<Email> batch;
+            while (!(batch = emailDao.getEmailsAfter(lastEmailIdx, REBUILD_BATCH_SIZE)).isEmpty()) {
+                for (Email email : batch) {
+                    addDocument(newPostings, newEmails, newSenders, email);
+                    lastEmailIdx = email.getEmailIdx();
+                }
+            }
+
+            // 3. 수신자별 메일함 (삭제된 링크 제외)
+            int lastLinkIdx = 0;
+            List<EmailLink> links;
+            while (!(links = emailLinkDao.getLinksAfter(lastLinkIdx, REBUILD_BATCH_SIZE)).isEmpty()) {
+                for (EmailLink link : links) {
+                    lastLinkIdx = link.getLinkIdx();
+                    if (link.getIsDeleted() == 'Y' || !newEmails.containsKey(link.getEmailIdx())) {
+                        continue;
+                    }
+                    Mailbox mailbox = newMailboxes.computeIfAbsent(link.getReceiverId(), id -> new Mailbox());
+                    mailbox.received.add(link.getEmailIdx());
+                    if (link.getIsReaded() == 'Y') {
+                        mailbox.read.add(link.getEmailIdx());
+                    }
+                }
+            }
+
+            // 재구축이 끝난 배열은 여유 공간 제거
+            newPostings.values().forEach(PostingList::trimToSize);
+            for (Mailbox mailbox : newMailboxes.values()) {
+                mailbox.received.trimToSize();
+                mailbox.read.trimToSize();
+            }
+
+            postings = newPostings;
+            emails = newEmails;
+            senders = newSenders;
+            mailboxes = newMailboxes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        System.out.println("검색 색인 재구축 완료 (" + (System.currentTimeMillis() - startTime) + "ms)");
+    }
+
+    /**
+     * 색인된 이메일 수
+     *
+     * @return 이메일 수
+     */
+    public int getEmailCount() {
+        lock.readLock().lock();
+        try {
+            return emails.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 토큰 수
+     *
+     * @return 토큰 수
+     */
+    public int getTokenCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인이 사용하는 대략적인 메모리 크기 (바이트)
+     *
+     * 객체 헤더 16바이트, 참조 4바이트(압축 포인터), HashMap 항목 32바이트를 기준으로 추정하며
+     * 실제 사용량은 JVM 설정에 따라 다를 수 있습니다.
+     *
+     * @return 추정 메모리 크기
+     */
+    public long getEstimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return estimatePostingBytes() + estimateEmailBytes() + estimateSenderBytes() + estimateMailboxBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 상태를 콘솔에 출력합니다.
+     *
+     * 노드별 메모리 크기를 산정할 수 있도록 다음 정보를 표시합니다:
+     *   색인된 이메일, 토큰, 포스팅 수
+     *   발신자 및 메일함 수
+     *   구성 요소별 추정 메모리 사용량
+     */
+    public void printStatistics() {
+        lock.readLock().lock();
+        try {
+            long postingCount = 0;
+            for (PostingList list : postings.values()) {
+                postingCount += list.size();
+            }
+            long mailboxEntries = 0;
+            for (Mailbox mailbox : mailboxes.values()) {
+                mailboxEntries += mailbox.received.size();
+            }
+            long postingBytes = estimatePostingBytes();
+            long emailBytes = estimateEmailBytes();
+            long senderBytes = estimateSenderBytes();
+            long mailboxBytes = estimateMailboxBytes();
+
+            System.out.println("[검색 색인 상태]");
+            System.out.println("색인된 이메일 수 : " + emails.size());
+            System.out.println("토큰 수 : " + postings.size());
+            System.out.println("포스팅 수 : " + postingCount);
+            System.out.println("발신자 수 : " + senders.size());
+            System.out.println("메일함 수 : " + mailboxes.size() + " (받은 메일 " + mailboxEntries + "건)");
+            System.out.println("포스팅 메모리 : " + toKilobytes(postingBytes));
+            System.out.println("이메일 정보 메모리 : " + toKilobytes(emailBytes));
+            System.out.println("발신자 정보 메모리 : " + toKilobytes(senderBytes));
+            System.out.println("메일함 메모리 : " + toKilobytes(mailboxBytes));
+            System.out.println("전체 추정 메모리 : " + toKilobytes(postingBytes + emailBytes + senderBytes + mailboxBytes));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이메일 하나를 색인에 추가
+     *
+     * @param targetPostings 포스팅 Map
+     * @param targetEmails 이메일 정보 Map
+     * @param targetSenders 발신자 정보 Map
+     * @param email 추가할 이메일
+     */
+    private static void addDocument(Map<String, PostingList> targetPostings, Map<Integer, IndexedEmail> targetEmails,
+                                    Map<Integer, IndexedSender> targetSenders, Email email) {
+        int emailId = email.getEmailIdx();
+        targetEmails.put(emailId, new IndexedEmail(email.getTitle(), email.getCreatedAt(), email.getSenderId()));
+
+        StringBuilder text = new StringBuilder();
+        text.append(Objects.toString(email.getTitle(), "")).append(' ').append(Objects.toString(email.getBody(), ""));
+        IndexedSender sender = targetSenders.get(email.getSenderId());
+        if (sender != null) {
+            text.append(' ').append(sender.nickname).append(' ').append(sender.emailId);
+        }
+
+        for (String token : BigramTokenizer.tokenize(text.toString())) {
+            targetPostings.computeIfAbsent(token, t -> new PostingList()).add(emailId);
+        }
+    }
+
+    /**
+     * 발신자 정보 저장
+     *
+     * @param targetSenders 발신자 정보 Map
+     * @param user 사용자
+     */
+    private static void putSender(Map<Integer, IndexedSender> targetSenders, User user) {
+        targetSenders.put(user.getIdx(), new IndexedSender(user.getNickname(), user.getEmailId()));
+    }
+
+    /**
+     * 토큰 하나의 이메일 ID 목록 조회
+     *
+     * 두 글자 토큰은 포스팅 리스트를 그대로 사용하고, 한 글자 토큰은
+     * 그 글자를 포함하는 모든 토큰의 포스팅을 합칩니다.
+     *
+     * @param token 검색 토큰
+     * @return 오름차순 이메일 ID 배열
+     */
+    private int[] findPostings(String token) {
+        if (token.length() > 1) {
+            PostingList list = postings.get(token);
+            return list != null ? list.toArray() : new int[0];
+        }
+
+        int[] merged = new int[0];
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            if (entry.getKey().contains(token)) {
+                merged = union(merged, entry.getValue().toArray());
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 정렬된 두 배열의 교집합
+     *
+     * @param a 오름차순 배열
+     * @param b 오름차순 배열
+     * @return 오름차순 교집합 배열
+     */
+    static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    /**
+     * 정렬된 두 배열의 합집합
+     *
+     * @param a 오름차순 배열
+     * @param b 오름차순 배열
+     * @return 중복 없는 오름차순 합집합 배열
+     */
+    static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                result[k++] = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                result[k++] = b[j++];
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    /**
+     * 포스팅 리스트 추정 메모리 크기
+     *
+     * @return 추정 바이트 수
+     */
+    private long estimatePostingBytes() {
+        long bytes = 0;
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            // HashMap 항목 + 토큰 문자열 + 포스팅 리스트
+            bytes += 32 + estimateStringBytes(entry.getKey()) + entry.getValue().estimatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * 이메일 정보 추정 메모리 크기
+     *
+     * @return 추정 바이트 수
+     */
+    private long estimateEmailBytes() {
+        long bytes = 0;
+        for (IndexedEmail email : emails.values()) {
+            // HashMap 항목 + Integer 키 + IndexedEmail + 제목 + LocalDateTime
+            bytes += 32 + 16 + 24 + estimateStringBytes(email.title) + 48;
+        }
+        return bytes;
+    }
+
+    /**
+     * 발신자 정보 추정 메모리 크기
+     *
+     * @return 추정 바이트 수
+     */
+    private long estimateSenderBytes() {
+        long bytes = 0;
+        for (IndexedSender sender : senders.values()) {
+            bytes += 32 + 16 + 24 + estimateStringBytes(sender.nickname) + estimateStringBytes(sender.emailId);
+        }
+        return bytes;
+    }
+
+    /**
+     * 메일함 추정 메모리 크기
+     *
+     * @return 추정 바이트 수
+     */
+    private long estimateMailboxBytes() {
+        long bytes = 0;
+        for (Mailbox mailbox : mailboxes.values()) {
+            bytes += 32 + 16 + 24 + mailbox.received.estimatedBytes() + mailbox.read.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * 문자열 추정 메모리 크기
+     *
+     * @param value 문자열 (null 허용)
+     * @return 추정 바이트 수
+     */
+    private static long estimateStringBytes(String value) {
+        // String 객체(24) + byte 배열 헤더(16) + 내용 (한글은 UTF-16으로 글자당 2바이트)
+        return value == null ? 0 : 24 + 16 + (long) value.length() * 2;
+    }
+
+    /**
+     * 바이트 수를 KB 단위 문자열로 변환
+     *
+     * @param bytes 바이트 수
+     * @return KB 단위 문자열
+     */
+    private static String toKilobytes(long bytes) {
+        return String.format("%,d KB", bytes / 1024);
+    }
+}
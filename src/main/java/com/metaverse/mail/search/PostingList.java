@@ -0,0 +1,132 @@
+package com.metaverse.mail.search;
+
+import java.util.Arrays;
+
+/**
+ * 토큰 하나가 등장하는 이메일 ID 목록 (포스팅 리스트)
+ *
+ * 이메일 ID를 오름차순으로 유지하면서 이전 ID와의 차이(delta)만 int 배열에 저장합니다.
+ * 이메일 ID는 AUTO_INCREMENT로 증가하므로 새 메일은 대부분 끝에 추가되며,
+ * 박싱된 Integer 컬렉션보다 훨씬 적은 메모리를 사용합니다.
+ *
+ * 이 클래스는 스레드에 안전하지 않으며 MailSearchIndex의 잠금 아래에서만 사용됩니다.
+ *
+ * @author 유진
+ * @version 1.0
+ */
+class PostingList {
+    /** 배열의 초기 크기 */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /** 이전 이메일 ID와의 차이 (첫 번째 값은 ID 그대로) */
+    private int[] deltas = new int[INITIAL_CAPACITY];
+
+    /** 저장된 이메일 ID 수 */
+    private int size;
+
+    /** 마지막(가장 큰) 이메일 ID */
+    private int lastId;
+
+    /**
+     * 이메일 ID 추가
+     *
+     * 마지막 ID보다 크면 끝에 바로 추가하고, 작으면 복원 후 정렬된 위치에 삽입합니다.
+     * 이미 있는 ID는 무시합니다.
+     *
+     * @param emailId 이메일 ID
+     */
+    void add(int emailId) {
+        if (size == 0 || emailId > lastId) {
+            ensureCapacity(size + 1);
+            deltas[size] = size == 0 ? emailId : emailId - lastId;
+            size++;
+            lastId = emailId;
+            return;
+        }
+
+        // 순서가 맞지 않는 ID는 복원한 뒤 다시 인코딩 (드문 경우)
+        int[] ids = toArray();
+        int position = Arrays.binarySearch(ids, emailId);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+
+        int[] merged = new int[size + 1];
+        System.arraycopy(ids, 0, merged, 0, position);
+        merged[position] = emailId;
+        System.arraycopy(ids, position, merged, position + 1, size - position);
+        encode(merged);
+    }
+
+    /**
+     * 저장된 이메일 ID를 오름차순 배열로 복원
+     *
+     * @return 이메일 ID 배열
+     */
+    int[] toArray() {
+        int[] ids = new int[size];
+        int current = 0;
+        for (int i = 0; i < size; i++) {
+            current += deltas[i];
+            ids[i] = current;
+        }
+        return ids;
+    }
+
+    /**
+     * 저장된 이메일 ID 수
+     *
+     * @return ID 수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 이 포스팅 리스트가 차지하는 대략적인 메모리 크기 (바이트)
+     *
+     * @return 객체 헤더와 배열을 포함한 추정 크기
+     */
+    long estimatedBytes() {
+        // 객체 헤더와 필드(16 + 4 + 4 + 참조) + 배열 헤더(16) + 배열 용량
+        return 32 + 16 + (long) deltas.length * Integer.BYTES;
+    }
+
+    /**
+     * 배열 크기를 실제 사용량에 맞게 줄임 (재구축 완료 후 호출)
+     */
+    void trimToSize() {
+        if (deltas.length > size) {
+            deltas = Arrays.copyOf(deltas, Math.max(size, 1));
+        }
+    }
+
+    /**
+     * 오름차순 ID 배열을 delta로 다시 인코딩
+     *
+     * @param ids 오름차순 이메일 ID 배열
+     */
+    private void encode(int[] ids) {
+        deltas = new int[Math.max(ids.length, INITIAL_CAPACITY)];
+        int previous = 0;
+        for (int i = 0; i < ids.length; i++) {
+            deltas[i] = ids[i] - previous;
+            previous = ids[i];
+        }
+        size = ids.length;
+        lastId = previous;
+    }
+
+    /**
+     * 배열 용량 확보 (1.5배씩 증가)
+     *
+     * @param required 필요한 최소 크기
+     */
+    private void ensureCapacity(int required) {
+        if (required > deltas.length) {
+            int capacity = Math.max(required, deltas.length + (deltas.length >> 1));
+            deltas = Arrays.copyOf(deltas, capacity);
+        }
+    }
+}
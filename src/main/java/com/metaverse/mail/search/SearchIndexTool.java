@@ -0,0 +1,71 @@
+package com.metaverse.mail.search;
+
+import com.metaverse.mail.common.JDBCConnection;
+import com.metaverse.mail.dao.impl.inbox.EmailLinkDaoImpl;
+import com.metaverse.mail.dao.impl.mail.EmailDaoImpl;
+import com.metaverse.mail.dao.impl.user.UserDaoImpl;
+import com.metaverse.mail.dto.mail.BodyStorageDto;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 검색 색인 재구축 명령
+ *
+ * 데이터베이스 전체로 검색 색인을 재구축하고 색인 통계와 본문 테이블의 InnoDB 압축 상태를 출력합니다.
+ * 애플리케이션을 실행하지 않고 현재 데이터 기준으로 노드별 필요한 메모리를 산정할 때 사용합니다.
+ *
+ * 실행: java -cp &lt;classpath&gt; com.metaverse.mail.search.SearchIndexTool
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public class SearchIndexTool {
+
+    /**
+     * 색인 재구축 및 통계 출력
+     *
+     * @param args 명령행 인수 (사용하지 않음)
+     */
+    public static void main(String[] args) {
+        try (Connection connection = JDBCConnection.getConnection()) {
+            EmailDaoImpl emailDao = new EmailDaoImpl(connection);
+            MailSearchIndex searchIndex = new MailSearchIndex();
+            searchIndex.rebuild(emailDao, new EmailLinkDaoImpl(connection), new UserDaoImpl(connection));
+            searchIndex.printStatistics();
+            printBodyStorage(emailDao.getBodyStorage());
+        } catch (SQLException e) {
+            System.err.println("검색 색인 재구축 중 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            JDBCConnection.close();
+        }
+    }
+
+    /**
+     * 본문 테이블의 저장 상태를 콘솔에 출력합니다.
+     *
+     * @param storage 본문 저장 상태
+     */
+    private static void printBodyStorage(BodyStorageDto storage) {
+        System.out.println("[본문 저장 상태]");
+        System.out.println("저장 형식 : " + storage.getRowFormat() + " (" + storage.getCreateOptions() + ")");
+        System.out.printf("본문 수(추정) : %d건, 데이터 : %.1f MB, 인덱스 : %.1f MB%n",
+                storage.getRowCount(), toMegabytes(storage.getDataBytes()), toMegabytes(storage.getIndexBytes()));
+        if (!storage.isCompressionAvailable()) {
+            System.out.println("InnoDB 압축 통계 : 조회할 수 없음 (PROCESS 권한 필요)");
+            return;
+        }
+        System.out.printf("페이지 압축 : %d회 (성공률 %.1f%%), %d초%n",
+                storage.getCompressOps(), storage.getCompressSuccessRatio() * 100, storage.getCompressSeconds());
+        System.out.printf("페이지 압축 해제 : %d회, %d초%n",
+                storage.getUncompressOps(), storage.getUncompressSeconds());
+    }
+
+    /**
+     * 바이트를 메가바이트로 변환
+     */
+    private static double toMegabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+}
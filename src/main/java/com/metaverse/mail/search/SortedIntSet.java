@@ -0,0 +1,114 @@
+package com.metaverse.mail.search;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순으로 정렬된 int 집합
+ *
+ * 사용자별 받은 메일 ID와 읽은 메일 ID를 박싱 없이 저장하기 위해 사용합니다.
+ * 포함 여부는 이진 탐색으로 확인합니다.
+ *
+ * 이 클래스는 스레드에 안전하지 않으며 MailSearchIndex의 잠금 아래에서만 사용됩니다.
+ *
+ * @author 유진
+ * @version 1.0
+ */
+class SortedIntSet {
+    /** 배열의 초기 크기 */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** 오름차순 값 배열 */
+    private int[] values = new int[INITIAL_CAPACITY];
+
+    /** 저장된 값 수 */
+    private int size;
+
+    /**
+     * 값 추가 (이미 있으면 무시)
+     *
+     * @param value 추가할 값
+     */
+    void add(int value) {
+        if (size > 0 && value > values[size - 1]) {
+            ensureCapacity(size + 1);
+            values[size++] = value;
+            return;
+        }
+
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+
+        ensureCapacity(size + 1);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        values[position] = value;
+        size++;
+    }
+
+    /**
+     * 값 제거
+     *
+     * @param value 제거할 값
+     * @return 제거되었으면 true
+     */
+    boolean remove(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * 값 포함 여부
+     *
+     * @param value 확인할 값
+     * @return 포함되어 있으면 true
+     */
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    /**
+     * 저장된 값 수
+     *
+     * @return 값 수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 이 집합이 차지하는 대략적인 메모리 크기 (바이트)
+     *
+     * @return 객체 헤더와 배열을 포함한 추정 크기
+     */
+    long estimatedBytes() {
+        return 24 + 16 + (long) values.length * Integer.BYTES;
+    }
+
+    /**
+     * 배열 크기를 실제 사용량에 맞게 줄임 (재구축 완료 후 호출)
+     */
+    void trimToSize() {
+        if (values.length > size) {
+            values = Arrays.copyOf(values, Math.max(size, 1));
+        }
+    }
+
+    /**
+     * 배열 용량 확보 (1.5배씩 증가)
+     *
+     * @param required 필요한 최소 크기
+     */
+    private void ensureCapacity(int required) {
+        if (required > values.length) {
+            int capacity = Math.max(required, values.length + (values.length >> 1));
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package com.metaverse.mail.service.impl.inbox;
 
+import com.metaverse.mail.common.TransactionManager;
 import com.metaverse.mail.dao.interfaces.EmailDao;
 import com.metaverse.mail.dao.interfaces.EmailLinkDao;
 import com.metaverse.mail.dao.interfaces.TrashDao;
 import com.metaverse.mail.dao.interfaces.UserDao;
+import com.metaverse.mail.dto.inbox.MailboxSummaryDto;
 import com.metaverse.mail.dto.inbox.SentEmailDto;
+import com.metaverse.mail.dto.inbox.SentEmailPageDto;
+import com.metaverse.mail.model.Email;
 import com.metaverse.mail.model.EmailLink;
+import com.metaverse.mail.model.User;
+import com.metaverse.mail.search.MailSearchIndex;
 import com.metaverse.mail.service.interfaces.InboxService;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class InboxServiceImpl implements InboxService {
     private final EmailDao emailDao;
@@ -16,6 +24,9 @@ public class InboxServiceImpl implements InboxService {
     private final UserDao userDao;
     private final TrashDao trashDao;
 
+    /** 받은 메일 검색 색인 (null이면 사용하지 않음) */
+    private final MailSearchIndex searchIndex;
+
     /**
      * 생성자
      *
@@ -25,79 +36,336 @@ public class InboxServiceImpl implements InboxService {
      * @param trashDao     휴지통 DAO
      */
     public InboxServiceImpl(EmailDao emailDao, EmailLinkDao emailLinkDao, UserDao userDao, TrashDao trashDao) {
+        this(emailDao, emailLinkDao, userDao, trashDao, null);
+    }
+
+    /**
+     * 검색 색인을 사용하는 생성자
+     *
+     * 받은 메일을 삭제하면 검색 색인의 메일함에서도 제외됩니다.
+     *
+     * @param emailDao     이메일 DAO
+     * @param emailLinkDao 이메일 링크 DAO
+     * @param userDao      사용자 DAO
+     * @param trashDao     휴지통 DAO
+     * @param searchIndex  받은 메일 검색 색인 (null이면 사용하지 않음)
+     */
+    public InboxServiceImpl(EmailDao emailDao, EmailLinkDao emailLinkDao, UserDao userDao, TrashDao trashDao,
+                            MailSearchIndex searchIndex) {
         this.emailDao = emailDao;
         this.emailLinkDao = emailLinkDao;
         this.userDao = userDao;
         this.trashDao = trashDao;
+        this.searchIndex = searchIndex;
     }
 
+    /**
+     * 보낸 메일함 첫 페이지 조회
+     *
+     * 다음 페이지 존재 여부를 확인하기 위해 한 페이지보다 하나 더 조회합니다.
+     * 이메일 헤더 조회 1번, 수신자 조회 1번으로 수신자 수와 관계없이 쿼리 수가 일정합니다.
+     *
+     * @param userId   사용자 ID
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 첫 페이지 정보
+     */
     @Override
-    public List<SentEmailDto> getSentEmails(int userId) {
-        // 구현 필요
-        return List.of();
+    public SentEmailPageDto getSentEmailsPage(int userId, int pageSize) {
+        if (userId <= 0 || pageSize <= 0) {
+            return new SentEmailPageDto(new ArrayList<>(), false, false);
+        }
+
+        List<Email> emails = emailDao.getSentEmailsFirstPage(userId, pageSize + 1);
+        boolean hasNext = emails.size() > pageSize;
+
+        return new SentEmailPageDto(toSentEmailDtos(trimPage(emails, pageSize, false)), hasNext, false);
     }
 
+    /**
+     * 보낸 메일함 다음 페이지 조회
+     *
+     * 현재 페이지의 마지막 이메일(발송 일시, 이메일 ID)을 커서로 사용합니다.
+     *
+     * @param userId   사용자 ID
+     * @param current  현재 페이지 정보
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 다음 페이지 정보
+     */
     @Override
-    public SentEmailDto getSentEmailDetails(int emailId) {
-        // 구현 필요
-        return null;
+    public SentEmailPageDto getNextSentEmailsPage(int userId, SentEmailPageDto current, int pageSize) {
+        if (current == null || current.getLast() == null) {
+            return getSentEmailsPage(userId, pageSize);
+        }
+
+        SentEmailDto cursor = current.getLast();
+        List<Email> emails = emailDao.getSentEmailsOlderThan(
+                userId, cursor.getSentDate(), cursor.getEmailId(), pageSize + 1);
+        boolean hasNext = emails.size() > pageSize;
+
+        return new SentEmailPageDto(toSentEmailDtos(trimPage(emails, pageSize, false)), hasNext, true);
+    }
+
+    /**
+     * 보낸 메일함 이전 페이지 조회
+     *
+     * 현재 페이지의 첫 번째 이메일(발송 일시, 이메일 ID)을 커서로 사용합니다.
+     * 결과는 최신순이므로, 초과 조회된 한 건은 목록의 맨 앞에서 제거합니다.
+     *
+     * @param userId   사용자 ID
+     * @param current  현재 페이지 정보
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 이전 페이지 정보
+     */
+    @Override
+    public SentEmailPageDto getPreviousSentEmailsPage(int userId, SentEmailPageDto current, int pageSize) {
+        if (current == null || current.getFirst() == null) {
+            return getSentEmailsPage(userId, pageSize);
+        }
+
+        SentEmailDto cursor = current.getFirst();
+        List<Email> emails = emailDao.getSentEmailsNewerThan(
+                userId, cursor.getSentDate(), cursor.getEmailId(), pageSize + 1);
+        boolean hasPrevious = emails.size() > pageSize;
+
+        return new SentEmailPageDto(toSentEmailDtos(trimPage(emails, pageSize, true)), true, hasPrevious);
+    }
+
+    /**
+     * 보낸 이메일 상세 정보 조회
+     *
+     * @param emailId 이메일 ID
+     * @param userId  사용자 ID
+     * @return 이메일 상세 정보, 없거나 발신자가 아니면 null
+     */
+    @Override
+    public SentEmailDto getSentEmailDetails(int emailId, int userId) {
+        // 1. 이메일 조회 (본문 포함)
+        Email email = emailDao.getEmailById(emailId);
+
+        if (email == null) {
+            System.err.println("해당 이메일을 찾을 수 없습니다.");
+            return null;
+        }
+
+        // 2. 발신자 본인인지 확인
+        if (email.getSenderId() != userId) {
+            System.err.println("보낸 사람만 조회할 수 있는 이메일입니다.");
+            return null;
+        }
+
+        // 3. 수신자 목록 조회
+        List<User> receivers = emailLinkDao.getReceiversByEmailIds(List.of(emailId))
+                .getOrDefault(emailId, List.of());
+
+        return toSentEmailDto(email, receivers, email.getBody());
+    }
+
+    /**
+     * 이메일 헤더 목록을 수신자 목록이 채워진 SentEmailDto 목록으로 변환
+     *
+     * 페이지의 모든 이메일 ID로 수신자를 한 번에 조회합니다.
+     *
+     * @param emails 본문이 비어 있는 이메일 목록 (최신순)
+     * @return 보낸 이메일 DTO 목록 (최신순)
+     */
+    private List<SentEmailDto> toSentEmailDtos(List<Email> emails) {
+        List<SentEmailDto> results = new ArrayList<>();
+        if (emails.isEmpty()) {
+            return results;
+        }
+
+        List<Integer> emailIds = new ArrayList<>();
+        for (Email email : emails) {
+            emailIds.add(email.getEmailIdx());
+        }
+        Map<Integer, List<User>> receiversByEmail = emailLinkDao.getReceiversByEmailIds(emailIds);
+
+        for (Email email : emails) {
+            // 목록에서는 본문을 조회하지 않음
+            results.add(toSentEmailDto(email, receiversByEmail.getOrDefault(email.getEmailIdx(), List.of()), null));
+        }
+        return results;
+    }
+
+    /**
+     * 이메일과 수신자 목록을 SentEmailDto로 변환
+     *
+     * @param email     이메일 객체
+     * @param receivers 수신자 목록
+     * @param body      이메일 본문 (목록용이면 null)
+     * @return 보낸 이메일 DTO
+     */
+    private SentEmailDto toSentEmailDto(Email email, List<User> receivers, String body) {
+        List<String> receiverNames = new ArrayList<>();
+        List<String> receiverEmails = new ArrayList<>();
+        for (User receiver : receivers) {
+            receiverNames.add(receiver.getNickname());
+            receiverEmails.add(receiver.getEmailId());
+        }
+        return new SentEmailDto(email.getEmailIdx(), receiverNames, receiverEmails,
+                email.getTitle(), body, email.getCreatedAt());
+    }
+
+    /**
+     * 한 페이지보다 많이 조회된 목록을 페이지 크기에 맞게 자릅니다.
+     *
+     * @param emails    조회된 이메일 목록 (최신순)
+     * @param pageSize  한 페이지에 표시할 이메일 수
+     * @param fromFront true이면 앞쪽(최신)의 초과분을, false이면 뒤쪽(오래된)의 초과분을 제거
+     * @return 페이지 크기 이하의 이메일 목록
+     */
+    private List<Email> trimPage(List<Email> emails, int pageSize, boolean fromFront) {
+        if (emails.size() <= pageSize) {
+            return emails;
+        }
+        int excess = emails.size() - pageSize;
+        return fromFront
+                ? new ArrayList<>(emails.subList(excess, emails.size()))
+                : new ArrayList<>(emails.subList(0, pageSize));
+    }
+
+    /**
+     * 메일함 개수 조회
+     *
+     * @param userId 사용자 ID
+     * @return 메일함 개수 정보, 사용자 ID가 유효하지 않으면 모두 0
+     */
+    @Override
+    public MailboxSummaryDto getMailboxSummary(int userId) {
+        if (userId <= 0) {
+            return new MailboxSummaryDto();
+        }
+        return emailLinkDao.getMailboxSummary(userId);
     }
 
     /**
      * 받은 이메일 삭제 (휴지통으로 이동)
      *
+     * 링크 조회, 삭제 상태 변경, 메일함 개수 갱신, 휴지통 추가를 휴지통 DAO의 한 트랜잭션에서 처리하므로
+     * 중간에 실패해도 메일이 숨겨지기만 하고 휴지통에 없는 상태가 생기지 않습니다.
+     *
      * @param emailId 이메일 ID
      * @param userId  사용자 ID
      * @return 삭제 성공 여부(true: 성공, false: 실패)
      */
     @Override
     public boolean deleteReceivedEmail(int emailId, int userId) {
-        // 1. 사용자가 수신한 이메일 링크 찾기
-        List<EmailLink> links = emailLinkDao.getLinksByReceiverId(userId);
-        EmailLink targetLink = null;
-
-        for (EmailLink link : links) {
-            if (link.getEmailIdx() == emailId) {
-                targetLink = link;
-                break;
+        if (!trashDao.moveToTrash(userId, emailId)) {
+            System.err.println("해당 이메일을 찾을 수 없거나, 사용자가 수신자가 아니거나, 이미 삭제된 이메일입니다.");
+            return false;
+        }
+
+        // 검색 색인의 메일함에서 제외
+        if (searchIndex != null) {
+            searchIndex.removeFromMailbox(userId, emailId);
+        }
+        return true;
+    }
+
+    /**
+     * 여러 받은 이메일을 한 번에 읽음 처리
+     *
+     * @param userId  사용자 ID
+     * @param linkIds 받은 메일 링크 ID 배열
+     * @return 읽음 상태로 변경된 메일 수
+     */
+    @Override
+    public int markReceivedEmailsAsRead(int userId, int[] linkIds) {
+        if (userId <= 0 || linkIds == null || linkIds.length == 0) {
+            return 0;
+        }
+
+        List<EmailLink> marked = emailLinkDao.markAsRead(userId, linkIds);
+
+        // 검색 색인의 읽음 상태 반영
+        if (searchIndex != null) {
+            for (EmailLink link : marked) {
+                searchIndex.markRead(userId, link.getEmailIdx());
             }
         }
+        return marked.size();
+    }
 
-        if (targetLink == null) {
-            System.err.println("해당 이메일을 찾을 수 없거나 사용자가 수신자가 아닙니다.");
-            return false;
+    /**
+     * 받은 메일함의 모든 메일 읽음 처리
+     *
+     * @param userId 사용자 ID
+     * @return 읽음 상태로 변경된 메일 수
+     */
+    @Override
+    public int markAllReceivedEmailsAsRead(int userId) {
+        if (userId <= 0) {
+            return 0;
         }
 
-        // 2. 이미 삭제된 이메일인지 확인
-        if (targetLink.getIsDeleted() == 'Y') {
-            System.err.println("이미 삭제된 이메일입니다.");
-            return false;
+        List<EmailLink> marked = emailLinkDao.markAllAsRead(userId);
+
+        if (searchIndex != null) {
+            for (EmailLink link : marked) {
+                searchIndex.markRead(userId, link.getEmailIdx());
+            }
         }
+        return marked.size();
+    }
 
+    /**
+     * 여러 받은 이메일을 한 번에 삭제 (휴지통으로 이동)
+     *
+     * 링크 상태 변경 몇 번과 휴지통 배치 추가로 처리하므로 메일 수와 관계없이 문장 수가 적습니다.
+     *
+     * @param userId  사용자 ID
+     * @param linkIds 받은 메일 링크 ID 배열
+     * @return 삭제된 메일 수, 실패하면 0
+     */
+    @Override
+    public int deleteReceivedEmails(int userId, int[] linkIds) {
+        if (userId <= 0 || linkIds == null || linkIds.length == 0) {
+            return 0;
+        }
+
+        List<EmailLink> deleted;
         try {
-            // 3. 이메일 링크 삭제 상태로 변경
-            int linkId = targetLink.getLinkIdx();
-            boolean marked = emailLinkDao.markAsDeleted(linkId);
+            // 삭제 표시와 휴지통 추가를 하나의 트랜잭션으로 처리
+            TransactionManager.begin();
+
+            // 1. 사용자의 받은 메일함에 있는 링크만 삭제 상태로 변경
+            deleted = emailLinkDao.markAsDeleted(userId, linkIds);
 
-            if (!marked) {
-                System.err.println("이메일 삭제 상태 변경 실패");
-                return false;
+            if (deleted.isEmpty()) {
+                System.err.println("삭제할 수 있는 이메일이 없습니다.");
+                TransactionManager.rollback();
+                return 0;
             }
 
-            // 4. 휴지통에 추가
-            boolean addedToTrash = trashDao.addToTrash(linkId);
+            // 2. 변경된 링크를 휴지통에 일괄 추가
+            int[] deletedLinkIds = new int[deleted.size()];
+            for (int i = 0; i < deleted.size(); i++) {
+                deletedLinkIds[i] = deleted.get(i).getLinkIdx();
+            }
 
-            if (!addedToTrash) {
-                System.err.println("휴지통 항목 추가 실패");
-                return false;
+            if (!trashDao.addToTrash(deletedLinkIds)) {
+                System.err.println("휴지통 항목 일괄 추가 실패");
+                TransactionManager.rollback();
+                return 0;
             }
 
-            return true;
+            TransactionManager.commit();
         } catch (Exception e) {
-            System.err.println("이메일 삭제 중 오류 발생: " + e.getMessage());
+            TransactionManager.rollback();
+            System.err.println("이메일 일괄 삭제 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
-            return false;
+            return 0;
+        } finally {
+            TransactionManager.end();
+        }
+
+        // 검색 색인의 메일함에서 제외
+        if (searchIndex != null) {
+            for (EmailLink link : deleted) {
+                searchIndex.removeFromMailbox(userId, link.getEmailIdx());
+            }
         }
+        return deleted.size();
     }
 
     @Override
@@ -0,0 +1,322 @@
+package com.metaverse.mail.service.impl.inbox;
+
+import com.metaverse.mail.common.AppConfig;
+import com.metaverse.mail.dto.inbox.TrashPurgeDto;
+import com.metaverse.mail.service.interfaces.TrashService;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 휴지통 만료 항목 정리 스케줄러
+ *
+ * 별도의 데몬 스레드에서 TrashService.cleanupExpiredEmails를 주기적으로 실행하여
+ * 보관 기간이 지난 휴지통 항목이 쌓이지 않게 합니다.
+ *
+ * 여러 프로세스가 같은 시각에 정리를 시작하지 않도록 실행 간격에 무작위 지연(jitter)을 더하고,
+ * 한 번의 실행이 너무 오래 걸리지 않도록 최대 실행 시간을 제한합니다.
+ * 다음 실행은 이전 실행이 끝난 뒤에 예약되므로 실행이 겹치지 않습니다.
+ * 실행 통계는 printStatistics로 출력하며, Application은 프로그램 종료 시 이를 출력합니다.
+ *
+ * 설정 예시 (config.properties):
+ *   trash.janitor.enabled=true
+ *   trash.janitor.interval.minutes=60
+ *   trash.janitor.jitter.seconds=300
+ *   trash.janitor.max.runtime.seconds=60
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public class TrashJanitor {
+    /** 실행 간격 (밀리초) */
+    private static final long INTERVAL_MILLIS =
+            TimeUnit.MINUTES.toMillis(AppConfig.getLong("trash.janitor.interval.minutes", 60));
+
+    /** 실행 간격에 더할 최대 무작위 지연 (밀리초) */
+    private static final long JITTER_MILLIS =
+            TimeUnit.SECONDS.toMillis(AppConfig.getLong("trash.janitor.jitter.seconds", 300));
+
+    /** 한 번 실행의 최대 실행 시간 (밀리초) */
+    private static final long MAX_RUNTIME_MILLIS =
+            TimeUnit.SECONDS.toMillis(AppConfig.getLong("trash.janitor.max.runtime.seconds", 60));
+
+    /** 정리 스레드 종료 대기 시간 (초) */
+    private static final long STOP_TIMEOUT_SECONDS = 5;
+
+    /** 마지막 실행 시각 출력 형식 */
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final TrashService trashService;
+    private final long intervalMillis;
+    private final long jitterMillis;
+    private final long maxRuntimeMillis;
+
+    /** 정리 작업을 실행하는 단일 데몬 스레드 */
+    private final ScheduledExecutorService scheduler;
+
+    /** 시작 여부 */
+    private boolean started;
+
+    /** 실행 횟수 */
+    private final AtomicLong runCount = new AtomicLong();
+
+    /** 예외 또는 묶음 삭제 오류로 실패한 실행 횟수 */
+    private final AtomicLong failureCount = new AtomicLong();
+
+    /** 최대 실행 시간을 넘겨 남은 항목을 다음 실행으로 미룬 횟수 */
+    private final AtomicLong timedOutCount = new AtomicLong();
+
+    /** 지금까지 삭제한 항목 수 합계 */
+    private final AtomicLong totalRemovedCount = new AtomicLong();
+
+    /** 마지막 실행 시작 시각 (실행한 적이 없으면 null) */
+    private volatile LocalDateTime lastRunAt;
+
+    /** 마지막 실행에 걸린 시간 (밀리초) */
+    private volatile long lastDurationMillis;
+
+    /** 마지막 실행에서 삭제한 항목 수 */
+    private volatile int lastRemovedCount;
+
+    /** 마지막 실행에서 커밋한 묶음 수 */
+    private volatile int lastChunkCount;
+
+    /** 마지막 실행에서 가장 오래 걸린 묶음의 실행 시간 (밀리초) */
+    private volatile long lastSlowestChunkMillis;
+
+    /**
+     * config.properties 설정을 사용하는 생성자
+     *
+     * @param trashService 휴지통 서비스
+     */
+    public TrashJanitor(TrashService trashService) {
+        this(trashService, INTERVAL_MILLIS, JITTER_MILLIS, MAX_RUNTIME_MILLIS);
+    }
+
+    /**
+     * 실행 주기를 지정하는 생성자
+     *
+     * @param trashService     휴지통 서비스
+     * @param intervalMillis   실행 간격 (밀리초)
+     * @param jitterMillis     실행 간격에 더할 최대 무작위 지연 (밀리초, 0이면 지연 없음)
+     * @param maxRuntimeMillis 한 번 실행의 최대 실행 시간 (밀리초, 0 이하이면 제한 없음)
+     */
+    public TrashJanitor(TrashService trashService, long intervalMillis, long jitterMillis, long maxRuntimeMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("실행 간격은 0보다 커야 합니다: " + intervalMillis);
+        }
+
+        this.trashService = trashService;
+        this.intervalMillis = intervalMillis;
+        this.jitterMillis = Math.max(0, jitterMillis);
+        this.maxRuntimeMillis = maxRuntimeMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "trash-janitor");
+            thread.setDaemon(true); // 프로그램 종료를 막지 않음
+            return thread;
+        });
+    }
+
+    /**
+     * 정리 스케줄러 시작
+     *
+     * 첫 실행은 무작위 지연 후에 시작하며, 이미 시작되었으면 아무것도 하지 않습니다.
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        scheduleNext(nextJitter());
+    }
+
+    /**
+     * 정리 스케줄러 중지
+     *
+     * 실행 중인 정리 작업에 인터럽트를 보내고 잠시 종료를 기다립니다.
+     * 정리는 묶음마다 커밋되므로 중간에 멈춰도 이미 삭제한 항목은 유지됩니다.
+     */
+    public void stop() {
+        scheduler.shutdownNow();
+        try {
+            if (!scheduler.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("휴지통 정리 작업이 종료되지 않았습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 정리 작업을 한 번 실행하고 실행 통계를 기록
+     *
+     * 예외가 발생해도 스케줄러가 멈추지 않도록 실패 횟수만 기록합니다.
+     *
+     * @return 삭제한 항목 수
+     */
+    public int runOnce() {
+        lastRunAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        int removed = 0;
+        int chunks = 0;
+        long slowestChunkMillis = 0;
+
+        try {
+            TrashPurgeDto result = trashService.cleanupExpiredEmails(maxRuntimeMillis);
+            removed = result.getRemovedCount();
+            chunks = result.getChunkCount();
+            slowestChunkMillis = result.getSlowestChunkMillis();
+            if (result.isFailed()) {
+                failureCount.incrementAndGet();
+            }
+            if (result.isTimedOut()) {
+                timedOutCount.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            failureCount.incrementAndGet();
+            System.err.println("휴지통 정리 실패: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            lastDurationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            lastRemovedCount = removed;
+            lastChunkCount = chunks;
+            lastSlowestChunkMillis = slowestChunkMillis;
+            totalRemovedCount.addAndGet(removed);
+            runCount.incrementAndGet();
+        }
+
+        return removed;
+    }
+
+    /**
+     * 예약된 실행: 정리 후 다음 실행 예약
+     */
+    private void runScheduled() {
+        runOnce();
+        scheduleNext(intervalMillis + nextJitter());
+    }
+
+    /**
+     * 다음 실행 예약
+     *
+     * @param delayMillis 실행까지 대기 시간 (밀리초)
+     */
+    private void scheduleNext(long delayMillis) {
+        try {
+            scheduler.schedule(this::runScheduled, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 중지된 스케줄러에는 더 이상 예약하지 않음
+        }
+    }
+
+    /**
+     * 무작위 지연 시간
+     *
+     * @return 0 이상 jitterMillis 이하의 밀리초
+     */
+    private long nextJitter() {
+        return jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+    }
+
+    /**
+     * 실행 횟수
+     *
+     * @return 정리 작업을 실행한 횟수
+     */
+    public long getRunCount() {
+        return runCount.get();
+    }
+
+    /**
+     * 실패 횟수
+     *
+     * @return 예외로 실패한 실행 횟수
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * 시간 초과 횟수
+     *
+     * @return 최대 실행 시간을 넘겨 남은 항목을 다음 실행으로 미룬 횟수
+     */
+    public long getTimedOutCount() {
+        return timedOutCount.get();
+    }
+
+    /**
+     * 삭제한 항목 수 합계
+     *
+     * @return 지금까지 삭제한 휴지통 항목 수
+     */
+    public long getTotalRemovedCount() {
+        return totalRemovedCount.get();
+    }
+
+    /**
+     * 마지막 실행 시작 시각
+     *
+     * @return 마지막 실행 시작 시각, 실행한 적이 없으면 null
+     */
+    public LocalDateTime getLastRunAt() {
+        return lastRunAt;
+    }
+
+    /**
+     * 마지막 실행에 걸린 시간
+     *
+     * @return 밀리초
+     */
+    public long getLastDurationMillis() {
+        return lastDurationMillis;
+    }
+
+    /**
+     * 마지막 실행에서 삭제한 항목 수
+     *
+     * @return 삭제한 휴지통 항목 수
+     */
+    public int getLastRemovedCount() {
+        return lastRemovedCount;
+    }
+
+    /**
+     * 마지막 실행에서 커밋한 묶음 수
+     *
+     * @return 묶음 수
+     */
+    public int getLastChunkCount() {
+        return lastChunkCount;
+    }
+
+    /**
+     * 마지막 실행에서 가장 오래 걸린 묶음의 실행 시간
+     *
+     * @return 밀리초
+     */
+    public long getLastSlowestChunkMillis() {
+        return lastSlowestChunkMillis;
+    }
+
+    /**
+     * 휴지통 정리 통계 출력
+     */
+    public void printStatistics() {
+        LocalDateTime lastRun = lastRunAt;
+
+        System.out.println("[휴지통 정리 상태]");
+        System.out.println("실행 횟수 : " + runCount.get() + "회 (실패 " + failureCount.get()
+                + "회, 시간 초과 " + timedOutCount.get() + "회)");
+        System.out.println("마지막 실행 : " + (lastRun != null ? lastRun.format(TIME_FORMATTER) : "없음"));
+        System.out.println("마지막 실행 시간 : " + lastDurationMillis + " ms, 삭제 " + lastRemovedCount + "건 ("
+                + lastChunkCount + "개 묶음, 가장 느린 묶음 " + lastSlowestChunkMillis + " ms)");
+        System.out.println("누적 삭제 : " + totalRemovedCount.get() + "건");
+    }
+}
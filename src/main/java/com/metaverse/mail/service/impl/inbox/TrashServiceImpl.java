@@ -0,0 +1,65 @@
+package com.metaverse.mail.service.impl.inbox;
+
+import com.metaverse.mail.dao.interfaces.TrashDao;
+import com.metaverse.mail.dto.inbox.TrashEmailDto;
+import com.metaverse.mail.dto.inbox.TrashPurgeDto;
+import com.metaverse.mail.service.interfaces.TrashService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TrashServiceImpl implements TrashService {
+    private final TrashDao trashDao;
+
+    /**
+     * 생성자
+     *
+     * @param trashDao 휴지통 DAO
+     */
+    public TrashServiceImpl(TrashDao trashDao) {
+        this.trashDao = trashDao;
+    }
+
+    @Override
+    public List<TrashEmailDto> getTrashEmails(int userId) {
+        // 구현 필요
+        return new ArrayList<>();
+    }
+
+    @Override
+    public TrashEmailDto getTrashEmailDetails(int trashId) {
+        // 구현 필요
+        return null;
+    }
+
+    @Override
+    public boolean restoreEmail(int trashId) {
+        return trashDao.restoreEmail(trashId);
+    }
+
+    @Override
+    public boolean permanentlyDeleteEmail(int trashId) {
+        return trashDao.permanentlyDelete(trashId);
+    }
+
+    /**
+     * 만료된 이메일 자동 삭제
+     *
+     * @return 삭제된 이메일 수
+     */
+    @Override
+    public int cleanupExpiredEmails() {
+        return trashDao.deleteExpiredEmails();
+    }
+
+    /**
+     * 실행 시간을 제한하여 만료된 이메일 자동 삭제
+     *
+     * @param maxRuntimeMillis 최대 실행 시간 (밀리초, 0 이하이면 제한 없음)
+     * @return 삭제한 항목 수, 묶음 수와 실행 시간
+     */
+    @Override
+    public TrashPurgeDto cleanupExpiredEmails(long maxRuntimeMillis) {
+        return trashDao.deleteExpiredEmails(maxRuntimeMillis);
+    }
+}
@@ -1,6 +1,6 @@
 package com.metaverse.mail.service.impl.mail;
 
-import com.metaverse.mail.common.JDBCConnection;
+import com.metaverse.mail.common.TransactionManager;
 import com.metaverse.mail.dao.interfaces.EmailDao;
 import com.metaverse.mail.dao.interfaces.EmailLinkDao;
 import com.metaverse.mail.dao.interfaces.UserDao;
@@ -9,13 +9,12 @@ import com.metaverse.mail.dto.mail.*;
 import com.metaverse.mail.model.Email;
 import com.metaverse.mail.model.EmailLink;
 import com.metaverse.mail.model.User;
+import com.metaverse.mail.search.MailSearchIndex;
 import com.metaverse.mail.service.interfaces.EmailService;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class EmailServiceImpl implements EmailService {
 
@@ -23,6 +22,9 @@ public class EmailServiceImpl implements EmailService {
     private final EmailLinkDao emailLinkDao;
     private final UserDao userDao;
 
+    /** 받은 메일 검색 색인 (null이면 데이터베이스로 검색) */
+    private final MailSearchIndex searchIndex;
+
     /**
      * 생성자
      *
@@ -31,9 +33,24 @@ public class EmailServiceImpl implements EmailService {
      * @param userDao 사용자 DAO
      */
     public EmailServiceImpl(EmailDao emailDao, EmailLinkDao emailLinkDao, UserDao userDao) {
+        this(emailDao, emailLinkDao, userDao, null);
+    }
+
+    /**
+     * 검색 색인을 사용하는 생성자
+     *
+     * 받은 메일 검색은 색인에서 처리하며, 메일 발송과 읽음 표시가 색인에 바로 반영됩니다.
+     *
+     * @param emailDao 이메일 DAO
+     * @param emailLinkDao 이메일 링크 DAO
+     * @param userDao 사용자 DAO
+     * @param searchIndex 받은 메일 검색 색인 (null이면 데이터베이스로 검색)
+     */
+    public EmailServiceImpl(EmailDao emailDao, EmailLinkDao emailLinkDao, UserDao userDao, MailSearchIndex searchIndex) {
         this.emailDao = emailDao;
         this.emailLinkDao = emailLinkDao;
         this.userDao = userDao;
+        this.searchIndex = searchIndex;
     }
 
     /**
@@ -59,12 +76,20 @@ public class EmailServiceImpl implements EmailService {
         List<User> validReceivers = new ArrayList<>();
         List<String> invalidReceivers = new ArrayList<>();
 
+        // 같은 수신자에게 링크를 두 번 만들지 않도록 추가한 사용자 ID 기록
+        Set<Integer> addedReceiverIds = new HashSet<>();
+
+        // 모든 수신자를 한 번에 조회한 뒤 입력 순서대로 확인
+        Map<String, User> receivers = userDao.findByEmailIds(emailDto.getReceiverEmails());
+
         for (String receiverEmail : emailDto.getReceiverEmails()) {
-            User receiver = userDao.findByEmailId(receiverEmail);
+            User receiver = receiverEmail != null ? receivers.get(receiverEmail) : null;
 
-            // 수신자가 존재하고 활성 상태인 경우에만 추가
+            // 수신자가 존재하고 활성 상태인 경우에만 추가 (중복 주소는 한 번만)
             if (receiver != null && receiver.getStatus() != 'D') {
-                validReceivers.add(receiver);
+                if (addedReceiverIds.add(receiver.getIdx())) {
+                    validReceivers.add(receiver);
+                }
             } else {
                 invalidReceivers.add(receiverEmail);
             }
@@ -86,11 +111,9 @@ public class EmailServiceImpl implements EmailService {
             return result;
         }
 
-        // 4. 이메일 및 이메일 링크 생성
-        Connection conn = null;
+        // 4. 이메일 및 이메일 링크 생성 (하나의 트랜잭션으로 처리)
         try {
-            conn = JDBCConnection.getConnection();
-            conn.setAutoCommit(false);
+            TransactionManager.begin();
 
             // 이메일 객체 생성
             Email email = new Email();
@@ -103,46 +126,43 @@ public class EmailServiceImpl implements EmailService {
             // 이메일 저장
             int emailId = emailDao.createEmail(email);
             if (emailId <= 0) {
-                conn.rollback();
+                TransactionManager.rollback();
                 result.put("message", "이메일 생성 중 오류가 발생했습니다.");
                 return result;
             }
 
-            // 유효한 수신자에게 이메일 링크 생성
-            for (User receiver : validReceivers) {
-                boolean linked = emailLinkDao.createEmailLink(emailId, receiver.getIdx());
-                if (!linked) {
-                    conn.rollback();
-                    result.put("message", "이메일 링크 생성 중 오류가 발생했습니다.");
-                    return result;
-                }
+            // 유효한 수신자에게 이메일 링크 일괄 생성
+            int[] receiverIds = new int[validReceivers.size()];
+            for (int i = 0; i < receiverIds.length; i++) {
+                receiverIds[i] = validReceivers.get(i).getIdx();
+            }
+
+            boolean linked = emailLinkDao.createEmailLinks(emailId, receiverIds);
+            if (!linked) {
+                TransactionManager.rollback();
+                result.put("message", "이메일 링크 생성 중 오류가 발생했습니다.");
+                return result;
+            }
+
+            TransactionManager.commit();
+
+            // 커밋된 메일을 검색 색인에 반영
+            if (searchIndex != null) {
+                email.setEmailIdx(emailId);
+                searchIndex.indexEmail(email, userDao.findById(senderId), receiverIds);
             }
 
-            conn.commit();
             result.put("success", true);
             result.put("message", "메일 전송 완료! " + validReceivers.size() + "명의 수신자에게 메일을 보냈습니다.");
             return result;
 
         } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException rollbackEx) {
-                    rollbackEx.printStackTrace();
-                }
-            }
+            TransactionManager.rollback();
             e.printStackTrace();
             result.put("message", "데이터베이스 오류: " + e.getMessage());
             return result;
         } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                    conn.close();
-                } catch (SQLException e) {
-                    e.printStackTrace();
-                }
-            }
+            TransactionManager.end();
         }
     }
 
@@ -154,45 +174,108 @@ public class EmailServiceImpl implements EmailService {
      *
      * 주요 처리 내용:
      * 사용자 ID 유효성 검증
-     * 받은 이메일 목록 조회
-     * 발신자 정보 추가
-     * DTO 변환 및 정렬
+     * 받은 이메일 목록 조회 (이메일, 발신자 정보를 한 번의 조인 쿼리로 조회)
+     *
+     * 삭제 여부 필터링과 최신순 정렬은 쿼리에서 처리됩니다.
      *
      * @param userId 사용자 ID
      * @return 받은 이메일 목록
      */
     @Override
     public List<ReceivedEmailDto> getReceivedEmails(int userId) {
-        List<EmailLink> emailLinks = emailLinkDao.getLinksByReceiverId(userId)
-                .stream()
-                .filter(link -> link.getIsDeleted() == 'N')
-                .toList(); // 반환된 리스트를 수정할 계획이 있다면 collect으로, 없다면 toList()로
-
-        List<ReceivedEmailDto> receivedEmails = new ArrayList<>();
-        for (EmailLink link : emailLinks) {
-            Email email = emailDao.getEmailById(link.getEmailIdx());
-            if (email == null) continue;
-
-            User sender = userDao.findById(email.getSenderId());
-            if (sender == null) continue;
-
-            // 생성자를 직접 사용하여 DTO 생성
-            ReceivedEmailDto emailDto = new ReceivedEmailDto(
-                    email.getEmailIdx(),
-                    sender.getNickname(),
-                    sender.getEmailId(),
-                    email.getTitle(),
-                    email.getBody(),
-                    link.getIsReaded() == 'Y',
-                    email.getCreatedAt()
-            );
-
-            receivedEmails.add(emailDto);
+        if (userId <= 0) {
+            return new ArrayList<>();
         }
 
-        return receivedEmails.stream()
-                .sorted(Comparator.comparing(ReceivedEmailDto::getSentDate).reversed())
-                .collect(Collectors.toList());
+        return emailLinkDao.getReceivedEmailsByReceiverId(userId);
+    }
+
+    /**
+     * 받은 메일함 첫 페이지 조회
+     *
+     * 다음 페이지 존재 여부를 확인하기 위해 한 페이지보다 하나 더 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 첫 페이지 정보
+     */
+    @Override
+    public ReceivedEmailPageDto getReceivedEmailsPage(int userId, int pageSize) {
+        if (userId <= 0 || pageSize <= 0) {
+            return new ReceivedEmailPageDto(new ArrayList<>(), false, false);
+        }
+
+        List<ReceivedEmailDto> emails = emailLinkDao.getReceivedEmailsFirstPage(userId, pageSize + 1);
+        boolean hasNext = emails.size() > pageSize;
+
+        return new ReceivedEmailPageDto(trimPage(emails, pageSize, false), hasNext, false);
+    }
+
+    /**
+     * 받은 메일함 다음 페이지 조회
+     *
+     * 현재 페이지의 마지막 이메일 ID를 커서로 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @param current 현재 페이지 정보
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 다음 페이지 정보
+     */
+    @Override
+    public ReceivedEmailPageDto getNextReceivedEmailsPage(int userId, ReceivedEmailPageDto current, int pageSize) {
+        if (current == null || current.getLast() == null) {
+            return getReceivedEmailsPage(userId, pageSize);
+        }
+
+        ReceivedEmailDto cursor = current.getLast();
+        List<ReceivedEmailDto> emails = emailLinkDao.getReceivedEmailsOlderThan(
+                userId, cursor.getEmailId(), pageSize + 1);
+        boolean hasNext = emails.size() > pageSize;
+
+        return new ReceivedEmailPageDto(trimPage(emails, pageSize, false), hasNext, true);
+    }
+
+    /**
+     * 받은 메일함 이전 페이지 조회
+     *
+     * 현재 페이지의 첫 번째 이메일 ID를 커서로 사용합니다.
+     * 결과는 최신순이므로, 초과 조회된 한 건은 목록의 맨 앞에서 제거합니다.
+     *
+     * @param userId 사용자 ID
+     * @param current 현재 페이지 정보
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 이전 페이지 정보
+     */
+    @Override
+    public ReceivedEmailPageDto getPreviousReceivedEmailsPage(int userId, ReceivedEmailPageDto current, int pageSize) {
+        if (current == null || current.getFirst() == null) {
+            return getReceivedEmailsPage(userId, pageSize);
+        }
+
+        ReceivedEmailDto cursor = current.getFirst();
+        List<ReceivedEmailDto> emails = emailLinkDao.getReceivedEmailsNewerThan(
+                userId, cursor.getEmailId(), pageSize + 1);
+        boolean hasPrevious = emails.size() > pageSize;
+
+        return new ReceivedEmailPageDto(trimPage(emails, pageSize, true), true, hasPrevious);
+    }
+
+    /**
+     * 한 페이지보다 많이 조회된 목록을 페이지 크기에 맞게 자릅니다.
+     *
+     * @param emails 조회된 이메일 목록 (최신순)
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @param fromFront true이면 앞쪽(최신)의 초과분을, false이면 뒤쪽(오래된)의 초과분을 제거
+     * @return 페이지 크기 이하의 이메일 목록
+     */
+    private List<ReceivedEmailDto> trimPage(List<ReceivedEmailDto> emails, int pageSize, boolean fromFront) {
+        if (emails.size() <= pageSize) {
+            return emails;
+        }
+        int excess = emails.size() - pageSize;
+        return fromFront
+                ? new ArrayList<>(emails.subList(excess, emails.size()))
+                : new ArrayList<>(emails.subList(0, pageSize));
     }
 
 
@@ -239,21 +322,19 @@ public class EmailServiceImpl implements EmailService {
         }
 
         // 사용자가 해당 이메일의 수신자인지 확인
-        List<EmailLink> links = emailLinkDao.getLinksByReceiverId(userId)
-                .stream()
-                .filter(link -> link.getEmailIdx() == emailId)
-                .collect(Collectors.toList()); // 반환된 리스트를 수정할 계획이 있다면 collect 으로, 없다면 toList()로
+        EmailLink emailLink = emailLinkDao.findByReceiverAndEmail(userId, emailId);
 
-        if (links.isEmpty()) {
+        if (emailLink == null || emailLink.getIsDeleted() == 'Y') {
             System.err.println("사용자가 해당 이메일의 수신자가 아닙니다.");
             return null;
         }
 
-        EmailLink emailLink = links.get(0);
-
         // 이메일 읽음 상태로 변경 (아직 읽지 않은 경우)
         if (emailLink.getIsReaded() == 'N') {
-            emailLinkDao.markAsRead(emailLink.getLinkIdx());
+            boolean marked = emailLinkDao.markAsRead(emailLink.getLinkIdx());
+            if (marked && searchIndex != null) {
+                searchIndex.markRead(userId, emailId);
+            }
         }
 
         // 발신자 정보 조회
@@ -264,16 +345,19 @@ public class EmailServiceImpl implements EmailService {
             return null;
         }
 
-        // DTO 변환 및 반환
-        return new ReceivedEmailDto(
+        // DTO 변환 및 반환 (본문은 화면에서 처음 사용할 때 조회)
+        ReceivedEmailDto emailDetail = new ReceivedEmailDto(
                 email.getEmailIdx(),
                 sender.getNickname(),
                 sender.getEmailId(),
                 email.getTitle(),
-                email.getBody(),
+                null,
                 true, // 읽음 상태로 처리됨
                 email.getCreatedAt()
         );
+        emailDetail.setSnippet(email.getSnippet());
+        emailDetail.setBodyLoader(email::getBody);
+        return emailDetail;
     }
 
     @Override
@@ -282,48 +366,23 @@ public class EmailServiceImpl implements EmailService {
             return new ArrayList<>();
         }
 
-        // DAO를 통해 수신 이메일만 검색
-        List<Email> receivedEmails = emailDao.searchReceivedEmails(keyword, userId);
-        List<ReceivedEmailSearchDto> results = new ArrayList<>();
-
-        for (Email email : receivedEmails) {
-            User sender = userDao.findById(email.getSenderId());
-            if (sender == null) continue;
-
-            // 이메일 링크 정보로 읽음 상태 확인
-            List<EmailLink> links = emailLinkDao.getLinksByReceiverId(userId)
-                    .stream()
-                    .filter(link -> link.getEmailIdx() == email.getEmailIdx())
-                    .toList();
-
-            boolean isRead = false;
-            if (!links.isEmpty()) {
-                isRead = links.get(0).getIsReaded() == 'Y';
-            }
-
-            // ReceivedEmailSearchDto 생성
-            ReceivedEmailSearchDto searchResult = new ReceivedEmailSearchDto();
-            // 기본 정보 설정
-            searchResult.setEmailId(email.getEmailIdx());
-            searchResult.setTitle(email.getTitle());
-            searchResult.setSentDate(email.getCreatedAt());
-            // 수신메일 특화 정보 설정
-            searchResult.setSenderName(sender.getNickname());
-            searchResult.setSenderEmail(sender.getEmailId());
-            searchResult.setRead(isRead);
-
-            results.add(searchResult);
+        // 검색 색인이 있으면 데이터베이스 조회 없이 검색
+        if (searchIndex != null) {
+            return searchIndex.searchReceived(userId, keyword);
         }
 
-        // 날짜 기준 내림차순 정렬
-        return results.stream()
-                .sorted(Comparator.comparing(ReceivedEmailSearchDto::getSentDate).reversed())
-                .collect(Collectors.toList());
+        // DAO를 통해 수신 이메일만 검색 (발신자 정보와 읽음 여부 포함, 최신순)
+        return emailDao.searchReceivedEmails(keyword, userId);
     }
 
     @Override
     public List<SentEmailSearchDto> searchSentEmails(String keyword, int userId) {
-        return List.of();
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // DAO를 통해 발신 이메일만 검색 (수신자 목록 포함, 최신순)
+        return emailDao.searchSentEmails(keyword, userId);
     }
 
     /**
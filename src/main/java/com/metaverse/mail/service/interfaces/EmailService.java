@@ -46,6 +46,42 @@ public interface EmailService {
      */
     List<ReceivedEmailDto> getReceivedEmails(int userId);
 
+    /**
+     * 받은 메일함 첫 페이지 조회
+     *
+     * 가장 최근에 받은 이메일부터 한 페이지 분량을 조회합니다.
+     * 전체 목록을 불러오지 않으므로 메일함 크기와 관계없이 일정한 비용으로 열립니다.
+     *
+     * @param userId 사용자 ID
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 첫 페이지 정보
+     */
+    ReceivedEmailPageDto getReceivedEmailsPage(int userId, int pageSize);
+
+    /**
+     * 받은 메일함 다음 페이지 조회
+     *
+     * 현재 페이지의 마지막 이메일을 기준으로 더 오래된 이메일 한 페이지를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param current 현재 페이지 정보
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 다음 페이지 정보
+     */
+    ReceivedEmailPageDto getNextReceivedEmailsPage(int userId, ReceivedEmailPageDto current, int pageSize);
+
+    /**
+     * 받은 메일함 이전 페이지 조회
+     *
+     * 현재 페이지의 첫 번째 이메일을 기준으로 더 최근 이메일 한 페이지를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param current 현재 페이지 정보
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 이전 페이지 정보
+     */
+    ReceivedEmailPageDto getPreviousReceivedEmailsPage(int userId, ReceivedEmailPageDto current, int pageSize);
+
     /**
      * 이메일 상세 정보 조회
      * 
@@ -1,8 +1,8 @@
 package com.metaverse.mail.service.interfaces;
 
+import com.metaverse.mail.dto.inbox.MailboxSummaryDto;
 import com.metaverse.mail.dto.inbox.SentEmailDto;
-
-import java.util.List;
+import com.metaverse.mail.dto.inbox.SentEmailPageDto;
 
 /**
  * 보낸 메일함 관련 비즈니스 로직을 정의하는 서비스 인터페이스
@@ -20,21 +20,46 @@ import java.util.List;
  */
 public interface InboxService {
     /**
-     * 보낸 이메일 목록 조회
+     * 보낸 메일함 첫 페이지 조회
      * 
-     * 특정 사용자가 보낸 모든 이메일의 목록을 조회합니다.
-     * 최신 이메일부터 표시되며, 각 이메일의 요약 정보가 포함됩니다.
+     * 특정 사용자가 보낸 이메일을 최신순으로 한 페이지만큼 조회합니다.
+     * 목록에는 본문을 포함하지 않으며, 각 이메일의 수신자 목록이 채워집니다.
      * 
      * 주요 처리 내용:
      *   사용자 ID 유효성 검증
-     *   보낸 이메일 목록 조회
-     *   각 이메일의 수신자 정보 조회
-     *   DTO 변환 및 정렬
+     *   보낸 이메일 헤더 한 페이지 조회
+     *   페이지 이메일들의 수신자 정보 일괄 조회
+     *   DTO 변환
+     * 
+     * @param userId 사용자 ID
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 첫 페이지 정보
+     */
+    SentEmailPageDto getSentEmailsPage(int userId, int pageSize);
+
+    /**
+     * 보낸 메일함 다음 페이지 조회
+     * 
+     * 현재 페이지의 마지막 이메일을 기준으로 더 오래된 이메일을 조회합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param current 현재 페이지 정보
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 다음 페이지 정보
+     */
+    SentEmailPageDto getNextSentEmailsPage(int userId, SentEmailPageDto current, int pageSize);
+
+    /**
+     * 보낸 메일함 이전 페이지 조회
+     * 
+     * 현재 페이지의 첫 번째 이메일을 기준으로 더 최근의 이메일을 조회합니다.
      * 
      * @param userId 사용자 ID
-     * @return 보낸 이메일 목록
+     * @param current 현재 페이지 정보
+     * @param pageSize 한 페이지에 표시할 이메일 수
+     * @return 이전 페이지 정보
      */
-    List<SentEmailDto> getSentEmails(int userId);
+    SentEmailPageDto getPreviousSentEmailsPage(int userId, SentEmailPageDto current, int pageSize);
 
     /**
      * 보낸 이메일 상세 정보 조회
@@ -49,9 +74,21 @@ public interface InboxService {
      *   이메일 상세 정보 DTO 변환
      * 
      * @param emailId 이메일 ID
-     * @return 이메일 상세 정보
+     * @param userId 사용자 ID
+     * @return 이메일 상세 정보, 없거나 발신자가 아니면 null
+     */
+    SentEmailDto getSentEmailDetails(int emailId, int userId);
+
+    /**
+     * 메일함 개수 조회
+     * 
+     * 사용자의 받은 메일 수, 읽지 않은 메일 수, 휴지통 메일 수를 조회합니다.
+     * 메일함 목록을 읽지 않고 미리 집계된 값만 조회하므로 메뉴를 표시할 때마다 호출할 수 있습니다.
+     * 
+     * @param userId 사용자 ID
+     * @return 메일함 개수 정보
      */
-    SentEmailDto getSentEmailDetails(int emailId);
+    MailboxSummaryDto getMailboxSummary(int userId);
 
     /**
      * 받은 이메일 삭제 (휴지통으로 이동)
@@ -71,6 +108,43 @@ public interface InboxService {
      */
     boolean deleteReceivedEmail(int emailId, int userId);
 
+    /**
+     * 여러 받은 이메일을 한 번에 읽음 처리
+     * 
+     * 선택한 메일 중 사용자의 읽지 않은 메일만 하나의 트랜잭션에서 읽음 상태로 변경합니다.
+     * 받은 메일함에서 범위를 선택해 읽음 처리할 때 호출됩니다.
+     * 
+     * @param userId 사용자 ID
+     * @param linkIds 받은 메일 링크 ID 배열
+     * @return 읽음 상태로 변경된 메일 수
+     */
+    int markReceivedEmailsAsRead(int userId, int[] linkIds);
+
+    /**
+     * 받은 메일함의 모든 메일 읽음 처리
+     * 
+     * @param userId 사용자 ID
+     * @return 읽음 상태로 변경된 메일 수
+     */
+    int markAllReceivedEmailsAsRead(int userId);
+
+    /**
+     * 여러 받은 이메일을 한 번에 삭제 (휴지통으로 이동)
+     * 
+     * 선택한 메일의 삭제 상태 변경과 휴지통 항목 생성을 하나의 트랜잭션에서 일괄 처리합니다.
+     * 하나라도 실패하면 모두 취소됩니다.
+     * 
+     * 주요 처리 내용:
+     *   사용자 권한 확인(수신자인지)
+     *   이메일 링크 상태 일괄 변경
+     *   휴지통 항목 일괄 생성
+     * 
+     * @param userId 사용자 ID
+     * @param linkIds 받은 메일 링크 ID 배열
+     * @return 삭제된 메일 수, 실패하면 0
+     */
+    int deleteReceivedEmails(int userId, int[] linkIds);
+
     /**
      * 보낸 이메일 삭제 (휴지통으로 이동)
      * 
@@ -1,6 +1,7 @@
 package com.metaverse.mail.service.interfaces;
 
 import com.metaverse.mail.dto.inbox.TrashEmailDto;
+import com.metaverse.mail.dto.inbox.TrashPurgeDto;
 
 import java.util.List;
 
@@ -102,4 +103,15 @@ public interface TrashService {
      * @return 삭제된 이메일 수
      */
     int cleanupExpiredEmails();
+
+    /**
+     * 실행 시간을 제한하여 만료된 이메일 자동 삭제
+     *
+     * 백그라운드 정리 작업이 한 번에 너무 오래 실행되지 않도록 제한 시간이 지나면 멈춥니다.
+     * 남은 항목은 다음 실행에서 삭제됩니다.
+     *
+     * @param maxRuntimeMillis 최대 실행 시간 (밀리초, 0 이하이면 제한 없음)
+     * @return 삭제한 항목 수, 묶음 수와 실행 시간
+     */
+    TrashPurgeDto cleanupExpiredEmails(long maxRuntimeMillis);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.metaverse.mail.view.impl;
 
+import com.metaverse.mail.common.AppConfig;
 import com.metaverse.mail.common.ConsoleHelper;
 import com.metaverse.mail.common.JDBCConnection;
 import com.metaverse.mail.common.Session;
@@ -11,12 +12,15 @@ import com.metaverse.mail.dao.interfaces.EmailDao;
 import com.metaverse.mail.dao.interfaces.EmailLinkDao;
 import com.metaverse.mail.dao.interfaces.TrashDao;
 import com.metaverse.mail.dao.interfaces.UserDao;
+import com.metaverse.mail.dto.inbox.MailboxSummaryDto;
+import com.metaverse.mail.search.MailSearchIndex;
 import com.metaverse.mail.service.impl.inbox.InboxServiceImpl;
 import com.metaverse.mail.service.impl.mail.EmailServiceImpl;
 import com.metaverse.mail.service.impl.user.UserServiceImpl;
 import com.metaverse.mail.service.interfaces.EmailService;
 import com.metaverse.mail.service.interfaces.InboxService;
 import com.metaverse.mail.service.interfaces.UserService;
+import com.metaverse.mail.view.impl.inbox.SentMailViewImpl;
 import com.metaverse.mail.view.impl.mail.ComposeViewImpl;
 import com.metaverse.mail.view.impl.mail.SearchViewImpl;
 import com.metaverse.mail.view.impl.user.LoginViewImpl;
@@ -24,6 +28,7 @@ import com.metaverse.mail.view.impl.mail.InboxViewImpl;
 import com.metaverse.mail.view.impl.user.ProfileViewImpl;
 import com.metaverse.mail.view.impl.user.RegisterViewImpl;
 import com.metaverse.mail.view.interfaces.MainMenuView;
+import com.metaverse.mail.view.interfaces.inbox.SentMailView;
 import com.metaverse.mail.view.interfaces.mail.ComposeView;
 import com.metaverse.mail.view.interfaces.mail.SearchView;
 import com.metaverse.mail.view.interfaces.user.LoginView;
@@ -96,10 +101,18 @@ public class MainMenuViewImpl implements MainMenuView {
             this.userDao = new UserDaoImpl(connection);
             this.trashDao = new TrashDaoImpl(connection);
 
+            // 받은 메일 검색 색인 초기화 (config.properties의 search.index.enabled=true인 경우)
+            MailSearchIndex searchIndex = null;
+            if (AppConfig.getBoolean("search.index.enabled", false)) {
+                searchIndex = new MailSearchIndex();
+                searchIndex.rebuild(emailDao, emailLinkDao, userDao);
+                searchIndex.printStatistics();
+            }
+
             // Service 객체 초기화
-            this.emailService = new EmailServiceImpl(emailDao, emailLinkDao, userDao);
+            this.emailService = new EmailServiceImpl(emailDao, emailLinkDao, userDao, searchIndex);
             this.userService = new UserServiceImpl(userDao);
-            this.inboxService = new InboxServiceImpl(emailDao, emailLinkDao, userDao, trashDao);
+            this.inboxService = new InboxServiceImpl(emailDao, emailLinkDao, userDao, trashDao, searchIndex);
         } catch (SQLException e) {
             throw new RuntimeException("데이터베이스 연결 실패!", e);
         }
@@ -184,17 +197,21 @@ public class MainMenuViewImpl implements MainMenuView {
      * 로그인 후 메인 메뉴를 표시하고 사용자 선택을 처리하는 메서드
      */
     public void showMainMenu() {
+        // 읽지 않은 메일 수 (미리 집계된 값만 조회)
+        MailboxSummaryDto summary = inboxService.getMailboxSummary(session.getCurrentUserId());
+        String unreadBadge = summary.getUnreadCount() > 0 ? " (" + summary.getUnreadCount() + ")" : "";
+
         consoleHelper.displayHeader("📩 메일 관리 시스템 (Main)");
         System.out.println("1. 메일 작성");
-        System.out.println("2. 받은 메일함");
-        //System.out.println("3. 보낸 메일함");
-        System.out.println("3. 메일 검색");
-        //System.out.println("5. 휴지통");
-        System.out.println("4. 회원 수정");
-        System.out.println("5. 로그아웃");
+        System.out.println("2. 받은 메일함" + unreadBadge);
+        System.out.println("3. 보낸 메일함");
+        System.out.println("4. 메일 검색");
+        //System.out.println("6. 휴지통");
+        System.out.println("5. 회원 수정");
+        System.out.println("6. 로그아웃");
         consoleHelper.displayDivider();
 
-        int choice = consoleHelper.getIntInput("원하는 기능을 선택하세요 (1-5): ", 1, 5);
+        int choice = consoleHelper.getIntInput("원하는 기능을 선택하세요 (1-6): ", 1, 6);
 
         switch (choice) {
             case 1:
@@ -207,20 +224,21 @@ public class MainMenuViewImpl implements MainMenuView {
                 InboxView inboxView = createInboxView();
                 inboxView.showInbox();
                 break;
-//            case 3:
-//                // 보낸 메일함 (팀원 C가 구현)
-//                System.out.println("[스켈톤] 보낸 메일함 뷰는 팀원 C가 구현할 예정입니다.");
-//                break;
             case 3:
+                // 보낸 메일함 (팀원 C가 구현)
+                SentMailView sentMailView = createSentMailView();
+                sentMailView.showSentMailList();
+                break;
+            case 4:
                 // 메일 검색
                 SearchView searchView = createSearchView();
                 searchView.showSearchForm();
                 break;
-//            case 5:
+//            case 6:
 //                // 휴지통 (팀원 C가 구현)
 //                System.out.println("[스켈톤] 휴지통 뷰는 팀원 C가 구현할 예정입니다.");
 //                break;
-            case 4:
+            case 5:
                 // 회원 수정 (팀원 A가 구현)
                 UserDao userDao = new UserDaoImpl(connection); // UserDao 객체 생성
                 UserService userService = new UserServiceImpl(userDao); // UserService 객체 생성
@@ -229,7 +247,7 @@ public class MainMenuViewImpl implements MainMenuView {
                 // ProfileViewImpl 객체 생성 시 필요한 의존성 주입
                 ProfileViewImpl profileView = new ProfileViewImpl(consoleHelper, userService, loginView);
                 profileView.showProfileManagement(); // 프로필 관리 화면 표시
-            case 5:
+            case 6:
                 session.logout();
                 System.out.println("→ 로그아웃 되었습니다.");
                 break;
@@ -254,6 +272,15 @@ public class MainMenuViewImpl implements MainMenuView {
         return new InboxViewImpl(scanner, emailService, inboxService);
     }
 
+    /**
+     * 보낸 메일함 화면 객체 생성
+     *
+     * @return 보낸 메일함 화면 객체
+     */
+    private SentMailView createSentMailView() {
+        return new SentMailViewImpl(scanner, inboxService);
+    }
+
     /**
      * 메일 검색 화면 객체 생성
      *
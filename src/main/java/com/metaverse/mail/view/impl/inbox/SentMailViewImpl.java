@@ -0,0 +1,197 @@
+package com.metaverse.mail.view.impl.inbox;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Scanner;
+
+import com.metaverse.mail.common.ConsoleHelper;
+import com.metaverse.mail.common.Constants;
+import com.metaverse.mail.common.Session;
+import com.metaverse.mail.dto.inbox.SentEmailDto;
+import com.metaverse.mail.dto.inbox.SentEmailPageDto;
+import com.metaverse.mail.service.interfaces.InboxService;
+import com.metaverse.mail.view.interfaces.inbox.SentMailView;
+
+/**
+ * 보낸 메일함 화면 구현 클래스
+ *
+ * 담당 개발자: 효민(개발자 C)
+ *
+ * @author 유진
+ * @version 1.0
+ */
+public class SentMailViewImpl implements SentMailView {
+
+    /** 콘솔 UI를 관리하는 헬퍼 */
+    private ConsoleHelper consoleHelper;
+
+    /** 보낸 메일함 관련 서비스 */
+    private InboxService inboxService;
+
+    /** 사용자 세션 */
+    private Session session;
+
+    /** 날짜 포맷팅을 위한 DateTimeFormatter */
+    private DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    /** 상세 보기 날짜 포맷팅을 위한 DateTimeFormatter */
+    private DateTimeFormatter detailDateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /**
+     * 생성자
+     *
+     * @param scanner 사용자 입력을 읽기 위한 Scanner 객체
+     * @param inboxService 보낸 메일함 관련 서비스
+     */
+    public SentMailViewImpl(Scanner scanner, InboxService inboxService) {
+        this.consoleHelper = new ConsoleHelper(scanner);
+        this.inboxService = inboxService;
+        this.session = Session.getInstance();
+    }
+
+    /**
+     * 보낸 메일함 목록 표시
+     *
+     * 보낸 메일을 페이지 단위로 표시하며, n/p 입력으로 다음/이전 페이지로 이동합니다.
+     */
+    @Override
+    public void showSentMailList() {
+        // 현재 로그인한 사용자의 보낸 메일 첫 페이지 조회
+        int userId = session.getCurrentUserId();
+        SentEmailPageDto page = inboxService.getSentEmailsPage(userId, Constants.SENT_BOX_PAGE_SIZE);
+        int pageNumber = 1;
+
+        while (true) {
+            // 보낸 메일함 헤더 및 메일 목록 표시
+            consoleHelper.displayHeader("📤 보낸 메일함 (" + pageNumber + " 페이지)");
+            List<SentEmailDto> emails = page.getEmails();
+            displaySentEmails(emails);
+
+            // 사용자 입력 처리
+            String input = consoleHelper.getStringInput(
+                    "→ 조회할 메일 번호 입력 (n: 다음 페이지, p: 이전 페이지, 0: 뒤로 가기): ").toLowerCase();
+
+            if (input.equals("0")) {
+                return; // 메인 메뉴로 돌아가기
+            } else if (input.equals("n")) {
+                if (!page.hasNext()) {
+                    System.out.println("→ 마지막 페이지입니다.");
+                    continue;
+                }
+                page = inboxService.getNextSentEmailsPage(userId, page, Constants.SENT_BOX_PAGE_SIZE);
+                pageNumber++;
+            } else if (input.equals("p")) {
+                if (!page.hasPrevious()) {
+                    System.out.println("→ 첫 페이지입니다.");
+                    continue;
+                }
+                page = inboxService.getPreviousSentEmailsPage(userId, page, Constants.SENT_BOX_PAGE_SIZE);
+                pageNumber--;
+            } else {
+                int choice;
+                try {
+                    choice = Integer.parseInt(input);
+                } catch (NumberFormatException e) {
+                    System.out.println("→ 메일 번호 또는 n, p, 0 중에서 입력해주세요.");
+                    continue;
+                }
+
+                if (choice < 1 || choice > emails.size()) {
+                    System.out.println("→ 유효한 범위가 아닙니다. 다시 입력해주세요.");
+                    continue;
+                }
+
+                // 선택한 이메일의 상세 정보(본문 포함) 조회 후 표시
+                int emailId = emails.get(choice - 1).getEmailId();
+                SentEmailDto emailDetail = inboxService.getSentEmailDetails(emailId, userId);
+
+                if (emailDetail != null) {
+                    showSentMailDetail(emailDetail);
+                } else {
+                    System.out.println("→ 이메일을 조회할 수 없습니다.");
+                    consoleHelper.displayDivider();
+                }
+            }
+        }
+    }
+
+    /**
+     * 보낸 메일 상세 표시
+     *
+     * @param email 보낸 메일 DTO
+     */
+    @Override
+    public void showSentMailDetail(SentEmailDto email) {
+        consoleHelper.displayHeader("📤 보낸 메일 상세 보기");
+
+        List<String> names = email.getReceiverNames();
+        List<String> emails = email.getReceiverEmails();
+        StringBuilder receivers = new StringBuilder();
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                receivers.append(", ");
+            }
+            receivers.append(names.get(i)).append(" (").append(emails.get(i)).append(")");
+        }
+
+        System.out.println("받는 사람: " + receivers);
+        System.out.println("제목: " + email.getTitle());
+        System.out.println("내용: " + email.getBody());
+        System.out.println("보낸 날짜: " + email.getSentDate().format(detailDateFormatter));
+
+        consoleHelper.displayDivider();
+
+        // 입력 대기
+        consoleHelper.getStringInput("엔터 키를 누르면 메일함으로 돌아갑니다...");
+    }
+
+    /**
+     * 보낸 메일 목록 표시
+     *
+     * 수신자가 여러 명이면 첫 번째 수신자 외 인원수로 요약합니다.
+     *
+     * @param emails 보낸 메일 목록
+     */
+    @Override
+    public void displaySentEmails(List<SentEmailDto> emails) {
+        if (emails == null || emails.isEmpty()) {
+            System.out.println("→ 보낸 메일이 없습니다.");
+            consoleHelper.displayDivider();
+            return;
+        }
+
+        for (int i = 0; i < emails.size(); i++) {
+            SentEmailDto email = emails.get(i);
+            List<String> names = email.getReceiverNames();
+            String receiverName;
+            if (names.isEmpty()) {
+                receiverName = "알 수 없음";
+            } else if (names.size() == 1) {
+                receiverName = names.get(0);
+            } else {
+                receiverName = names.get(0) + " 외 " + (names.size() - 1) + "명";
+            }
+            String dateStr = email.getSentDate().format(dateFormatter);
+
+            System.out.printf("%d. %s - \"%s\" (%s)\n",
+                    i + 1, receiverName, email.getTitle(), dateStr);
+        }
+
+        consoleHelper.displayDivider();
+    }
+
+    /**
+     * 보낸 메일 삭제 결과 표시
+     *
+     * @param emailId 메일 ID
+     * @param success 성공 여부
+     */
+    @Override
+    public void showDeleteResult(long emailId, boolean success) {
+        if (success) {
+            System.out.println("→ 메일이 성공적으로 삭제되었습니다.");
+        } else {
+            System.out.println("→ 메일 삭제에 실패했습니다.");
+        }
+    }
+}
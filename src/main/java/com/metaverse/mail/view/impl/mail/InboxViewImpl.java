@@ -5,8 +5,10 @@ import java.util.List;
 import java.util.Scanner;
 
 import com.metaverse.mail.common.ConsoleHelper;
+import com.metaverse.mail.common.Constants;
 import com.metaverse.mail.common.Session;
 import com.metaverse.mail.dto.mail.ReceivedEmailDto;
+import com.metaverse.mail.dto.mail.ReceivedEmailPageDto;
 import com.metaverse.mail.service.interfaces.EmailService;
 import com.metaverse.mail.service.interfaces.InboxService;
 import com.metaverse.mail.view.interfaces.mail.InboxView;
@@ -38,6 +40,9 @@ public class InboxViewImpl implements InboxView {
     /** 사용자 세션 */
     private Session session;
 
+    /** 목록에 표시할 본문 미리보기 최대 길이 */
+    private static final int LIST_SNIPPET_LENGTH = 40;
+
     /** 날짜 포맷팅을 위한 DateTimeFormatter */
     private DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
@@ -59,38 +64,153 @@ public class InboxViewImpl implements InboxView {
 
     /**
      * 받은 메일함 표시
+     *
+     * 받은 메일을 페이지 단위로 표시하며, n/p 입력으로 다음/이전 페이지로 이동합니다.
+     * 현재 페이지의 메일 범위를 선택하여 한 번에 읽음 처리(r 1-5)하거나 삭제(d 1-3,7)할 수 있고,
+     * a 입력으로 받은 메일함 전체를 읽음 처리합니다.
      */
     @Override
     public void showInbox() {
-        // 받은 메일함 헤더 표시
-        consoleHelper.displayHeader("📥 받은 메일함");
-
-        // 현재 로그인한 사용자의 받은 메일 목록 조회
+        // 현재 로그인한 사용자의 받은 메일 첫 페이지 조회
         int userId = session.getCurrentUserId();
-        List<ReceivedEmailDto> emails = emailService.getReceivedEmails(userId);
+        ReceivedEmailPageDto page = emailService.getReceivedEmailsPage(userId, Constants.INBOX_PAGE_SIZE);
+        int pageNumber = 1;
+
+        while (true) {
+            // 받은 메일함 헤더 및 메일 목록 표시
+            consoleHelper.displayHeader("📥 받은 메일함 (" + pageNumber + " 페이지)");
+            List<ReceivedEmailDto> emails = page.getEmails();
+            showEmailList(emails);
+
+            // 사용자 입력 처리
+            String input = consoleHelper.getStringInput(
+                    "→ 조회할 메일 번호 입력 (n: 다음 페이지, p: 이전 페이지, r/d 범위: 읽음/삭제, a: 모두 읽음, 0: 뒤로 가기): ")
+                    .trim().toLowerCase();
+
+            if (input.equals("0")) {
+                return; // 메인 메뉴로 돌아가기
+            } else if (input.equals("a")) {
+                int count = inboxService.markAllReceivedEmailsAsRead(userId);
+                System.out.println("→ " + count + "개의 메일을 읽음으로 표시했습니다.");
+                page = emailService.getReceivedEmailsPage(userId, Constants.INBOX_PAGE_SIZE);
+                pageNumber = 1;
+            } else if (input.startsWith("r ") || input.startsWith("d ")) {
+                int[] linkIds = selectLinkIds(emails, input.substring(2));
+                if (linkIds == null) {
+                    System.out.println("→ 범위는 1-5 또는 1,3,5 형식으로 현재 페이지의 메일 번호를 입력해주세요.");
+                    continue;
+                }
+
+                if (input.charAt(0) == 'r') {
+                    int count = inboxService.markReceivedEmailsAsRead(userId, linkIds);
+                    System.out.println("→ " + count + "개의 메일을 읽음으로 표시했습니다.");
+                } else {
+                    if (!consoleHelper.getConfirmation("선택한 " + linkIds.length + "개의 메일을 삭제하시겠습니까?")) {
+                        System.out.println("→ 삭제가 취소되었습니다.");
+                        continue;
+                    }
+                    int count = inboxService.deleteReceivedEmails(userId, linkIds);
+                    if (count > 0) {
+                        System.out.println("→ " + count + "개의 메일을 삭제했습니다. 휴지통에서 확인할 수 있습니다.");
+                    } else {
+                        System.out.println("→ 메일 삭제에 실패했습니다.");
+                    }
+                }
+
+                // 변경된 상태로 첫 페이지부터 다시 조회
+                page = emailService.getReceivedEmailsPage(userId, Constants.INBOX_PAGE_SIZE);
+                pageNumber = 1;
+            } else if (input.equals("n")) {
+                if (!page.hasNext()) {
+                    System.out.println("→ 마지막 페이지입니다.");
+                    continue;
+                }
+                page = emailService.getNextReceivedEmailsPage(userId, page, Constants.INBOX_PAGE_SIZE);
+                pageNumber++;
+            } else if (input.equals("p")) {
+                if (!page.hasPrevious()) {
+                    System.out.println("→ 첫 페이지입니다.");
+                    continue;
+                }
+                page = emailService.getPreviousReceivedEmailsPage(userId, page, Constants.INBOX_PAGE_SIZE);
+                pageNumber--;
+            } else {
+                int choice;
+                try {
+                    choice = Integer.parseInt(input);
+                } catch (NumberFormatException e) {
+                    System.out.println("→ 메일 번호 또는 n, p, r, d, a, 0 중에서 입력해주세요.");
+                    continue;
+                }
+
+                if (choice < 1 || choice > emails.size()) {
+                    System.out.println("→ 유효한 범위가 아닙니다. 다시 입력해주세요.");
+                    continue;
+                }
+
+                // 선택한 이메일의 ID 확인 후 상세 보기
+                int emailId = emails.get(choice - 1).getEmailId();
+                ReceivedEmailDto emailDetail = emailService.getEmailDetails(emailId, userId);
+
+                if (emailDetail != null) {
+                    showEmailDetail(emailDetail);
+                } else {
+                    System.out.println("→ 이메일을 조회할 수 없습니다.");
+                    consoleHelper.displayDivider();
+                }
+                return;
+            }
+        }
+    }
 
-        // 메일 목록 표시
-        showEmailList(emails);
+    /**
+     * 범위 입력을 현재 페이지 메일의 링크 ID 배열로 변환
+     *
+     * "1-5", "1,3,5", "1-3,7"처럼 쉼표로 구분한 번호와 범위를 받으며, 중복된 번호는 한 번만 포함합니다.
+     *
+     * @param emails    현재 페이지 메일 목록
+     * @param selection 범위 입력
+     * @return 선택한 메일의 링크 ID 배열, 형식이 잘못되었거나 범위를 벗어나면 null
+     */
+    private int[] selectLinkIds(List<ReceivedEmailDto> emails, String selection) {
+        boolean[] selected = new boolean[emails.size()];
+        int count = 0;
+
+        for (String token : selection.split(",")) {
+            String[] bounds = token.trim().split("-", -1);
+            if (bounds.length > 2) {
+                return null;
+            }
 
-        // 사용자 입력 처리
-        int choice = consoleHelper.getIntInput("조회할 메일 번호 입력 (0: 뒤로 가기): ", 0, emails.size());
+            int from;
+            int to;
+            try {
+                from = Integer.parseInt(bounds[0].trim());
+                to = bounds.length == 2 ? Integer.parseInt(bounds[1].trim()) : from;
+            } catch (NumberFormatException e) {
+                return null;
+            }
 
-        if (choice == 0) {
-            return; // 메인 메뉴로 돌아가기
-        } else {
-            // 선택한 이메일의 ID 확인
-            int emailId = emails.get(choice - 1).getEmailId();
+            if (from < 1 || to > emails.size() || from > to) {
+                return null;
+            }
 
-            // 선택한 이메일 상세 보기
-            ReceivedEmailDto emailDetail = emailService.getEmailDetails(emailId, userId);
+            for (int i = from - 1; i < to; i++) {
+                if (!selected[i]) {
+                    selected[i] = true;
+                    count++;
+                }
+            }
+        }
 
-            if (emailDetail != null) {
-                showEmailDetail(emailDetail);
-            } else {
-                System.out.println("→ 이메일을 조회할 수 없습니다.");
-                consoleHelper.displayDivider();
+        int[] linkIds = new int[count];
+        int index = 0;
+        for (int i = 0; i < selected.length; i++) {
+            if (selected[i]) {
+                linkIds[index++] = emails.get(i).getLinkId();
             }
         }
+        return linkIds;
     }
 
     /**
@@ -114,6 +234,15 @@ public class InboxViewImpl implements InboxView {
             System.out.printf("%d. %s %s - \"%s\" (%s)\n",
                     i + 1, readStatus, email.getSenderName(),
                     email.getTitle(), dateStr);
+
+            // 본문 미리보기 표시 (목록에서는 본문 전체를 조회하지 않음)
+            String snippet = email.getSnippet();
+            if (snippet != null && !snippet.isEmpty()) {
+                if (snippet.length() > LIST_SNIPPET_LENGTH) {
+                    snippet = snippet.substring(0, LIST_SNIPPET_LENGTH) + "...";
+                }
+                System.out.println("   " + snippet);
+            }
         }
 
         consoleHelper.displayDivider();
@@ -113,6 +113,30 @@ public class SearchViewImpl implements SearchView {
 
     @Override
     public void showSentEmailSearchResults(String keyword, List<SentEmailSearchDto> results) {
+        consoleHelper.displayHeader("🔍 보낸메일함 검색");
+        System.out.println("검색할 키워드 입력: \"" + keyword + "\"");
+        consoleHelper.displayDivider();
+
+        System.out.println("검색 결과:");
+        int index = 1;
+        for (SentEmailSearchDto email : results) {
+            String dateStr = email.getSentDate().format(dateFormatter);
+
+            // 수신자가 여러 명이면 "첫 번째 수신자 외 N명"으로 표시
+            String receiverName = email.getRepresentativeReceiverName();
+            if (receiverName == null || receiverName.trim().isEmpty()) {
+                receiverName = "알 수 없음";
+            }
+
+            System.out.println(index + ". " + receiverName + " - \"" +
+                    email.getTitle() + "\" (" + dateStr + ")");
+            index++;
+        }
+
+        consoleHelper.displayDivider();
+
+        // 입력 대기
+        consoleHelper.getStringInput("엔터 키를 누르면 돌아갑니다...");
     }
 
     /**
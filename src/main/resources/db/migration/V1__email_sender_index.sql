@@ -0,0 +1,2 @@
+-- 보낸 메일함 조회 및 보낸 메일 검색 (sender_id 조건 + created_at 정렬)
+CREATE INDEX idx_email_sender_created ON EMAIL (sender_id, created_at);
@@ -0,0 +1,5 @@
+-- 받은 메일함 목록/페이지 조회 및 받은 메일 검색 (receiver_id, is_deleted 조건 + email_idx 조인)
+CREATE INDEX idx_email_link_receiver_deleted ON EMAIL_LINK (receiver_id, is_deleted, email_idx);
+
+-- 수신자별 특정 메일 링크 단건 조회 (findLinkByReceiverAndEmail)
+CREATE INDEX idx_email_link_receiver_email ON EMAIL_LINK (receiver_id, email_idx);
@@ -0,0 +1,2 @@
+-- 보관 기간이 지난 휴지통 항목 정리 (expiration_date 범위 + is_restored 조건)
+CREATE INDEX idx_trash_expiration ON TRASH (expiration_date, is_restored);
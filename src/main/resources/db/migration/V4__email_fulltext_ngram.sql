@@ -0,0 +1,4 @@
+-- 받은 메일 검색용 제목/본문 전문(FULLTEXT) 인덱스
+-- ngram 파서는 띄어쓰기 없이 이어지는 한글을 2글자(ngram_token_size 기본값) 단위 토큰으로 색인합니다.
+-- 서버의 ngram_token_size, innodb_ft_enable_stopword 설정은 인덱스 생성 시점의 값이 적용됩니다.
+ALTER TABLE EMAIL ADD FULLTEXT INDEX ft_email_title_body (title, body) WITH PARSER ngram;
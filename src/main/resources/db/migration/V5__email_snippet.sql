@@ -0,0 +1,6 @@
+-- 목록 화면용 본문 미리보기(snippet) 컬럼
+-- 받은 메일함, 보낸 메일함 목록은 LONGTEXT 본문 대신 이 컬럼만 조회합니다.
+ALTER TABLE EMAIL ADD COLUMN snippet VARCHAR(100) NOT NULL DEFAULT '' COMMENT '본문 미리보기' AFTER body;
+
+-- 기존 이메일의 미리보기 채우기 (줄바꿈은 공백으로 변환)
+UPDATE EMAIL SET snippet = LEFT(TRIM(REPLACE(REPLACE(body, CHAR(13), ' '), CHAR(10), ' ')), 100);
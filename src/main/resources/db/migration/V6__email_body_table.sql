@@ -0,0 +1,19 @@
+-- 이메일 본문을 별도 테이블로 분리
+-- EMAIL 테이블에는 목록/검색에 필요한 작은 헤더 컬럼만 남겨 버퍼 풀에서 더 많은 행이 한 페이지에 들어가도록 합니다.
+-- 본문은 상세 보기 등 본문이 필요한 경우에만 EMAIL_BODY와 조인하거나 따로 조회합니다.
+CREATE TABLE EMAIL_BODY
+(
+    email_idx INTEGER PRIMARY KEY NOT NULL COMMENT '이메일 고유의 idx 값',
+    body      LONGTEXT            NOT NULL COMMENT '내용',
+    CONSTRAINT fk_email_body_email FOREIGN KEY (email_idx) REFERENCES EMAIL (email_idx) ON DELETE CASCADE
+);
+
+-- 기존 본문 옮기기
+INSERT INTO EMAIL_BODY (email_idx, body)
+SELECT email_idx, body FROM EMAIL;
+
+-- 제목/본문 전문 인덱스를 테이블별로 다시 생성한 뒤 EMAIL의 본문 컬럼 제거
+ALTER TABLE EMAIL DROP INDEX ft_email_title_body;
+ALTER TABLE EMAIL DROP COLUMN body;
+ALTER TABLE EMAIL ADD FULLTEXT INDEX ft_email_title (title) WITH PARSER ngram;
+ALTER TABLE EMAIL_BODY ADD FULLTEXT INDEX ft_email_body (body) WITH PARSER ngram;
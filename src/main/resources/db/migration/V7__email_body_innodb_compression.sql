@@ -0,0 +1,5 @@
+-- 이메일 본문 테이블 압축 저장
+-- 본문은 전문 인덱스(ft_email_body)로 검색되도록 원문 그대로 body 컬럼에 저장하고,
+-- 저장 공간은 InnoDB가 페이지 단위로 압축하여 줄입니다 (8KB 압축 페이지).
+-- ROW_FORMAT=COMPRESSED는 innodb_file_per_table=ON(기본값)이 필요합니다.
+ALTER TABLE EMAIL_BODY ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
@@ -0,0 +1,38 @@
+-- 같은 내용의 본문을 한 번만 저장 (내용 해시 기준 공유)
+-- 전체 공지, 반복 발송, 원문 인용 답장처럼 본문이 같은 이메일은 하나의 EMAIL_BODY 행을 함께 참조합니다.
+-- content_hash는 원문(UTF-8)의 SHA-256 값이며, ref_count는 이 본문을 참조하는 EMAIL 행 수입니다.
+-- EMAIL.body_idx가 공유 본문을 가리키므로 본문 테이블의 키를 email_idx에서 body_idx로 바꿉니다.
+-- 새 테이블이 EMAIL_BODY를 대신하므로 V7의 InnoDB 테이블 압축 설정을 그대로 지정합니다.
+CREATE TABLE EMAIL_BODY_SHARED
+(
+    body_idx     INTEGER PRIMARY KEY AUTO_INCREMENT COMMENT '본문 고유의 idx 값',
+    content_hash BINARY(32)          NOT NULL COMMENT '원문 SHA-256 해시',
+    ref_count    INTEGER DEFAULT 1   NOT NULL COMMENT '이 본문을 참조하는 이메일 수',
+    body         LONGTEXT            NOT NULL COMMENT '내용',
+    CONSTRAINT uk_email_body_hash UNIQUE (content_hash)
+) ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
+
+-- 기존 본문을 해시별로 하나씩 옮기고 중복 수만큼 참조 수 증가
+INSERT INTO EMAIL_BODY_SHARED (content_hash, ref_count, body)
+SELECT UNHEX(SHA2(body, 256)), 1, body
+FROM EMAIL_BODY
+ORDER BY email_idx
+ON DUPLICATE KEY UPDATE ref_count = ref_count + 1;
+
+-- 이메일이 공유 본문을 가리키도록 연결
+ALTER TABLE EMAIL ADD COLUMN body_idx INTEGER NULL COMMENT '본문 idx 값' AFTER snippet;
+
+UPDATE EMAIL e
+    JOIN EMAIL_BODY ob ON ob.email_idx = e.email_idx
+    JOIN EMAIL_BODY_SHARED nb
+    ON nb.content_hash = UNHEX(SHA2(ob.body, 256))
+SET e.body_idx = nb.body_idx;
+
+-- 이메일별 본문 테이블을 공유 본문 테이블로 교체
+DROP TABLE EMAIL_BODY;
+RENAME TABLE EMAIL_BODY_SHARED TO EMAIL_BODY;
+ALTER TABLE EMAIL_BODY ADD FULLTEXT INDEX ft_email_body (body) WITH PARSER ngram;
+
+ALTER TABLE EMAIL
+    MODIFY COLUMN body_idx INTEGER NOT NULL COMMENT '본문 idx 값',
+    ADD CONSTRAINT fk_email_body FOREIGN KEY (body_idx) REFERENCES EMAIL_BODY (body_idx);
@@ -0,0 +1,21 @@
+-- 사용자별 메일함 개수 (받은 메일 / 읽지 않은 메일 / 휴지통)
+-- 메인 메뉴의 읽지 않은 메일 표시 등에서 EMAIL_LINK를 세지 않고 한 행만 읽도록 미리 집계합니다.
+-- 링크 생성, 읽음 처리, 삭제(휴지통 이동) 시 같은 트랜잭션에서 함께 갱신됩니다.
+CREATE TABLE MAILBOX_COUNTER
+(
+    user_idx     INTEGER PRIMARY KEY NOT NULL COMMENT '회원 고유의 idx값',
+    total_count  INTEGER DEFAULT 0   NOT NULL COMMENT '받은 메일함의 메일 수 (삭제되지 않은 메일)',
+    unread_count INTEGER DEFAULT 0   NOT NULL COMMENT '받은 메일함의 읽지 않은 메일 수',
+    trash_count  INTEGER DEFAULT 0   NOT NULL COMMENT '휴지통의 메일 수',
+    CONSTRAINT fk_mailbox_counter_user FOREIGN KEY (user_idx) REFERENCES USER (idx) ON DELETE CASCADE
+);
+
+-- 기존 메일함 집계
+INSERT INTO MAILBOX_COUNTER (user_idx, total_count, unread_count, trash_count)
+SELECT u.idx,
+       COALESCE(SUM(el.is_deleted = 'N'), 0),
+       COALESCE(SUM(el.is_deleted = 'N' AND el.is_readed = 'N'), 0),
+       COALESCE(SUM(el.is_deleted = 'Y'), 0)
+FROM USER u
+         LEFT JOIN EMAIL_LINK el ON el.receiver_id = u.idx
+GROUP BY u.idx;
@@ -0,0 +1,36 @@
+package com.metaverse.mail.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BodyHash 본문 내용 해시 테스트 클래스
+ *
+ * 데이터베이스 없이 내용 해시 값과 같은/다른 본문의 해시 비교를 테스트합니다.
+ */
+class BodyHashTest {
+
+    @Test
+    void testContentHash() {
+        byte[] hash = BodyHash.contentHash("abc");
+
+        // SHA-256("abc") 표준 테스트 벡터
+        StringBuilder hex = new StringBuilder();
+        for (byte b : hash) {
+            hex.append(String.format("%02x", b));
+        }
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", hex.toString());
+        assertArrayEquals(BodyHash.contentHash("같은 공지"), BodyHash.contentHash("같은 공지"),
+                "같은 본문은 같은 해시여야 합니다.");
+        assertFalse(Arrays.equals(BodyHash.contentHash("공지 1"), BodyHash.contentHash("공지 2")));
+    }
+
+    @Test
+    void testNullBodyHashesAsEmpty() {
+        assertArrayEquals(BodyHash.contentHash(""), BodyHash.contentHash(null),
+                "NULL 본문은 빈 본문과 같은 해시여야 합니다.");
+    }
+}
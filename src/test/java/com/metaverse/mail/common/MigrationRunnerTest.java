@@ -0,0 +1,39 @@
+package com.metaverse.mail.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MigrationRunner 스크립트 처리 테스트 클래스
+ *
+ * 데이터베이스 없이 스크립트 분리 및 버전 파싱을 테스트합니다.
+ */
+class MigrationRunnerTest {
+
+    @Test
+    void testSplitStatements() {
+        String sql = "-- 첫 번째 인덱스\n"
+                + "CREATE INDEX idx_a ON A (a);\n"
+                + "\n"
+                + "-- 두 번째 인덱스\n"
+                + "CREATE INDEX idx_b\n"
+                + "    ON B (b);\n";
+
+        List<String> statements = MigrationRunner.splitStatements(sql);
+
+        assertEquals(2, statements.size(), "주석을 제외한 두 문장으로 분리되어야 합니다.");
+        assertEquals("CREATE INDEX idx_a ON A (a)", statements.get(0));
+        assertTrue(statements.get(1).startsWith("CREATE INDEX idx_b"), "여러 줄 문장도 하나로 유지되어야 합니다.");
+    }
+
+    @Test
+    void testParseVersion() {
+        assertEquals(1, MigrationRunner.parseVersion("V1__email_sender_index.sql"));
+        assertEquals(12, MigrationRunner.parseVersion("V12__something.sql"));
+        assertThrows(IllegalStateException.class, () -> MigrationRunner.parseVersion("email_sender_index.sql"),
+                "형식이 맞지 않는 파일 이름은 거부되어야 합니다.");
+    }
+}
@@ -0,0 +1,87 @@
+package com.metaverse.mail.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParameterBinder 이름 있는 매개변수 바인딩 테스트 클래스
+ *
+ * 데이터베이스 없이 가짜 PreparedStatement로 이름별 위치 계산과 반복된 이름의 바인딩을 테스트합니다.
+ */
+class ParameterBinderTest {
+
+    /** 가짜 PreparedStatement에 설정된 위치별 값 */
+    private final Map<Integer, Object> bound = new TreeMap<>();
+
+    @Test
+    void testRepeatedNamesAreBoundAtEveryPosition() throws SQLException {
+        ParameterBinder.of(fakeStatement(), Query.SEARCH_RECEIVED_EMAILS_BY_KEYWORD)
+                .setString("phrase", "\"예산안\"")
+                .setInt("receiverId", 2)
+                .setString("pattern", "%예산안%");
+
+        assertEquals(7, bound.size(), "모든 '?' 위치가 설정되어야 합니다.");
+        assertEquals("\"예산안\"", bound.get(1));
+        assertEquals("\"예산안\"", bound.get(3));
+        for (int index : new int[]{2, 4, 5}) {
+            assertEquals(2, bound.get(index), "receiverId 위치: " + index);
+        }
+        for (int index : new int[]{6, 7}) {
+            assertEquals("%예산안%", bound.get(index), "pattern 위치: " + index);
+        }
+    }
+
+    @Test
+    void testNamedParametersAreReplacedAtBuildTime() {
+        String sql = Query.GET_RECEIVED_EMAILS_OLDER_PAGE.sql();
+
+        assertFalse(sql.contains(":cursorEmailId"), "이름 있는 매개변수는 '?'로 바뀌어야 합니다.");
+        assertEquals(3, sql.chars().filter(c -> c == '?').count());
+        assertArrayEquals(new int[]{1}, Query.GET_RECEIVED_EMAILS_OLDER_PAGE.parameterIndexes("receiverId"));
+        assertArrayEquals(new int[]{2}, Query.GET_RECEIVED_EMAILS_OLDER_PAGE.parameterIndexes("cursorEmailId"));
+        assertArrayEquals(new int[]{3}, Query.GET_RECEIVED_EMAILS_OLDER_PAGE.parameterIndexes("limit"));
+    }
+
+    @Test
+    void testTimestampBinding() throws SQLException {
+        Timestamp cursor = Timestamp.valueOf("2025-01-01 09:00:00");
+        ParameterBinder.of(fakeStatement(), Query.GET_SENT_EMAILS_NEWER_PAGE)
+                .setInt("senderId", 1)
+                .setTimestamp("cursorDate", cursor)
+                .setInt("cursorEmailId", 10)
+                .setInt("limit", 20);
+
+        assertEquals(Map.of(1, 1, 2, cursor, 3, cursor, 4, 10, 5, 20), bound);
+    }
+
+    @Test
+    void testUnknownNameIsRejected() {
+        ParameterBinder binder = ParameterBinder.of(fakeStatement(), Query.UPDATE_NICKNAME);
+
+        assertThrows(IllegalArgumentException.class, () -> binder.setString("nick", "새 닉네임"),
+                "쿼리에 없는 매개변수는 거부되어야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> Query.GET_EMAIL_BY_ID.parameterIndexes("emailId"),
+                "위치 매개변수('?')만 사용하는 쿼리는 이름으로 설정할 수 없습니다.");
+    }
+
+    /**
+     * 설정된 매개변수를 기록하는 가짜 PreparedStatement 생성
+     */
+    private PreparedStatement fakeStatement() {
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    if (method.getName().startsWith("set")) {
+                        bound.put((Integer) args[0], args[1]);
+                    }
+                    return null;
+                });
+    }
+}
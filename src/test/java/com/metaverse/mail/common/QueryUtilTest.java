@@ -0,0 +1,37 @@
+package com.metaverse.mail.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QueryUtil 쿼리 조회 테스트 클래스
+ *
+ * 데이터베이스 없이 빌드 시 생성된 Query enum의 SQL과 쿼리 ID 조회를 테스트합니다.
+ */
+class QueryUtilTest {
+
+    @Test
+    void testGetQueryById() {
+        assertEquals(Query.GET_EMAIL_BY_ID.sql(), QueryUtil.getQuery("getEmailById"));
+        assertSame(Query.MARK_AS_READ, Query.byId("markAsRead"));
+        assertEquals("SELECT LAST_INSERT_ID()", Query.GET_LAST_INSERT_ID.sql());
+    }
+
+    @Test
+    void testSqlIsTrimmed() {
+        for (Query query : Query.values()) {
+            String sql = query.sql();
+            assertFalse(sql.isEmpty(), "비어 있는 쿼리가 없어야 합니다: " + query.id());
+            assertEquals(sql.trim(), sql, "앞뒤 공백이 제거되어야 합니다: " + query.id());
+            assertFalse(sql.contains("<!--"), "주석은 SQL에 포함되지 않아야 합니다: " + query.id());
+            assertFalse(sql.contains("\n "), "들여쓰기가 제거되어야 합니다: " + query.id());
+        }
+    }
+
+    @Test
+    void testUnknownQueryIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> QueryUtil.getQuery("noSuchQuery"),
+                "정의되지 않은 쿼리 ID는 거부되어야 합니다.");
+    }
+}
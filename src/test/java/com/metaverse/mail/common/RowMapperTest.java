@@ -0,0 +1,170 @@
+package com.metaverse.mail.common;
+
+import com.metaverse.mail.dao.impl.RowMappers;
+import com.metaverse.mail.dto.mail.ReceivedEmailDto;
+import com.metaverse.mail.model.EmailLink;
+import com.metaverse.mail.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RowMapper 행 변환 테스트 클래스
+ *
+ * 데이터베이스 없이 가짜 ResultSet으로 컬럼 위치 계산 횟수, 인덱스 조회, NULL 처리를 테스트합니다.
+ */
+class RowMapperTest {
+
+    private static final String[] LINK_COLUMNS = {"link_idx", "receiver_id", "email_idx", "is_readed", "is_deleted"};
+
+    @Test
+    void testResolveColumnsOncePerResultSet() throws SQLException {
+        FakeResultSet result = new FakeResultSet(LINK_COLUMNS,
+                new Object[]{1, 2, 10, "Y", "N"},
+                new Object[]{2, 2, 11, "N", "N"},
+                new Object[]{3, 2, 12, "N", "Y"});
+
+        List<EmailLink> links = RowMappers.EMAIL_LINK.mapAll(result.proxy);
+
+        assertEquals(3, links.size());
+        assertEquals(1, result.metaDataCount, "컬럼 위치는 결과마다 한 번만 계산해야 합니다.");
+        assertEquals(0, result.labelReadCount, "행을 읽을 때 컬럼 이름으로 조회하면 안 됩니다.");
+
+        EmailLink last = links.get(2);
+        assertEquals(3, last.getLinkIdx());
+        assertEquals(2, last.getReceiverId());
+        assertEquals(12, last.getEmailIdx());
+        assertEquals('N', last.getIsReaded());
+        assertEquals('Y', last.getIsDeleted());
+    }
+
+    @Test
+    void testColumnOrderAndCaseIndependent() throws SQLException {
+        FakeResultSet result = new FakeResultSet(
+                new String[]{"IS_DELETED", "EMAIL_IDX", "IS_READED", "RECEIVER_ID", "LINK_IDX"},
+                new Object[]{"N", 10, "Y", 2, 7});
+
+        EmailLink link = RowMappers.EMAIL_LINK.mapFirst(result.proxy);
+
+        assertEquals(7, link.getLinkIdx());
+        assertEquals(2, link.getReceiverId());
+        assertEquals(10, link.getEmailIdx());
+        assertEquals('Y', link.getIsReaded());
+    }
+
+    @Test
+    void testConstructorMapperResolvesColumnsOnce() throws SQLException {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 2, 14, 0);
+        FakeResultSet result = new FakeResultSet(
+                new String[]{"link_idx", "email_idx", "is_readed", "title", "snippet", "created_at", "sender_name", "sender_email"},
+                new Object[]{5, 20, "Y", "회의 안내", "내일 10시", Timestamp.valueOf(createdAt), "김철수", "kim@example.com"},
+                new Object[]{6, 21, "N", "점심", "12시", null, "이영희", "lee@example.com"});
+
+        List<ReceivedEmailDto> emails = RowMappers.RECEIVED_EMAIL.mapAll(result.proxy);
+
+        assertEquals(2, emails.size());
+        assertEquals(1, result.metaDataCount, "컬럼 위치는 결과마다 한 번만 계산해야 합니다.");
+        assertEquals(0, result.labelReadCount, "행을 읽을 때 컬럼 이름으로 조회하면 안 됩니다.");
+
+        ReceivedEmailDto first = emails.get(0);
+        assertEquals(20, first.getEmailId());
+        assertEquals(5, first.getLinkId());
+        assertEquals("김철수", first.getSenderName());
+        assertEquals("kim@example.com", first.getSenderEmail());
+        assertEquals("회의 안내", first.getTitle());
+        assertEquals("내일 10시", first.getSnippet());
+        assertTrue(first.isRead());
+        assertEquals(createdAt, first.getSentDate());
+
+        assertFalse(emails.get(1).isRead());
+        assertNull(emails.get(1).getSentDate());
+    }
+
+    @Test
+    void testNullValues() throws SQLException {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 9, 30);
+        FakeResultSet result = new FakeResultSet(
+                new String[]{"idx", "email_id", "email_pwd", "nickname", "status", "created_at", "updated_at", "deleted_at"},
+                new Object[]{1, "kim@example.com", "hash", "김철수", null, Timestamp.valueOf(createdAt), null, null});
+
+        User user = RowMappers.USER.mapFirst(result.proxy);
+
+        assertEquals("kim@example.com", user.getEmailId());
+        assertEquals('A', user.getStatus(), "NULL 상태는 기본값으로 설정해야 합니다.");
+        assertEquals(createdAt, user.getCreatedAt());
+        assertNull(user.getDeletedAt());
+    }
+
+    @Test
+    void testEmptyAndMissingColumn() throws SQLException {
+        assertTrue(RowMappers.EMAIL_LINK.mapAll(new FakeResultSet(LINK_COLUMNS).proxy).isEmpty());
+        assertNull(RowMappers.EMAIL_LINK.mapFirst(new FakeResultSet(LINK_COLUMNS).proxy));
+
+        FakeResultSet result = new FakeResultSet(new String[]{"link_idx", "receiver_id"}, new Object[]{1, 2});
+        assertThrows(SQLException.class, () -> RowMappers.EMAIL_LINK.mapAll(result.proxy),
+                "연결한 컬럼이 결과에 없으면 예외가 발생해야 합니다.");
+    }
+
+    /**
+     * 메타데이터 조회와 컬럼 이름 조회 횟수를 기록하는 가짜 ResultSet
+     */
+    private static class FakeResultSet {
+        private final String[] labels;
+        private final Object[][] rows;
+        private final ResultSet proxy;
+        private int row = -1;
+        private int metaDataCount;
+        private int labelReadCount;
+
+        private FakeResultSet(String[] labels, Object[]... rows) {
+            this.labels = labels;
+            this.rows = rows;
+            this.proxy = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (p, method, args) -> {
+                        switch (method.getName()) {
+                            case "next":
+                                return ++row < this.rows.length;
+                            case "getMetaData":
+                                metaDataCount++;
+                                return metaData();
+                            case "getInt":
+                            case "getString":
+                            case "getTimestamp":
+                                if (args[0] instanceof String) {
+                                    labelReadCount++;
+                                    throw new SQLException("이름으로 조회: " + args[0]);
+                                }
+                                Object value = this.rows[row][(Integer) args[0] - 1];
+                                if (method.getName().equals("getInt")) {
+                                    return value != null ? value : 0;
+                                }
+                                return value;
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        private ResultSetMetaData metaData() {
+            return (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{ResultSetMetaData.class}, (p, method, args) -> {
+                        switch (method.getName()) {
+                            case "getColumnCount":
+                                return labels.length;
+                            case "getColumnLabel":
+                                return labels[(Integer) args[0] - 1];
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.metaverse.mail.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StatementCache PreparedStatement 캐시 테스트 클래스
+ *
+ * 데이터베이스 없이 가짜 연결로 재사용, 반환 시 초기화, LRU 제거, 중첩 사용을 테스트합니다.
+ */
+class StatementCacheTest {
+
+    /** 가짜 연결이 만든 PreparedStatement 목록 */
+    private final List<FakeStatement> prepared = new ArrayList<>();
+
+    /** 가짜 연결의 닫힘 여부 */
+    private boolean connectionClosed;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() {
+        StatementCache.setCacheSize(2);
+        StatementCache.resetStatistics();
+        connection = fakeConnection();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StatementCache.setCacheSize(64);
+    }
+
+    @Test
+    void testReuseStatement() throws SQLException {
+        try (PreparedStatement ps = StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID)) {
+            ps.setInt(1, 1);
+        }
+        try (PreparedStatement ps = StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID)) {
+            ps.setInt(1, 2);
+        }
+
+        assertEquals(1, prepared.size(), "같은 쿼리는 한 번만 준비되어야 합니다.");
+        assertEquals(1, StatementCache.getHitCount());
+        assertEquals(1, StatementCache.getMissCount());
+
+        FakeStatement statement = prepared.get(0);
+        assertFalse(statement.closed, "close()는 실제로 닫지 않고 캐시로 반환해야 합니다.");
+        assertEquals(2, statement.clearParametersCount, "반환할 때마다 파라미터를 초기화해야 합니다.");
+        assertEquals(Query.GET_EMAIL_BY_ID.sql(), statement.sql, "queries.xml의 쿼리로 준비해야 합니다.");
+    }
+
+    @Test
+    void testEvictLeastRecentlyUsed() throws SQLException {
+        StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID).close();
+        StatementCache.prepare(connection, Query.MARK_AS_READ).close();
+        StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID).close(); // markAsRead가 가장 오래 사용하지 않은 항목이 됨
+        StatementCache.prepare(connection, Query.GET_LINK_BY_ID).close();
+
+        assertEquals(3, prepared.size());
+        assertEquals(1, StatementCache.getEvictionCount());
+        assertFalse(prepared.get(0).closed, "최근 사용한 PreparedStatement는 유지되어야 합니다.");
+        assertTrue(prepared.get(1).closed, "가장 오래 사용하지 않은 PreparedStatement는 닫혀야 합니다.");
+
+        StatementCache.prepare(connection, Query.MARK_AS_READ).close();
+        assertEquals(4, prepared.size(), "밀려난 쿼리는 다시 준비되어야 합니다.");
+    }
+
+    @Test
+    void testNestedUseGetsSeparateStatement() throws SQLException {
+        try (PreparedStatement outer = StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID)) {
+            try (PreparedStatement inner = StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID)) {
+                assertNotSame(outer, inner);
+                assertEquals(2, prepared.size(), "사용 중인 쿼리는 별도의 PreparedStatement를 받아야 합니다.");
+            }
+            assertTrue(prepared.get(1).closed, "캐시하지 않은 PreparedStatement는 실제로 닫혀야 합니다.");
+            assertFalse(outer.isClosed());
+        }
+
+        StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID).close();
+        assertEquals(2, prepared.size(), "반환된 PreparedStatement는 다시 재사용되어야 합니다.");
+    }
+
+    @Test
+    void testCloseTwiceReleasesOnce() throws SQLException {
+        PreparedStatement first = StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID);
+        first.close();
+        PreparedStatement second = StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID);
+        first.close(); // 이미 반환된 PreparedStatement를 다시 닫아도 second 사용에 영향이 없어야 함
+
+        assertTrue(first.isClosed());
+        assertThrows(SQLException.class, () -> first.setInt(1, 1), "반환된 PreparedStatement는 사용할 수 없어야 합니다.");
+        second.setInt(1, 1);
+
+        StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID).close();
+        assertEquals(2, prepared.size(), "second가 사용 중이므로 새로 준비해야 합니다.");
+        second.close();
+    }
+
+    @Test
+    void testResultSetClosedOnRelease() throws SQLException {
+        PreparedStatement ps = StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID);
+        ResultSet rs = ps.executeQuery();
+        ps.close();
+
+        assertTrue(rs.isClosed(), "PreparedStatement를 반환하면 열린 ResultSet은 닫혀야 합니다.");
+    }
+
+    @Test
+    void testClosedConnectionIsPruned() throws SQLException {
+        StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID).close();
+        assertEquals(1, StatementCache.getConnectionCount());
+
+        connectionClosed = true; // 풀이 실제 연결을 닫음
+        StatementCache.pruneClosedConnections();
+
+        assertEquals(0, StatementCache.getConnectionCount(), "닫힌 연결의 캐시는 제거되어야 합니다.");
+        assertTrue(prepared.get(0).closed, "닫힌 연결의 PreparedStatement는 닫혀야 합니다.");
+    }
+
+    @Test
+    void testDisabled() throws SQLException {
+        StatementCache.setEnabled(false);
+        StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID).close();
+        StatementCache.prepare(connection, Query.GET_EMAIL_BY_ID).close();
+
+        assertEquals(2, prepared.size(), "캐시를 사용하지 않으면 매번 준비해야 합니다.");
+        assertTrue(prepared.get(0).closed);
+    }
+
+    /**
+     * prepareStatement 호출을 기록하는 가짜 연결 생성
+     */
+    private Connection fakeConnection() {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "prepareStatement":
+                            FakeStatement statement = new FakeStatement((String) args[0]);
+                            prepared.add(statement);
+                            return statement.proxy;
+                        case "isWrapperFor":
+                            return false;
+                        case "isClosed":
+                            return connectionClosed;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * 닫기와 파라미터 초기화 호출을 기록하는 가짜 PreparedStatement
+     */
+    private static class FakeStatement {
+        private final String sql;
+        private final PreparedStatement proxy;
+        private boolean closed;
+        private int clearParametersCount;
+
+        private FakeStatement(String sql) {
+            this.sql = sql;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (p, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                closed = true;
+                                return null;
+                            case "isClosed":
+                                return closed;
+                            case "clearParameters":
+                                clearParametersCount++;
+                                return null;
+                            case "executeQuery":
+                                return fakeResultSet();
+                            case "hashCode":
+                                return System.identityHashCode(p);
+                            default:
+                                return null;
+                        }
+                    });
+        }
+
+        private ResultSet fakeResultSet() {
+            boolean[] closedResult = {false};
+            return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (p, method, args) -> {
+                        if (method.getName().equals("close")) {
+                            closedResult[0] = true;
+                            return null;
+                        }
+                        if (method.getName().equals("isClosed")) {
+                            return closedResult[0];
+                        }
+                        return null;
+                    });
+        }
+    }
+}
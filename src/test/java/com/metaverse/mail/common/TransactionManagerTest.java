@@ -0,0 +1,91 @@
+package com.metaverse.mail.common;
+
+import com.metaverse.mail.dao.impl.mail.EmailDaoImpl;
+import com.metaverse.mail.dao.interfaces.EmailDao;
+import com.metaverse.mail.model.Email;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TransactionManager 테스트 클래스
+ *
+ * 스레드에 바인딩된 연결로 DAO가 트랜잭션에 참여하는지 테스트합니다.
+ */
+class TransactionManagerTest {
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        System.out.println("트랜잭션 관리 테스트 시작");
+        connection = JDBCConnection.getConnection();
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        System.out.println("트랜잭션 관리 테스트 종료 및 자원 반납");
+        connection.close();
+        JDBCConnection.close();
+    }
+
+    @Test
+    void testBeginBindsConnection() throws SQLException {
+        assertFalse(TransactionManager.isActive(), "시작 전에는 트랜잭션이 없어야 합니다.");
+        assertSame(connection, TransactionManager.getConnection(connection), "트랜잭션이 없으면 기본 연결을 사용해야 합니다.");
+
+        TransactionManager.begin();
+        try {
+            Connection bound = TransactionManager.getConnection(connection);
+            assertNotSame(connection, bound, "트랜잭션 중에는 바인딩된 연결을 사용해야 합니다.");
+            assertFalse(bound.getAutoCommit(), "트랜잭션 연결은 자동 커밋이 꺼져 있어야 합니다.");
+
+            // 중첩 시작 시 같은 연결에 참여
+            TransactionManager.begin();
+            try {
+                assertSame(bound, TransactionManager.getConnection(connection), "중첩 트랜잭션은 같은 연결을 사용해야 합니다.");
+                TransactionManager.commit();
+            } finally {
+                TransactionManager.end();
+            }
+            assertTrue(TransactionManager.isActive(), "안쪽 트랜잭션 종료 후에도 바깥쪽 트랜잭션은 유지되어야 합니다.");
+
+            TransactionManager.commit();
+        } finally {
+            TransactionManager.end();
+        }
+
+        assertFalse(TransactionManager.isActive(), "종료 후에는 트랜잭션이 없어야 합니다.");
+    }
+
+    @Test
+    void testRollbackDiscardsDaoWrites() throws SQLException {
+        EmailDao emailDao = new EmailDaoImpl(connection);
+
+        Email email = new Email();
+        email.setSenderId(1); // kim@example.com
+        email.setTitle("롤백 테스트 제목");
+        email.setBody("롤백 테스트 내용입니다.");
+        email.setStatus('Y');
+        email.setCreatedAt(LocalDateTime.now());
+
+        int emailId;
+        TransactionManager.begin();
+        try {
+            emailId = emailDao.createEmail(email);
+            assertTrue(emailId > 0, "트랜잭션 안에서 이메일 생성이 성공해야 합니다.");
+            TransactionManager.rollback();
+        } finally {
+            TransactionManager.end();
+        }
+
+        // 롤백된 이메일은 조회되지 않아야 함
+        assertNull(emailDao.getEmailById(emailId), "롤백된 이메일은 저장되지 않아야 합니다.");
+    }
+}
@@ -1,11 +1,13 @@
 package com.metaverse.mail.dao.impl.inbox;
 
 import com.metaverse.mail.common.JDBCConnection;
+import com.metaverse.mail.common.MigrationRunner;
 import com.metaverse.mail.dao.impl.mail.EmailDaoImpl;
 import com.metaverse.mail.dao.impl.user.UserDaoImpl;
 import com.metaverse.mail.dao.interfaces.EmailDao;
 import com.metaverse.mail.dao.interfaces.EmailLinkDao;
 import com.metaverse.mail.dao.interfaces.UserDao;
+import com.metaverse.mail.dto.inbox.MailboxSummaryDto;
 import com.metaverse.mail.model.Email;
 import com.metaverse.mail.model.EmailLink;
 import org.junit.jupiter.api.*;
@@ -30,6 +32,7 @@ class EmailLinkDaoImplTest {
     @BeforeAll
     static void setUpBeforeClass() throws SQLException {
         System.out.println("이메일 링크 DAO 테스트 시작");
+        MigrationRunner.migrate(); // 메일함 개수 테이블 적용
         connection = JDBCConnection.getConnection();
     }
 
@@ -131,4 +134,158 @@ class EmailLinkDaoImplTest {
         assertTrue(foundNewLink, "새로 생성한 이메일 링크가 조회 결과에 포함되어야 함");
     }
 
-}
\ No newline at end of file
+    @Test
+    void testCreateEmailLinks() {
+        // 테스트를 위한 이메일 생성
+        Email email = new Email();
+        email.setSenderId(1); // kim@example.com
+        email.setTitle("일괄 링크 테스트 제목");
+        email.setBody("일괄 링크 테스트 내용입니다.");
+        email.setStatus('Y');
+        email.setCreatedAt(LocalDateTime.now());
+
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailId > 0, "이메일 생성이 성공해야 함");
+
+        // 여러 수신자에게 이메일 링크 일괄 생성
+        int[] receiverIds = {TEST_RECEIVER_ID, 3, 4};
+        boolean linksCreated = emailLinkDao.createEmailLinks(emailId, receiverIds);
+        assertTrue(linksCreated, "이메일 링크 일괄 생성이 성공해야 함");
+
+        // 모든 수신자의 받은 메일함에 링크가 생성되었는지 확인
+        for (int receiverId : receiverIds) {
+            boolean found = false;
+            for (EmailLink link : emailLinkDao.getLinksByReceiverId(receiverId)) {
+                if (link.getEmailIdx() == emailId) {
+                    found = true;
+                    break;
+                }
+            }
+            assertTrue(found, "수신자 " + receiverId + "에게 이메일 링크가 생성되어야 함");
+        }
+    }
+
+    @Test
+    void testCreateEmailLinksWithNoReceivers() {
+        // 수신자가 없으면 실패 반환
+        assertFalse(emailLinkDao.createEmailLinks(1, new int[0]), "수신자가 없으면 실패해야 함");
+    }
+
+    @Test
+    void testFindByReceiverAndEmail() {
+        // 테스트를 위한 이메일 및 링크 생성
+        Email email = new Email();
+        email.setSenderId(1); // kim@example.com
+        email.setTitle("단건 조회 테스트 제목");
+        email.setBody("단건 조회 테스트 내용입니다.");
+        email.setStatus('Y');
+        email.setCreatedAt(LocalDateTime.now());
+
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailId > 0, "이메일 생성이 성공해야 함");
+        assertTrue(emailLinkDao.createEmailLink(emailId, TEST_RECEIVER_ID), "이메일 링크 생성이 성공해야 함");
+
+        // 수신자와 이메일로 링크 조회
+        EmailLink link = emailLinkDao.findByReceiverAndEmail(TEST_RECEIVER_ID, emailId);
+
+        // 결과 검증
+        assertNotNull(link, "생성한 이메일 링크가 조회되어야 함");
+        assertEquals(TEST_RECEIVER_ID, link.getReceiverId(), "수신자 ID가 일치해야 함");
+        assertEquals(emailId, link.getEmailIdx(), "이메일 ID가 일치해야 함");
+
+        // 수신자가 아닌 사용자로 조회하면 null
+        assertNull(emailLinkDao.findByReceiverAndEmail(1, emailId), "수신자가 아니면 조회되지 않아야 함");
+    }
+
+    @Test
+    void testMailboxSummaryCounters() {
+        // 테스트를 위한 이메일 생성
+        Email email = new Email();
+        email.setSenderId(1); // kim@example.com
+        email.setTitle("메일함 개수 테스트 제목");
+        email.setBody("메일함 개수 테스트 내용입니다.");
+        email.setStatus('Y');
+        email.setCreatedAt(LocalDateTime.now());
+
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailId > 0, "이메일 생성이 성공해야 함");
+
+        MailboxSummaryDto before = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+
+        // 수신 시 받은 메일 수와 읽지 않은 메일 수 증가
+        assertTrue(emailLinkDao.createEmailLinks(emailId, new int[]{TEST_RECEIVER_ID}), "이메일 링크 생성이 성공해야 함");
+        MailboxSummaryDto received = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+        assertEquals(before.getTotalCount() + 1, received.getTotalCount());
+        assertEquals(before.getUnreadCount() + 1, received.getUnreadCount());
+
+        // 읽음 처리 시 읽지 않은 메일 수 감소 (두 번째 호출은 변경 없음)
+        EmailLink link = emailLinkDao.findByReceiverAndEmail(TEST_RECEIVER_ID, emailId);
+        assertTrue(emailLinkDao.markAsRead(link.getLinkIdx()), "읽음 처리가 성공해야 함");
+        assertFalse(emailLinkDao.markAsRead(link.getLinkIdx()), "이미 읽은 메일은 변경되지 않아야 함");
+        MailboxSummaryDto read = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+        assertEquals(before.getUnreadCount(), read.getUnreadCount());
+
+        // 삭제 시 받은 메일 수 감소, 휴지통 메일 수 증가
+        assertTrue(emailLinkDao.markAsDeleted(link.getLinkIdx()), "삭제 처리가 성공해야 함");
+        MailboxSummaryDto deleted = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+        assertEquals(before.getTotalCount(), deleted.getTotalCount());
+        assertEquals(before.getTrashCount() + 1, deleted.getTrashCount());
+    }
+
+    @Test
+    void testBulkMarkAsReadAndDeleted() {
+        // 같은 수신자에게 세 통의 이메일 발송
+        int[] linkIds = new int[3];
+        for (int i = 0; i < linkIds.length; i++) {
+            Email email = new Email();
+            email.setSenderId(1); // kim@example.com
+            email.setTitle("일괄 처리 테스트 제목 " + i);
+            email.setBody("일괄 처리 테스트 내용입니다.");
+            email.setStatus('Y');
+
+            int emailId = emailDao.createEmail(email);
+            assertTrue(emailId > 0, "이메일 생성이 성공해야 함");
+            assertTrue(emailLinkDao.createEmailLink(emailId, TEST_RECEIVER_ID), "이메일 링크 생성이 성공해야 함");
+            linkIds[i] = emailLinkDao.findByReceiverAndEmail(TEST_RECEIVER_ID, emailId).getLinkIdx();
+        }
+
+        MailboxSummaryDto before = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+
+        // 다른 사용자의 ID로는 변경되지 않음
+        assertTrue(emailLinkDao.markAsRead(1, linkIds).isEmpty(), "수신자가 아니면 변경되지 않아야 함");
+
+        // 두 통만 읽음 처리 (중복된 ID는 한 번만 처리)
+        List<EmailLink> read = emailLinkDao.markAsRead(TEST_RECEIVER_ID, new int[]{linkIds[0], linkIds[1], linkIds[1]});
+        assertEquals(2, read.size(), "읽지 않은 두 통이 변경되어야 함");
+        assertEquals(before.getUnreadCount() - 2, emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID).getUnreadCount());
+
+        // 세 통 모두 삭제 - 읽지 않은 한 통만큼 읽지 않은 메일 수도 감소
+        List<EmailLink> deleted = emailLinkDao.markAsDeleted(TEST_RECEIVER_ID, linkIds);
+        assertEquals(3, deleted.size(), "세 통 모두 삭제되어야 함");
+        MailboxSummaryDto after = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+        assertEquals(before.getTotalCount() - 3, after.getTotalCount());
+        assertEquals(before.getUnreadCount() - 3, after.getUnreadCount());
+        assertEquals(before.getTrashCount() + 3, after.getTrashCount());
+
+        // 이미 삭제된 메일은 다시 변경되지 않음
+        assertTrue(emailLinkDao.markAsDeleted(TEST_RECEIVER_ID, linkIds).isEmpty(), "이미 삭제된 메일은 변경되지 않아야 함");
+        assertEquals('Y', emailLinkDao.getLinkById(linkIds[2]).getIsDeleted());
+    }
+
+    @Test
+    void testMarkAllAsRead() {
+        Email email = new Email();
+        email.setSenderId(1); // kim@example.com
+        email.setTitle("모두 읽음 테스트 제목");
+        email.setBody("모두 읽음 테스트 내용입니다.");
+        email.setStatus('Y');
+
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailLinkDao.createEmailLink(emailId, TEST_RECEIVER_ID), "이메일 링크 생성이 성공해야 함");
+
+        List<EmailLink> read = emailLinkDao.markAllAsRead(TEST_RECEIVER_ID);
+        assertTrue(read.stream().anyMatch(link -> link.getEmailIdx() == emailId), "새 메일이 읽음 처리되어야 함");
+        assertEquals(0, emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID).getUnreadCount(), "읽지 않은 메일이 없어야 함");
+        assertTrue(emailLinkDao.markAllAsRead(TEST_RECEIVER_ID).isEmpty(), "두 번째 호출은 변경이 없어야 함");
+    }
+}
@@ -0,0 +1,221 @@
+package com.metaverse.mail.dao.impl.inbox;
+
+import com.metaverse.mail.common.JDBCConnection;
+import com.metaverse.mail.common.MigrationRunner;
+import com.metaverse.mail.dao.impl.mail.EmailDaoImpl;
+import com.metaverse.mail.dao.interfaces.EmailDao;
+import com.metaverse.mail.dao.interfaces.EmailLinkDao;
+import com.metaverse.mail.dao.interfaces.TrashDao;
+import com.metaverse.mail.dto.inbox.MailboxSummaryDto;
+import com.metaverse.mail.dto.inbox.TrashPurgeDto;
+import com.metaverse.mail.model.Email;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrashDaoImplTest {
+
+    private static Connection connection;
+    private EmailDao emailDao;
+    private EmailLinkDao emailLinkDao;
+    private TrashDao trashDao;
+
+    private static final int TEST_RECEIVER_ID = 2; // 테스트 데이터의 park@example.com 사용자
+
+    @BeforeAll
+    static void setUpBeforeClass() throws SQLException {
+        System.out.println("휴지통 DAO 테스트 시작");
+        MigrationRunner.migrate(); // 만료일 인덱스, 메일함 개수 테이블 적용
+        connection = JDBCConnection.getConnection();
+    }
+
+    @AfterAll
+    static void tearDownAfterClass() {
+        System.out.println("휴지통 DAO 테스트 종료 및 자원 반납");
+        try {
+            if (connection != null && !connection.isClosed()) {
+                connection.close();
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        JDBCConnection.close();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = JDBCConnection.getConnection();
+        emailDao = new EmailDaoImpl(connection);
+        emailLinkDao = new EmailLinkDaoImpl(connection);
+        trashDao = new TrashDaoImpl(connection);
+    }
+
+    @Test
+    void testDeleteExpiredEmailsInChunks() throws SQLException {
+        // 휴지통으로 옮긴 뒤 보관 기간이 지난 메일 두 통 준비
+        int[] linkIds = new int[2];
+        for (int i = 0; i < linkIds.length; i++) {
+            Email email = new Email();
+            email.setSenderId(1); // kim@example.com
+            email.setTitle("만료 정리 테스트 제목 " + i);
+            email.setBody("만료 정리 테스트 내용입니다.");
+            email.setStatus('Y');
+
+            int emailId = emailDao.createEmail(email);
+            assertTrue(emailLinkDao.createEmailLink(emailId, TEST_RECEIVER_ID), "이메일 링크 생성이 성공해야 함");
+            linkIds[i] = emailLinkDao.findByReceiverAndEmail(TEST_RECEIVER_ID, emailId).getLinkIdx();
+        }
+        assertEquals(2, emailLinkDao.markAsDeleted(TEST_RECEIVER_ID, linkIds).size(), "삭제 처리가 성공해야 함");
+        assertTrue(trashDao.addToTrash(linkIds), "휴지통 추가가 성공해야 함");
+
+        try (PreparedStatement ps = connection.prepareStatement(
+                "UPDATE TRASH SET expiration_date = DATE_SUB(NOW(), INTERVAL 1 DAY) WHERE link_id IN (?, ?)")) {
+            ps.setInt(1, linkIds[0]);
+            ps.setInt(2, linkIds[1]);
+            assertEquals(2, ps.executeUpdate());
+        }
+
+        // 한 건씩 나누어 정리해도 모두 삭제되어야 함
+        TrashPurgeDto result = trashDao.deleteExpiredEmails(1, 0, 0);
+        assertTrue(result.getRemovedCount() >= 2, "만료된 항목이 모두 삭제되어야 함");
+        assertEquals(result.getRemovedCount(), result.getChunkCount(), "한 건씩 묶음으로 나누어 삭제해야 함");
+        assertFalse(result.isFailed());
+        assertNull(emailLinkDao.getLinkById(linkIds[0]), "만료된 링크가 삭제되어야 함");
+        assertNull(emailLinkDao.getLinkById(linkIds[1]), "만료된 링크가 삭제되어야 함");
+
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT COUNT(*) FROM TRASH WHERE link_id IN (?, ?)")) {
+            ps.setInt(1, linkIds[0]);
+            ps.setInt(2, linkIds[1]);
+            try (ResultSet rs = ps.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1), "휴지통 항목도 함께 삭제되어야 함");
+            }
+        }
+
+        // 더 이상 정리할 항목이 없으면 0
+        assertEquals(0, trashDao.deleteExpiredEmails(1, 0, 0).getRemovedCount());
+    }
+
+    @Test
+    void testDeleteExpiredEmailsSkipsRestoredLink() throws SQLException {
+        Email email = new Email();
+        email.setSenderId(1); // kim@example.com
+        email.setTitle("만료 정리 제외 테스트 제목");
+        email.setBody("만료 정리 제외 테스트 내용입니다.");
+        email.setStatus('Y');
+
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailLinkDao.createEmailLink(emailId, TEST_RECEIVER_ID), "이메일 링크 생성이 성공해야 함");
+        int linkId = emailLinkDao.findByReceiverAndEmail(TEST_RECEIVER_ID, emailId).getLinkIdx();
+        assertTrue(trashDao.moveToTrash(TEST_RECEIVER_ID, emailId), "휴지통 이동이 성공해야 함");
+
+        // 휴지통 항목은 만료되었지만 링크는 삭제 상태가 아닌 경우 (삭제 쿼리 조건에 맞지 않음)
+        try (PreparedStatement ps = connection.prepareStatement(
+                "UPDATE TRASH SET expiration_date = DATE_SUB(NOW(), INTERVAL 1 DAY) WHERE link_id = ?")) {
+            ps.setInt(1, linkId);
+            assertEquals(1, ps.executeUpdate());
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+                "UPDATE EMAIL_LINK SET is_deleted = 'N' WHERE link_idx = ?")) {
+            ps.setInt(1, linkId);
+            assertEquals(1, ps.executeUpdate());
+        }
+
+        MailboxSummaryDto before = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+        trashDao.deleteExpiredEmails(100, 0, 0);
+        MailboxSummaryDto after = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+
+        assertNotNull(emailLinkDao.getLinkById(linkId), "삭제 상태가 아닌 링크는 삭제되지 않아야 함");
+        assertEquals(before.getTrashCount(), after.getTrashCount(), "삭제되지 않은 항목만큼 휴지통 메일 수가 줄면 안 됨");
+
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM TRASH WHERE link_id = ?")) {
+            ps.setInt(1, linkId); // 다른 테스트의 만료 정리에 영향을 주지 않도록 정리
+            ps.executeUpdate();
+        }
+    }
+
+    @Test
+    void testMoveToTrash() throws SQLException {
+        Email email = new Email();
+        email.setSenderId(1); // kim@example.com
+        email.setTitle("휴지통 이동 테스트 제목");
+        email.setBody("휴지통 이동 테스트 내용입니다.");
+        email.setStatus('Y');
+
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailLinkDao.createEmailLink(emailId, TEST_RECEIVER_ID), "이메일 링크 생성이 성공해야 함");
+        int linkId = emailLinkDao.findByReceiverAndEmail(TEST_RECEIVER_ID, emailId).getLinkIdx();
+        MailboxSummaryDto before = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+
+        // 수신자가 아니면 이동되지 않음
+        assertFalse(trashDao.moveToTrash(1, emailId), "수신자가 아니면 이동되지 않아야 함");
+
+        assertTrue(trashDao.moveToTrash(TEST_RECEIVER_ID, emailId), "휴지통 이동이 성공해야 함");
+        assertFalse(trashDao.moveToTrash(TEST_RECEIVER_ID, emailId), "이미 삭제된 메일은 다시 이동되지 않아야 함");
+
+        // 링크 상태, 휴지통 항목, 메일함 개수가 함께 반영되어야 함
+        assertEquals('Y', emailLinkDao.getLinkById(linkId).getIsDeleted());
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT COUNT(*) FROM TRASH WHERE link_id = ? AND is_restored = 'N'")) {
+            ps.setInt(1, linkId);
+            try (ResultSet rs = ps.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt(1), "휴지통 항목이 한 번만 추가되어야 함");
+            }
+        }
+
+        MailboxSummaryDto after = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+        assertEquals(before.getTotalCount() - 1, after.getTotalCount());
+        assertEquals(before.getUnreadCount() - 1, after.getUnreadCount());
+        assertEquals(before.getTrashCount() + 1, after.getTrashCount());
+    }
+
+    @Test
+    void testMoveToTrashDuplicateLinks() throws SQLException {
+        Email email = new Email();
+        email.setSenderId(1); // kim@example.com
+        email.setTitle("중복 링크 휴지통 이동 테스트 제목");
+        email.setBody("중복 링크 휴지통 이동 테스트 내용입니다.");
+        email.setStatus('Y');
+
+        // 같은 수신자에게 같은 메일의 링크가 두 개 있는 경우
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailLinkDao.createEmailLink(emailId, TEST_RECEIVER_ID));
+        assertTrue(emailLinkDao.createEmailLink(emailId, TEST_RECEIVER_ID));
+        MailboxSummaryDto before = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+
+        // 한 번에 링크 하나만 휴지통으로 이동하고 메일함 개수도 하나만 변경
+        assertTrue(trashDao.moveToTrash(TEST_RECEIVER_ID, emailId));
+        MailboxSummaryDto afterFirst = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+        assertEquals(before.getTotalCount() - 1, afterFirst.getTotalCount());
+        assertEquals(before.getTrashCount() + 1, afterFirst.getTrashCount());
+
+        assertTrue(trashDao.moveToTrash(TEST_RECEIVER_ID, emailId), "남은 링크도 이동되어야 함");
+        assertFalse(trashDao.moveToTrash(TEST_RECEIVER_ID, emailId));
+
+        // 숨겨진 링크마다 휴지통 항목이 있어야 함
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT COUNT(*), SUM(t.trash_idx IS NOT NULL) FROM EMAIL_LINK el "
+                        + "LEFT JOIN TRASH t ON t.link_id = el.link_idx "
+                        + "WHERE el.receiver_id = ? AND el.email_idx = ? AND el.is_deleted = 'Y'")) {
+            ps.setInt(1, TEST_RECEIVER_ID);
+            ps.setInt(2, emailId);
+            try (ResultSet rs = ps.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals(2, rs.getInt(1));
+                assertEquals(2, rs.getInt(2), "삭제된 링크는 모두 휴지통에 있어야 함");
+            }
+        }
+
+        MailboxSummaryDto after = emailLinkDao.getMailboxSummary(TEST_RECEIVER_ID);
+        assertEquals(before.getTotalCount() - 2, after.getTotalCount());
+        assertEquals(before.getUnreadCount() - 2, after.getUnreadCount());
+        assertEquals(before.getTrashCount() + 2, after.getTrashCount());
+    }
+}
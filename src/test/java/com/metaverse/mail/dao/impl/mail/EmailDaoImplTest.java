@@ -1,18 +1,25 @@
 package com.metaverse.mail.dao.impl.mail;
 
 import com.metaverse.mail.common.JDBCConnection;
+import com.metaverse.mail.common.MigrationRunner;
 import com.metaverse.mail.dao.impl.user.UserDaoImpl;
 import com.metaverse.mail.dao.impl.inbox.EmailLinkDaoImpl;
 import com.metaverse.mail.dao.interfaces.EmailDao;
 import com.metaverse.mail.dao.interfaces.EmailLinkDao;
 import com.metaverse.mail.dao.interfaces.UserDao;
+import com.metaverse.mail.dto.mail.BodyStorageDto;
+import com.metaverse.mail.dto.mail.ReceivedEmailSearchDto;
+import com.metaverse.mail.dto.mail.SentEmailSearchDto;
 import com.metaverse.mail.model.Email;
 import com.metaverse.mail.service.impl.mail.EmailServiceImpl;
 import com.metaverse.mail.service.interfaces.EmailService;
 import org.junit.jupiter.api.*;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
 class EmailDaoImplTest {
@@ -26,6 +33,7 @@ class EmailDaoImplTest {
     @BeforeAll
     static void setUpBeforeClass() throws SQLException {
         System.out.println("이메일 DAO 테스트 시작");
+        MigrationRunner.migrate(); // 검색용 전문 인덱스 적용
         connection = JDBCConnection.getConnection();
     }
 
@@ -99,4 +107,152 @@ class EmailDaoImplTest {
         assertEquals(existingEmailId, email.getEmailIdx(), "이메일 ID가 일치해야 함");
     }
 
-}
\ No newline at end of file
+    @Test
+    void testSearchReceivedEmails() {
+        // 본문에만 검색어가 있는 테스트 이메일 생성 후 park@example.com에게 발송
+        Email email = new Email();
+        email.setSenderId(1); // kim@example.com
+        email.setTitle("검색 테스트 제목");
+        email.setBody("분기별 예산안 검토 회의록입니다.");
+        email.setStatus('Y');
+        email.setCreatedAt(LocalDateTime.now());
+
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailId > 0, "이메일 생성이 성공해야 함");
+        assertTrue(emailLinkDao.createEmailLink(emailId, 2), "이메일 링크 생성이 성공해야 함");
+
+        // 본문 키워드 검색 (전문 인덱스)
+        List<ReceivedEmailSearchDto> results = emailDao.searchReceivedEmails("예산안 검토", 2);
+        assertTrue(results.stream().anyMatch(e -> e.getEmailId() == emailId), "본문 키워드로 검색되어야 함");
+        ReceivedEmailSearchDto found = results.stream().filter(e -> e.getEmailId() == emailId).findFirst().get();
+        assertEquals("김철수", found.getSenderName(), "발신자 이름이 함께 조회되어야 함");
+        assertEquals("kim@example.com", found.getSenderEmail(), "발신자 이메일이 함께 조회되어야 함");
+        assertFalse(found.isRead(), "새 메일은 읽지 않은 상태여야 함");
+
+        // 1글자 키워드 검색 (LIKE)
+        List<ReceivedEmailSearchDto> shortResults = emailDao.searchReceivedEmails("예", 2);
+        assertTrue(shortResults.stream().anyMatch(e -> e.getEmailId() == emailId), "1글자 키워드로도 검색되어야 함");
+
+        // 수신자가 아닌 사용자는 검색되지 않음
+        List<ReceivedEmailSearchDto> otherResults = emailDao.searchReceivedEmails("예산안 검토", 3);
+        assertTrue(otherResults.stream().noneMatch(e -> e.getEmailId() == emailId), "수신자가 아니면 검색되지 않아야 함");
+    }
+
+    @Test
+    void testGetEmailByIdLoadsBodyLazily() {
+        Email email = new Email();
+        email.setSenderId(1);
+        email.setTitle("본문 지연 조회 테스트");
+        email.setBody("첫 줄입니다.\n\n두 번째 줄입니다.");
+        email.setStatus('Y');
+
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailId > 0, "이메일 생성이 성공해야 함");
+
+        // 헤더만 조회되고 미리보기는 줄바꿈이 공백으로 바뀌어 저장되어야 함
+        Email found = emailDao.getEmailById(emailId);
+        assertNotNull(found);
+        assertFalse(found.isBodyLoaded(), "본문은 처음 사용할 때 조회되어야 함");
+        assertEquals("첫 줄입니다. 두 번째 줄입니다.", found.getSnippet());
+
+        // 본문 사용 시 조회
+        assertEquals("첫 줄입니다.\n\n두 번째 줄입니다.", found.getBody());
+        assertTrue(found.isBodyLoaded());
+    }
+
+    @Test
+    void testCreateEmailStoresLargeBodyAsPlainText() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            body.append("분기 실적 보고서 초안입니다. 검토 부탁드립니다. ").append(i).append('\n');
+        }
+        body.append(System.nanoTime()); // 이전 실행에서 저장된 본문과 공유되지 않도록 구분
+
+        Email email = new Email();
+        email.setSenderId(1);
+        email.setTitle("큰 본문 저장 테스트");
+        email.setBody(body.toString());
+        email.setStatus('Y');
+
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailId > 0, "이메일 생성이 성공해야 함");
+        assertEquals(body.toString(), emailDao.getEmailBody(emailId));
+    }
+
+    @Test
+    void testBodyTableIsCompressedByInnoDb() {
+        BodyStorageDto storage = emailDao.getBodyStorage();
+
+        assertEquals("Compressed", storage.getRowFormat(), "본문 테이블은 InnoDB 압축 형식이어야 함");
+        assertTrue(storage.getCreateOptions().toUpperCase().contains("KEY_BLOCK_SIZE=8"));
+    }
+
+    @Test
+    void testCreateEmailSharesIdenticalBody() throws SQLException {
+        String body = "전 직원 공지: 이번 주 금요일은 사내 행사로 오후 3시에 업무를 마칩니다. " + System.nanoTime();
+
+        Email first = new Email();
+        first.setSenderId(1);
+        first.setTitle("공유 본문 테스트 1");
+        first.setBody(body);
+        first.setStatus('Y');
+
+        Email second = new Email();
+        second.setSenderId(2);
+        second.setTitle("공유 본문 테스트 2");
+        second.setBody(body);
+        second.setStatus('Y');
+
+        int firstId = emailDao.createEmail(first);
+        int secondId = emailDao.createEmail(second);
+        assertTrue(firstId > 0 && secondId > 0, "이메일 생성이 성공해야 함");
+
+        // 같은 본문 행을 참조하고 참조 수가 2여야 함
+        String query = "SELECT e.body_idx, b.ref_count FROM EMAIL e JOIN EMAIL_BODY b ON b.body_idx = e.body_idx "
+                + "WHERE e.email_idx IN (?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(query)) {
+            ps.setInt(1, firstId);
+            ps.setInt(2, secondId);
+            try (ResultSet rs = ps.executeQuery()) {
+                assertTrue(rs.next());
+                int bodyId = rs.getInt("body_idx");
+                assertEquals(2, rs.getInt("ref_count"), "참조 수가 증가해야 함");
+                assertTrue(rs.next());
+                assertEquals(bodyId, rs.getInt("body_idx"), "같은 본문을 공유해야 함");
+            }
+        }
+
+        assertEquals(body, emailDao.getEmailBody(secondId));
+    }
+
+    @Test
+    void testSearchSentEmails() {
+        // 두 명에게 보낸 테스트 이메일 생성
+        Email email = new Email();
+        email.setSenderId(1); // kim@example.com
+        email.setTitle("발신 검색 테스트");
+        email.setBody("하반기 채용 계획 공유드립니다.");
+        email.setStatus('Y');
+        email.setCreatedAt(LocalDateTime.now());
+
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailId > 0, "이메일 생성이 성공해야 함");
+        assertTrue(emailLinkDao.createEmailLinks(emailId, new int[]{2, 3}), "이메일 링크 생성이 성공해야 함");
+
+        // 본문 키워드 검색 - 수신자 목록이 하나의 결과로 묶여야 함
+        List<SentEmailSearchDto> results = emailDao.searchSentEmails("채용 계획", 1);
+        List<SentEmailSearchDto> matched = results.stream().filter(e -> e.getEmailId() == emailId).toList();
+        assertEquals(1, matched.size(), "이메일은 한 번만 반환되어야 함");
+        assertEquals(List.of("park@example.com", "lee@example.com"), matched.get(0).getReceiverEmails(), "수신자 목록이 함께 조회되어야 함");
+        assertEquals("박영희 외 1명", matched.get(0).getRepresentativeReceiverName());
+
+        // 수신자 이름으로 검색해도 전체 수신자 목록이 반환되어야 함
+        List<SentEmailSearchDto> byReceiver = emailDao.searchSentEmails("이민수", 1);
+        assertTrue(byReceiver.stream().anyMatch(e -> e.getEmailId() == emailId && e.getReceiverNames().size() == 2),
+                "수신자 이름으로 검색되어야 함");
+
+        // 발신자가 아닌 사용자는 검색되지 않음
+        List<SentEmailSearchDto> otherResults = emailDao.searchSentEmails("채용 계획", 2);
+        assertTrue(otherResults.stream().noneMatch(e -> e.getEmailId() == emailId), "발신자가 아니면 검색되지 않아야 함");
+    }
+}
@@ -0,0 +1,89 @@
+package com.metaverse.mail.search;
+
+import com.metaverse.mail.dto.mail.ReceivedEmailSearchDto;
+import com.metaverse.mail.model.Email;
+import com.metaverse.mail.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MailSearchIndex 테스트 클래스
+ *
+ * 데이터베이스 없이 색인, 검색, 메일함 반영 기능을 테스트합니다.
+ */
+class MailSearchIndexTest {
+
+    private MailSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new MailSearchIndex();
+        User kim = new User(1, "kim@example.com", "password1234", "김철수", 'A');
+
+        // 박영희(2)와 이민수(3)에게 보낸 메일, 박영희(2)에게만 보낸 메일
+        searchIndex.indexEmail(createEmail(10, "회의 일정 공지", "다음 주 월요일 오전 10시에 회의가 있습니다.",
+                LocalDateTime.of(2024, 3, 24, 10, 0)), kim, new int[]{2, 3});
+        searchIndex.indexEmail(createEmail(11, "점심 메뉴", "오늘 점심은 회사 근처 식당입니다.",
+                LocalDateTime.of(2024, 3, 25, 12, 0)), kim, new int[]{2});
+    }
+
+    @Test
+    void testTokenize() {
+        Set<String> tokens = BigramTokenizer.tokenize("회의일정을 Kim");
+
+        assertEquals(Set.of("회의", "의일", "일정", "정을", "ki", "im"), tokens, "단어별 bigram으로 나누어야 합니다.");
+        assertEquals(Set.of("a"), BigramTokenizer.tokenize("a"), "한 글자 단어는 그대로 토큰이 되어야 합니다.");
+    }
+
+    @Test
+    void testPostingListKeepsOrder() {
+        PostingList list = new PostingList();
+        list.add(5);
+        list.add(20);
+        list.add(12); // 순서가 맞지 않는 ID
+        list.add(20); // 중복 ID
+
+        assertArrayEquals(new int[]{5, 12, 20}, list.toArray(), "오름차순으로 중복 없이 복원되어야 합니다.");
+    }
+
+    @Test
+    void testSearchReceived() {
+        List<ReceivedEmailSearchDto> results = searchIndex.searchReceived(2, "회의");
+
+        assertEquals(1, results.size(), "키워드를 포함한 메일만 검색되어야 합니다.");
+        assertEquals(10, results.get(0).getEmailId());
+        assertEquals("김철수", results.get(0).getSenderName(), "발신자 이름이 포함되어야 합니다.");
+        assertFalse(results.get(0).isRead(), "읽지 않은 메일이어야 합니다.");
+
+        // 발신자 이름, 한 글자 키워드 검색 (최신순)
+        List<ReceivedEmailSearchDto> bySender = searchIndex.searchReceived(2, "김철수");
+        assertEquals(2, bySender.size(), "발신자 이름으로 검색되어야 합니다.");
+        assertEquals(11, bySender.get(0).getEmailId(), "최신 메일이 먼저 나와야 합니다.");
+        assertEquals(2, searchIndex.searchReceived(2, "회").size(), "한 글자 키워드로도 검색되어야 합니다.");
+
+        // 받지 않은 메일은 검색되지 않음
+        assertTrue(searchIndex.searchReceived(3, "점심").isEmpty(), "수신자가 아니면 검색되지 않아야 합니다.");
+    }
+
+    @Test
+    void testMarkReadAndRemove() {
+        searchIndex.markRead(2, 10);
+        assertTrue(searchIndex.searchReceived(2, "회의").get(0).isRead(), "읽음 상태가 반영되어야 합니다.");
+
+        searchIndex.removeFromMailbox(2, 10);
+        assertTrue(searchIndex.searchReceived(2, "회의").isEmpty(), "삭제한 메일은 검색되지 않아야 합니다.");
+        assertEquals(1, searchIndex.searchReceived(3, "회의").size(), "다른 수신자의 메일함은 유지되어야 합니다.");
+    }
+
+    private Email createEmail(int emailId, String title, String body, LocalDateTime createdAt) {
+        Email email = new Email(emailId, 1, title, body, 'Y');
+        email.setCreatedAt(createdAt);
+        return email;
+    }
+}
@@ -9,6 +9,9 @@ import com.metaverse.mail.dao.interfaces.EmailDao;
 import com.metaverse.mail.dao.interfaces.EmailLinkDao;
 import com.metaverse.mail.dao.interfaces.TrashDao;
 import com.metaverse.mail.dao.interfaces.UserDao;
+import com.metaverse.mail.dto.inbox.SentEmailDto;
+import com.metaverse.mail.dto.inbox.SentEmailPageDto;
+import com.metaverse.mail.model.Email;
 import com.metaverse.mail.model.EmailLink;
 import com.metaverse.mail.service.interfaces.InboxService;
 import org.junit.jupiter.api.*;
@@ -213,4 +216,40 @@ class InboxServiceImplTest {
         assertFalse(result, "존재하지 않는 이메일 삭제는 실패해야 함");
     }
 
+    @Test
+    void testGetSentEmailsPage() {
+        // kim@example.com이 두 명에게 보낸 새 이메일 (가장 최근 메일이 됨)
+        Email email = new Email();
+        email.setSenderId(1);
+        email.setTitle("보낸 메일함 테스트");
+        email.setBody("보낸 메일함 페이지 테스트 본문");
+        email.setStatus('Y');
+        int emailId = emailDao.createEmail(email);
+        assertTrue(emailId > 0, "이메일 생성이 성공해야 함");
+        assertTrue(emailLinkDao.createEmailLinks(emailId, new int[]{2, 3}), "이메일 링크 생성이 성공해야 함");
+
+        // 첫 페이지 - 본문 없이 수신자 목록이 채워져야 함
+        SentEmailPageDto page = inboxService.getSentEmailsPage(1, 2);
+        assertFalse(page.hasPrevious(), "첫 페이지에는 이전 페이지가 없어야 함");
+        SentEmailDto first = page.getFirst();
+        assertNotNull(first, "보낸 메일이 조회되어야 함");
+        assertEquals(emailId, first.getEmailId(), "가장 최근에 보낸 메일이 첫 번째여야 함");
+        assertEquals(List.of("park@example.com", "lee@example.com"), first.getReceiverEmails(), "수신자 목록이 함께 조회되어야 함");
+        assertNull(first.getBody(), "목록에서는 본문을 조회하지 않아야 함");
+
+        // 다음 페이지에는 첫 페이지의 메일이 다시 나오지 않아야 함
+        if (page.hasNext()) {
+            SentEmailPageDto next = inboxService.getNextSentEmailsPage(1, page, 2);
+            assertTrue(next.hasPrevious(), "다음 페이지에는 이전 페이지가 있어야 함");
+            assertTrue(next.getEmails().stream().noneMatch(e -> e.getEmailId() == emailId), "페이지가 겹치지 않아야 함");
+        }
+
+        // 상세 보기 - 본문 포함, 발신자 본인만 조회 가능
+        SentEmailDto detail = inboxService.getSentEmailDetails(emailId, 1);
+        assertNotNull(detail, "발신자는 상세 정보를 조회할 수 있어야 함");
+        assertEquals("보낸 메일함 페이지 테스트 본문", detail.getBody());
+        assertEquals(2, detail.getReceiverNames().size());
+        assertNull(inboxService.getSentEmailDetails(emailId, TEST_USER_ID), "발신자가 아니면 조회할 수 없어야 함");
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.metaverse.mail.service.impl.inbox;
+
+import com.metaverse.mail.dto.inbox.TrashEmailDto;
+import com.metaverse.mail.dto.inbox.TrashPurgeDto;
+import com.metaverse.mail.service.interfaces.TrashService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TrashJanitor 휴지통 정리 스케줄러 테스트 클래스
+ *
+ * 데이터베이스 대신 삭제 건수를 돌려주는 휴지통 서비스로 실행 통계와 주기 실행을 테스트합니다.
+ */
+class TrashJanitorTest {
+
+    @Test
+    void testRunOnceRecordsStatistics() {
+        StubTrashService trashService = new StubTrashService(7);
+        TrashJanitor janitor = new TrashJanitor(trashService, 60_000, 0, 1_500);
+
+        assertNull(janitor.getLastRunAt(), "실행 전에는 마지막 실행 시각이 없어야 합니다.");
+        assertEquals(7, janitor.runOnce());
+        assertEquals(7, janitor.runOnce());
+
+        assertEquals(2, janitor.getRunCount());
+        assertEquals(7, janitor.getLastRemovedCount());
+        assertEquals(14, janitor.getTotalRemovedCount());
+        assertNotNull(janitor.getLastRunAt());
+        assertEquals(1_500, trashService.lastMaxRuntimeMillis.get(), "최대 실행 시간이 전달되어야 합니다.");
+        janitor.stop();
+    }
+
+    @Test
+    void testFailureDoesNotStopJanitor() {
+        TrashJanitor janitor = new TrashJanitor(new StubTrashService(-1), 60_000, 0, 0);
+
+        assertEquals(0, janitor.runOnce());
+        assertEquals(1, janitor.getFailureCount());
+        assertEquals(1, janitor.getRunCount(), "실패한 실행도 횟수에 포함되어야 합니다.");
+        janitor.stop();
+    }
+
+    @Test
+    void testRunOnceRecordsChunkStatistics() {
+        StubTrashService trashService = new StubTrashService(5);
+        trashService.timedOut = true;
+        TrashJanitor janitor = new TrashJanitor(trashService, 60_000, 0, 0);
+
+        assertEquals(10, janitor.runOnce());
+        assertEquals(2, janitor.getLastChunkCount());
+        assertEquals(3, janitor.getLastSlowestChunkMillis());
+        assertEquals(1, janitor.getTimedOutCount());
+        assertEquals(0, janitor.getFailureCount());
+        janitor.stop();
+    }
+
+    @Test
+    void testFailedChunkCountsAsFailure() {
+        StubTrashService trashService = new StubTrashService(5);
+        trashService.failed = true;
+        TrashJanitor janitor = new TrashJanitor(trashService, 60_000, 0, 0);
+
+        assertEquals(10, janitor.runOnce(), "실패 전에 커밋한 묶음은 삭제 건수에 포함되어야 합니다.");
+        assertEquals(1, janitor.getFailureCount());
+        janitor.stop();
+    }
+
+    @Test
+    void testScheduledRunsRepeat() throws InterruptedException {
+        StubTrashService trashService = new StubTrashService(1);
+        TrashJanitor janitor = new TrashJanitor(trashService, 10, 5, 0);
+
+        janitor.start();
+        janitor.start(); // 두 번 시작해도 한 번만 예약되어야 함
+        assertTrue(trashService.calls.await(5, TimeUnit.SECONDS), "주기적으로 정리가 실행되어야 합니다.");
+        janitor.stop();
+
+        assertTrue(janitor.getRunCount() >= 3);
+        long runs = janitor.getRunCount();
+        Thread.sleep(50);
+        assertEquals(runs, janitor.getRunCount(), "중지 후에는 실행되지 않아야 합니다.");
+    }
+
+    /**
+     * 정해진 삭제 건수를 돌려주는 휴지통 서비스 (음수이면 예외 발생)
+     */
+    private static class StubTrashService implements TrashService {
+        private final int removed;
+        private final CountDownLatch calls = new CountDownLatch(3);
+        private final AtomicLong lastMaxRuntimeMillis = new AtomicLong();
+        private boolean timedOut;
+        private boolean failed;
+
+        StubTrashService(int removed) {
+            this.removed = removed;
+        }
+
+        @Override
+        public List<TrashEmailDto> getTrashEmails(int userId) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public TrashEmailDto getTrashEmailDetails(int trashId) {
+            return null;
+        }
+
+        @Override
+        public boolean restoreEmail(int trashId) {
+            return false;
+        }
+
+        @Override
+        public boolean permanentlyDeleteEmail(int trashId) {
+            return false;
+        }
+
+        @Override
+        public int cleanupExpiredEmails() {
+            return cleanupExpiredEmails(0).getRemovedCount();
+        }
+
+        @Override
+        public TrashPurgeDto cleanupExpiredEmails(long maxRuntimeMillis) {
+            lastMaxRuntimeMillis.set(maxRuntimeMillis);
+            calls.countDown();
+            if (removed < 0) {
+                throw new IllegalStateException("정리 실패 테스트");
+            }
+            TrashPurgeDto result = new TrashPurgeDto();
+            if (removed > 0) {
+                result.addChunk(removed, 1);
+            }
+            if (timedOut || failed) {
+                result.addChunk(removed, 3); // 두 번째 묶음 후 시간 초과 또는 오류
+            }
+            result.setTimedOut(timedOut);
+            result.setFailed(failed);
+            return result;
+        }
+    }
+}
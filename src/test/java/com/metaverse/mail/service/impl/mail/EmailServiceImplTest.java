@@ -7,8 +7,10 @@ import com.metaverse.mail.dao.impl.user.UserDaoImpl;
 import com.metaverse.mail.dao.interfaces.EmailDao;
 import com.metaverse.mail.dao.interfaces.EmailLinkDao;
 import com.metaverse.mail.dao.interfaces.UserDao;
+import com.metaverse.mail.dto.mail.EmailComposeDto;
 import com.metaverse.mail.dto.mail.ReceivedEmailDto;
 import com.metaverse.mail.model.EmailLink;
+import com.metaverse.mail.model.User;
 import com.metaverse.mail.service.interfaces.EmailService;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -17,6 +19,8 @@ import org.junit.jupiter.api.Test;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -119,4 +123,48 @@ class EmailServiceImplTest {
         assertNotNull(updatedLink, "업데이트된 링크는 null이 아니어야 합니다.");
         assertEquals('Y', updatedLink.getIsReaded(), "이메일이 읽음 상태로 변경되어야 합니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSendEmail_InvalidReceivers() {
+        // 존재하지 않는 주소와 탈퇴한 사용자가 섞인 수신자 목록
+        EmailComposeDto emailDto = new EmailComposeDto(
+                Arrays.asList("park@example.com", "nobody@example.com", "inactive@example.com"),
+                "수신자 확인 테스트", "수신자 확인 테스트 내용입니다.");
+
+        // 이메일 발송
+        Map<String, Object> result = emailService.sendEmail(emailDto, 1);
+
+        // 결과 검증 - 유효하지 않은 수신자가 입력 순서대로 보고되어야 함
+        assertFalse((boolean) result.get("success"), "유효하지 않은 수신자가 있으면 발송이 취소되어야 합니다.");
+        assertTrue(result.get("message").toString()
+                        .startsWith("다음 수신자가 유효하지 않습니다: nobody@example.com, inactive@example.com"),
+                "유효하지 않은 수신자 목록이 메시지에 포함되어야 합니다.");
+    }
+
+    @Test
+    void testSendEmail_DuplicateReceivers() {
+        // 같은 수신자의 주소를 대소문자만 바꿔 두 번 입력
+        EmailComposeDto emailDto = new EmailComposeDto(
+                Arrays.asList("park@example.com", "PARK@example.com"),
+                "중복 수신자 테스트", "중복 수신자 테스트 내용입니다.");
+
+        // 이메일 발송
+        Map<String, Object> result = emailService.sendEmail(emailDto, 1);
+
+        // 결과 검증 - 같은 수신자에게는 링크가 하나만 생성되어야 함
+        assertTrue((boolean) result.get("success"), "중복 주소가 있어도 발송되어야 합니다.");
+        assertTrue(result.get("message").toString().contains("1명의 수신자"), "중복 주소는 한 명으로 세어야 합니다.");
+    }
+
+    @Test
+    void testFindByEmailIds_IgnoresCase() {
+        // 대소문자가 다른 주소와 존재하지 않는 주소로 일괄 조회
+        Map<String, User> users =
+                userDao.findByEmailIds(Arrays.asList("Kim@Example.com", "park@example.com", "nobody@example.com"));
+
+        // 결과 검증
+        assertEquals(2, users.size(), "존재하는 사용자만 조회되어야 합니다.");
+        assertNotNull(users.get("kim@example.com"), "대소문자와 관계없이 조회되어야 합니다.");
+        assertNull(users.get("nobody@example.com"), "존재하지 않는 주소는 포함되지 않아야 합니다.");
+    }
+}